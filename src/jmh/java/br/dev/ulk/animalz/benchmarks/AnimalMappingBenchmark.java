@@ -0,0 +1,31 @@
+package br.dev.ulk.animalz.benchmarks;
+
+import br.dev.ulk.animalz.application.dtos.AnimalDTO;
+import br.dev.ulk.animalz.domain.models.Animal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AnimalMappingBenchmark {
+
+    private Animal animal;
+
+    @Setup
+    public void setUp() {
+        animal = BenchmarkFixtures.animal(42L);
+    }
+
+    @Benchmark
+    public AnimalDTO fromEntity() {
+        return AnimalDTO.fromEntity(animal);
+    }
+}
@@ -0,0 +1,46 @@
+package br.dev.ulk.animalz.benchmarks;
+
+import br.dev.ulk.animalz.domain.projections.AnimalName;
+import br.dev.ulk.animalz.infraestructure.caches.AnimalNameIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AnimalSearchBenchmark {
+
+    private static final String[] GENERA = {"Panthera", "Canis", "Elephas", "Loxodonta", "Ursus", "Felis", "Equus", "Bos"};
+
+    @Param({"1000000"})
+    private int size;
+
+    private AnimalNameIndex animalNameIndex;
+    private String[] prefixes;
+
+    @Setup
+    public void setUp() {
+        animalNameIndex = new AnimalNameIndex();
+        animalNameIndex.load(() -> LongStream.rangeClosed(1, size)
+                .mapToObj(id -> new AnimalName(id, GENERA[(int) (id % GENERA.length)] + " species" + id, "Animal " + id)));
+
+        prefixes = new String[]{"pan", "canis species12", "animal 99", "ursus species4242", "zebra"};
+    }
+
+    @Benchmark
+    public List<AnimalName> search() {
+        String prefix = prefixes[ThreadLocalRandom.current().nextInt(prefixes.length)];
+        return animalNameIndex.search(prefix, 10);
+    }
+}
@@ -0,0 +1,65 @@
+package br.dev.ulk.animalz.benchmarks;
+
+import br.dev.ulk.animalz.application.dtos.AnimalBatchResultDTO;
+import br.dev.ulk.animalz.application.dtos.AnimalDTO;
+import br.dev.ulk.animalz.application.dtos.GroupDTO;
+import br.dev.ulk.animalz.infraestructure.services.AnimalService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BatchInsertBenchmark {
+
+    private static final int ROWS = 500;
+
+    private ConfigurableApplicationContext context;
+    private AnimalService animalService;
+    private List<AnimalDTO> animals;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkFixtures.startApplication("benchmark_batch_insert");
+        animalService = context.getBean(AnimalService.class);
+        animals = Collections.nCopies(ROWS, AnimalDTO.builder()
+                .scientificName("Panthera leo")
+                .specie("Lion")
+                .size(1.8)
+                .mass(190.5)
+                .group(GroupDTO.builder().id(5L).build())
+                .build());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<AnimalBatchResultDTO> batchInsert() {
+        return animalService.createAnimals(animals);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void singleInsert(Blackhole blackhole) {
+        for (AnimalDTO animal : animals) {
+            blackhole.consume(animalService.createAnimal(animal));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package br.dev.ulk.animalz.benchmarks;
+
+import br.dev.ulk.animalz.UlkAniamlzApplication;
+import br.dev.ulk.animalz.domain.enumerations.StatusEnum;
+import br.dev.ulk.animalz.domain.models.Animal;
+import br.dev.ulk.animalz.domain.models.Group;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class BenchmarkFixtures {
+
+    private static final String[] GROUPS = {"Fish", "Amphibians", "Reptiles", "Birds", "Mammals"};
+
+    private BenchmarkFixtures() {
+    }
+
+    static ConfigurableApplicationContext startApplication(String name) {
+        return new SpringApplicationBuilder(UlkAniamlzApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:" + name,
+                        "spring.h2.console.enabled=false",
+                        "logging.level.root=WARN"
+                )
+                .run();
+    }
+
+    static Animal animal(long id) {
+        long groupId = id % GROUPS.length + 1;
+        return Animal.builder()
+                .id(id)
+                .scientificName("Panthera leo " + id)
+                .specie("Lion")
+                .size(1.8)
+                .mass(190.5)
+                .status(StatusEnum.ACTIVE)
+                .group(Group.builder().id(groupId).name(GROUPS[(int) groupId - 1]).build())
+                .build();
+    }
+
+    static List<Animal> animals(int size) {
+        List<Animal> animals = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            animals.add(animal(id));
+        }
+        return animals;
+    }
+}
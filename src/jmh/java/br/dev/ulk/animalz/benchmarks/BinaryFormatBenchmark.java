@@ -0,0 +1,95 @@
+package br.dev.ulk.animalz.benchmarks;
+
+import br.dev.ulk.animalz.application.dtos.AnimalDTO;
+import br.dev.ulk.animalz.application.links.LinkFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.GenericHttpMessageConverter;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BinaryFormatBenchmark {
+
+    private static final Type ANIMAL_LIST = new ParameterizedTypeReference<List<AnimalDTO>>() {}.getType();
+    private static final Map<String, MediaType> FORMATS = Map.of(
+            "json", MediaType.APPLICATION_JSON,
+            "cbor", MediaType.APPLICATION_CBOR,
+            "smile", MediaType.valueOf("application/x-jackson-smile"),
+            "protobuf", MediaType.valueOf("application/x-protobuf"));
+
+    @Param({"json", "cbor", "smile", "protobuf"})
+    private String format;
+
+    @Param({"1000"})
+    private int size;
+
+    private ConfigurableApplicationContext context;
+    private GenericHttpMessageConverter<Object> converter;
+    private MediaType mediaType;
+    private List<AnimalDTO> animals;
+    private byte[] payload;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() throws IOException {
+        context = BenchmarkFixtures.startApplication("benchmark_binary_format");
+        mediaType = FORMATS.get(format);
+        converter = context.getBean(RequestMappingHandlerAdapter.class).getMessageConverters().stream()
+                .filter(GenericHttpMessageConverter.class::isInstance)
+                .map(candidate -> (GenericHttpMessageConverter<Object>) candidate)
+                .filter(candidate -> candidate.canWrite(ANIMAL_LIST, List.class, mediaType) && candidate.canRead(ANIMAL_LIST, null, mediaType))
+                .findFirst()
+                .orElseThrow();
+
+        LinkFactory linkFactory = context.getBean(LinkFactory.class);
+        LinkRelation groupRelation = LinkRelation.of("group");
+        animals = BenchmarkFixtures.animals(size).stream()
+                .map(animal -> {
+                    AnimalDTO animalDTO = AnimalDTO.fromEntity(animal);
+                    animalDTO.add(linkFactory.linkToAnimal(animal.getId(), IanaLinkRelations.SELF));
+                    animalDTO.getGroup().add(linkFactory.linkToGroup(animal.getGroup().getId(), groupRelation));
+                    return animalDTO;
+                })
+                .toList();
+        payload = encode();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+        converter.write(animals, ANIMAL_LIST, mediaType, outputMessage);
+        return outputMessage.getBodyAsBytes();
+    }
+
+    @Benchmark
+    public Object decode() throws IOException {
+        return converter.read(ANIMAL_LIST, null, new MockHttpInputMessage(payload));
+    }
+}
@@ -0,0 +1,69 @@
+package br.dev.ulk.animalz.benchmarks;
+
+import br.dev.ulk.animalz.application.controllers.AnimalController;
+import br.dev.ulk.animalz.application.controllers.GroupController;
+import br.dev.ulk.animalz.application.dtos.AnimalDTO;
+import br.dev.ulk.animalz.application.links.LinkFactory;
+import br.dev.ulk.animalz.domain.models.Animal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LinkBenchmark {
+
+    private static final LinkRelation GROUP_RELATION = LinkRelation.of("group");
+
+    private final LinkFactory linkFactory = new LinkFactory();
+
+    private Animal animal;
+
+    @Setup
+    public void setUp() {
+        animal = BenchmarkFixtures.animal(42L);
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public AnimalDTO webMvcLinkBuilder() {
+        startRequest();
+        AnimalDTO animalDTO = AnimalDTO.fromEntity(animal);
+        animalDTO.add(linkTo(methodOn(AnimalController.class).getAnimalById(animal.getId(), null, null)).withSelfRel());
+        animalDTO.getGroup().add(linkTo(methodOn(GroupController.class).getGroupById(animal.getGroup().getId(), null, null)).withRel(GROUP_RELATION));
+        return animalDTO;
+    }
+
+    @Benchmark
+    public AnimalDTO linkFactory() {
+        startRequest();
+        AnimalDTO animalDTO = AnimalDTO.fromEntity(animal);
+        animalDTO.add(linkFactory.linkToAnimal(animal.getId(), IanaLinkRelations.SELF));
+        animalDTO.getGroup().add(linkFactory.linkToGroup(animal.getGroup().getId(), GROUP_RELATION));
+        return animalDTO;
+    }
+
+    private void startRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest("GET", "/api/animals/42")));
+    }
+}
@@ -0,0 +1,59 @@
+package br.dev.ulk.animalz.benchmarks;
+
+import br.dev.ulk.animalz.domain.enumerations.EndpointClassEnum;
+import br.dev.ulk.animalz.infraestructure.ratelimit.RateLimiter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Run with -t to change the number of threads: sharedClient puts every thread on the same bucket (worst-case CAS
+// contention), distinctClients gives each thread its own, and exhaustedClient measures the rejection path.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class RateLimiterBenchmark {
+
+    private static final AtomicInteger CLIENTS = new AtomicInteger();
+
+    private RateLimiter rateLimiter;
+
+    @Setup
+    public void setUp() {
+        rateLimiter = new RateLimiter();
+        ReflectionTestUtils.setField(rateLimiter, "itemCapacity", 1_000_000);
+        ReflectionTestUtils.setField(rateLimiter, "itemRefillPerSecond", 1e9);
+        ReflectionTestUtils.setField(rateLimiter, "listCapacity", 1);
+        ReflectionTestUtils.setField(rateLimiter, "listRefillPerSecond", 1e-6);
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+
+        private final String id = "addr:10.0.0." + CLIENTS.incrementAndGet();
+    }
+
+    @Benchmark
+    public long sharedClient() {
+        return rateLimiter.tryAcquire("addr:10.0.0.1", EndpointClassEnum.ITEM);
+    }
+
+    @Benchmark
+    public long distinctClients(Client client) {
+        return rateLimiter.tryAcquire(client.id, EndpointClassEnum.ITEM);
+    }
+
+    @Benchmark
+    public long exhaustedClient() {
+        return rateLimiter.tryAcquire("addr:10.0.0.1", EndpointClassEnum.LIST);
+    }
+}
@@ -0,0 +1,72 @@
+package br.dev.ulk.animalz.benchmarks;
+
+import br.dev.ulk.animalz.application.dtos.AnimalDTO;
+import br.dev.ulk.animalz.application.dtos.GroupDTO;
+import br.dev.ulk.animalz.infraestructure.repositories.AnimalRepository;
+import br.dev.ulk.animalz.infraestructure.services.AnimalService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReadPathBenchmark {
+
+    private static final int ROWS = 1000;
+
+    private ConfigurableApplicationContext context;
+    private AnimalRepository animalRepository;
+    private AnimalService animalService;
+    private TransactionTemplate readWriteTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkFixtures.startApplication("benchmark_read_path");
+        animalRepository = context.getBean(AnimalRepository.class);
+        animalService = context.getBean(AnimalService.class);
+        readWriteTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        animalService.createAnimals(Collections.nCopies(ROWS - (int) animalRepository.count(), AnimalDTO.builder()
+                .scientificName("Panthera leo")
+                .specie("Lion")
+                .size(1.8)
+                .mass(190.5)
+                .group(GroupDTO.builder().id(5L).build())
+                .build()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<AnimalDTO> managedEntities() {
+        return readWriteTransaction.execute(status -> animalRepository.findAll().stream()
+                .map(AnimalDTO::fromEntity)
+                .toList());
+    }
+
+    @Benchmark
+    public List<AnimalDTO> readOnlyProjections() {
+        return readOnlyTransaction.execute(status -> animalRepository.findAllViews().stream()
+                .map(AnimalDTO::fromView)
+                .toList());
+    }
+}
@@ -0,0 +1,87 @@
+package br.dev.ulk.animalz.benchmarks;
+
+import br.dev.ulk.animalz.application.dtos.AnimalDTO;
+import br.dev.ulk.animalz.application.links.LinkFactory;
+import br.dev.ulk.animalz.domain.models.Animal;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SerializationBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private ConfigurableApplicationContext context;
+    private ObjectMapper halObjectMapper;
+    private List<AnimalDTO> animals;
+    private CollectionModel<AnimalDTO> page;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkFixtures.startApplication("benchmark_serialization");
+        halObjectMapper = context.getBean(RequestMappingHandlerAdapter.class).getMessageConverters().stream()
+                .filter(AbstractJackson2HttpMessageConverter.class::isInstance)
+                .map(AbstractJackson2HttpMessageConverter.class::cast)
+                .filter(converter -> converter.canWrite(AnimalDTO.class, MediaTypes.HAL_JSON))
+                .findFirst()
+                .orElseThrow()
+                .getObjectMapper();
+
+        LinkFactory linkFactory = context.getBean(LinkFactory.class);
+        LinkRelation groupRelation = LinkRelation.of("group");
+        animals = BenchmarkFixtures.animals(size).stream()
+                .map(animal -> {
+                    AnimalDTO animalDTO = AnimalDTO.fromEntity(animal);
+                    animalDTO.add(linkFactory.linkToAnimal(animal.getId(), IanaLinkRelations.SELF));
+                    animalDTO.getGroup().add(linkFactory.linkToGroup(animal.getGroup().getId(), groupRelation));
+                    return animalDTO;
+                })
+                .toList();
+        page = CollectionModel.of(animals, linkFactory.linkToAnimalsPage(null, size, IanaLinkRelations.SELF));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void serializeList() throws IOException {
+        halObjectMapper.writeValue(OutputStream.nullOutputStream(), animals);
+    }
+
+    @Benchmark
+    public void serializeCollectionModel() throws IOException {
+        halObjectMapper.writeValue(OutputStream.nullOutputStream(), page);
+    }
+
+    @Benchmark
+    public List<AnimalDTO> mapList() {
+        return BenchmarkFixtures.animals(size).stream()
+                .map(AnimalDTO::fromEntity)
+                .toList();
+    }
+}
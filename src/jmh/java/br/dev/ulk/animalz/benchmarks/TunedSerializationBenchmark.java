@@ -0,0 +1,70 @@
+package br.dev.ulk.animalz.benchmarks;
+
+import br.dev.ulk.animalz.application.dtos.AnimalDTO;
+import br.dev.ulk.animalz.application.serializers.AnimalzJacksonModule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.server.core.AnnotationLinkRelationProvider;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TunedSerializationBenchmark {
+
+    @Param({"reflective", "tuned"})
+    private String serializers;
+
+    @Param({"json", "hal"})
+    private String format;
+
+    @Param({"100000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<AnimalDTO> animals;
+
+    @Setup
+    public void setUp() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if ("tuned".equals(serializers)) {
+            builder.modulesToInstall(new AnimalzJacksonModule());
+        }
+        objectMapper = builder.build();
+        if ("hal".equals(format)) {
+            objectMapper.registerModule(new Jackson2HalModule());
+            objectMapper.setHandlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(
+                    new AnnotationLinkRelationProvider(), CurieProvider.NONE, MessageResolver.DEFAULTS_ONLY));
+        }
+
+        animals = BenchmarkFixtures.animals(size).stream()
+                .map(animal -> {
+                    AnimalDTO animalDTO = AnimalDTO.fromEntity(animal);
+                    animalDTO.add(Link.of("http://localhost:8080/api/animals/" + animal.getId()));
+                    animalDTO.getGroup().add(Link.of("http://localhost:8080/api/groups/" + animal.getGroup().getId(), "group"));
+                    return animalDTO;
+                })
+                .toList();
+    }
+
+    @Benchmark
+    public void serializeList() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), animals);
+    }
+}
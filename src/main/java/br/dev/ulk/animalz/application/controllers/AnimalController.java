@@ -1,6 +1,19 @@
 package br.dev.ulk.animalz.application.controllers;
 
+import br.dev.ulk.animalz.application.dtos.AnimalBatchResultDTO;
+import br.dev.ulk.animalz.application.dtos.AnimalChangesDTO;
 import br.dev.ulk.animalz.application.dtos.AnimalDTO;
+import br.dev.ulk.animalz.application.dtos.AnimalFilterDTO;
+import br.dev.ulk.animalz.application.dtos.AnimalImportDTO;
+import br.dev.ulk.animalz.application.dtos.AnimalNameDTO;
+import br.dev.ulk.animalz.application.dtos.FieldSelectionDTO;
+import br.dev.ulk.animalz.application.exceptions.BadRequestException;
+import br.dev.ulk.animalz.application.exceptions.PreconditionFailedException;
+import br.dev.ulk.animalz.domain.enumerations.ExportFormatEnum;
+import br.dev.ulk.animalz.domain.projections.AnimalVersion;
+import br.dev.ulk.animalz.infraestructure.changes.AnimalChangeStream;
+import br.dev.ulk.animalz.infraestructure.services.AnimalChangeService;
+import br.dev.ulk.animalz.infraestructure.services.AnimalImportService;
 import br.dev.ulk.animalz.infraestructure.services.AnimalService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -9,9 +22,18 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -20,9 +42,17 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
 import java.util.List;
 
 @RestController
@@ -31,56 +61,184 @@ import java.util.List;
 @Tag(name = "Animals", description = "Animal management Endpoint")
 public class AnimalController {
 
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache();
+
     @Autowired
     private AnimalService animalService;
 
+    @Autowired
+    private AnimalImportService animalImportService;
+
+    @Autowired
+    private AnimalChangeService animalChangeService;
+
+    @Autowired
+    private AnimalChangeStream animalChangeStream;
+
     @GetMapping
     @Operation(
             summary = "Returns  all Animals",
-            description = "This endpoint retrun a list of all registered animals.",
+            description = "This endpoint retrun a list of all registered animals, optionally filtered by mass and size ranges, status and group. 'fields' narrows each animal to the given fields, also in the database query, and 'links=false' leaves the links out.",
             tags = {"Animals", "z1 - Get"}
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "List of animals successfully returned", content = @Content(mediaType = "application/json", schema = @Schema(implementation = AnimalDTO.class))),
             @ApiResponse(responseCode = "204", description = "No animals found", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "Invalid filter or unsupported field", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "404", description = "Group not found", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<List<AnimalDTO>> getAllAnimals(@ParameterObject AnimalFilterDTO filter,
+                                                         @ParameterObject FieldSelectionDTO selection) {
+        List<AnimalDTO> animals = animalService.getAllAnimals(filter, selection);
+        if (animals.isEmpty()) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(animals);
+    }
+
+    @GetMapping(params = "limit")
+    @Operation(
+            summary = "Returns a page of animals",
+            description = "This endpoint returns up to 'limit' animals with ID greater than 'after', ordered by ID, accepting the same filters and field selection as the full list. Follow the 'next' link to fetch the following page.",
+            tags = {"Animals", "z1 - Get"}
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Page of animals successfully returned", content = @Content(mediaType = "application/hal+json", schema = @Schema(implementation = AnimalDTO.class))),
+            @ApiResponse(responseCode = "204", description = "No animals found after the given cursor", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "Invalid filter or unsupported field", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "404", description = "Group not found", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<CollectionModel<AnimalDTO>> getAnimalsPage(@RequestParam(required = false) Long after,
+                                                                     @RequestParam Integer limit,
+                                                                     @ParameterObject AnimalFilterDTO filter,
+                                                                     @ParameterObject FieldSelectionDTO selection) {
+        CollectionModel<AnimalDTO> animals = animalService.getAnimalsPage(after, limit, filter, selection);
+        if (animals.getContent().isEmpty()) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(animals);
+    }
+
+    @GetMapping("/export")
+    @Operation(
+            summary = "Exports all animals",
+            description = "This endpoint streams the whole animal catalogue as NDJSON or CSV, row by row, without building the full list in memory.",
+            tags = {"Animals", "z1 - Get"}
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Animal catalogue successfully streamed", content = {@Content(mediaType = "application/x-ndjson"), @Content(mediaType = "text/csv")}),
+            @ApiResponse(responseCode = "400", description = "Unsupported export format", content = @Content(mediaType = "application/json")),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = "application/json"))
     })
-    public ResponseEntity<List<AnimalDTO>> getAllAnimals() {
-        List<AnimalDTO> animals = animalService.getAllAnimals();
+    public ResponseEntity<StreamingResponseBody> exportAnimals(@RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormatEnum exportFormat = ExportFormatEnum.fromValue(format)
+                .orElseThrow(() -> new BadRequestException("Unsupported export format " + format));
+
+        StreamingResponseBody body = outputStream -> animalService.exportAnimals(exportFormat, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("animals." + exportFormat.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    @GetMapping("/search")
+    @Operation(
+            summary = "Searches animals by name prefix",
+            description = "This endpoint returns up to 'limit' animals whose scientific name or species name starts with the given prefix, ignoring case. It is answered from an in-memory index, without querying the database.",
+            tags = {"Animals", "z1 - Get"}
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Matching animals successfully returned", content = @Content(mediaType = "application/json", schema = @Schema(implementation = AnimalNameDTO.class))),
+            @ApiResponse(responseCode = "204", description = "No animals match the prefix", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "Blank prefix", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<List<AnimalNameDTO>> searchAnimals(@RequestParam String prefix,
+                                                             @RequestParam(required = false) Integer limit) {
+        List<AnimalNameDTO> animals = animalService.searchAnimals(prefix, limit);
         if (animals.isEmpty()) {
             return ResponseEntity.noContent().build();
         }
         return ResponseEntity.ok(animals);
     }
 
+    @GetMapping("/changes")
+    @Operation(
+            summary = "Returns the changes made to animals after a token",
+            description = "This endpoint returns up to 'limit' entries of the change log after the 'since' token, keeping only the last change of each animal together with its current state. Without 'since' it only returns the current token, to be used after a full export. Send the returned token on the next request to sync in proportion to the changes instead of the catalogue.",
+            tags = {"Animals", "z1 - Get"}
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Changes successfully returned", content = @Content(mediaType = "application/hal+json", schema = @Schema(implementation = AnimalChangesDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid token", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<AnimalChangesDTO> getAnimalChanges(@RequestParam(required = false) String since,
+                                                             @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(animalChangeService.getChanges(since, limit));
+    }
+
+    @GetMapping(path = "/changes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "Streams the changes made to animals",
+            description = "This endpoint opens a Server-Sent Events stream with one 'change' event per change after the 'since' token, or after the current one when absent. Each event carries its sequence as ID, so a reconnecting client resumes through the Last-Event-ID header.",
+            tags = {"Animals", "z1 - Get"}
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Change stream opened", content = @Content(mediaType = "text/event-stream")),
+            @ApiResponse(responseCode = "400", description = "Invalid token", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = "application/json"))
+    })
+    public SseEmitter streamAnimalChanges(@RequestParam(required = false) String since,
+                                          @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+        return animalChangeStream.subscribe(animalChangeService.getCursor(lastEventId != null ? lastEventId : since));
+    }
+
     @GetMapping("/{id}")
     @Operation(
             summary = "Returns an animal by ID",
-            description = "This endpoint returns the details of a specific animal by the given ID.",
+            description = "This endpoint returns the details of a specific animal by the given ID. 'fields' narrows the animal to the given fields, also in the database query, and 'links=false' leaves the links out. The response carries a strong ETag, so pollers can send If-None-Match and get 304 when the animal did not change.",
             tags = {"Animals", "z1 - Get"}
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Animal found", content = @Content(mediaType = "application/json", schema = @Schema(implementation = AnimalDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Animal not modified since the given ETag", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "Unsupported field", content = @Content(mediaType = "application/json")),
             @ApiResponse(responseCode = "404", description = "Animal not found", content = @Content(mediaType = "application/json")),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = "application/json"))
     })
-    public ResponseEntity<AnimalDTO> getAnimalById(@PathVariable Long id) {
-        return ResponseEntity.ok(animalService.getAnimalById(id));
+    public ResponseEntity<AnimalDTO> getAnimalById(@PathVariable Long id, @ParameterObject FieldSelectionDTO selection, WebRequest webRequest) {
+        // Revalidations only need the versions; a body carries the versions of the row it was read from.
+        String[] ifNoneMatch = webRequest.getHeaderValues(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            String eTag = animalService.getAnimalVersion(id).eTag();
+            if (matchesAny(ifNoneMatch, eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(CACHE_CONTROL).build();
+            }
+        }
+        AnimalDTO animalDTO = animalService.getAnimalById(id, selection);
+        return ResponseEntity.ok().eTag(animalDTO.getVersion().eTag()).cacheControl(CACHE_CONTROL).body(animalDTO);
     }
 
     @GetMapping("/groups/{group}")
     @Operation(
             summary = "Returns animals by group",
-            description = "This endpoint returns all animals belonging to the given group.",
+            description = "This endpoint returns all animals belonging to the given group. 'fields' narrows each animal to the given fields, also in the database query, and 'links=false' leaves the links out.",
             tags = {"Animals", "z1 - Get"}
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "List of animals in the group successfully returned", content = @Content(mediaType = "application/json", schema = @Schema(implementation = AnimalDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Unsupported field", content = @Content(mediaType = "application/json")),
             @ApiResponse(responseCode = "404", description = "Group not found", content = @Content(mediaType = "application/json")),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = "application/json"))
     })
-    public ResponseEntity<List<AnimalDTO>> getAnimalsByGroup(@PathVariable String group) {
-        return ResponseEntity.ok(animalService.getAnimalsByGroup(group));
+    public ResponseEntity<List<AnimalDTO>> getAnimalsByGroup(@PathVariable String group, @ParameterObject FieldSelectionDTO selection) {
+        return ResponseEntity.ok(animalService.getAnimalsByGroup(group, selection));
     }
 
     @PostMapping
@@ -98,6 +256,83 @@ public class AnimalController {
         return ResponseEntity.status(HttpStatus.CREATED).body(animalService.createAnimal(animalDTO));
     }
 
+    @PostMapping("/batch")
+    @Operation(
+            summary = "Creates animals in batch",
+            description = "This endpoint creates up to 10000 animals in a single transaction, using JDBC batching. Each item is validated on its own and reported with its own status.",
+            tags = {"Animals", "z2 - Post"}
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "All animals created successfully", content = @Content(mediaType = "application/json", schema = @Schema(implementation = AnimalBatchResultDTO.class))),
+            @ApiResponse(responseCode = "207", description = "Some animals were rejected, see the status of each item", content = @Content(mediaType = "application/json", schema = @Schema(implementation = AnimalBatchResultDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Empty or oversized batch", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<List<AnimalBatchResultDTO>> createAnimals(@RequestBody List<AnimalDTO> animalDTOs) {
+        List<AnimalBatchResultDTO> results = animalService.createAnimals(animalDTOs);
+        boolean allCreated = results.stream().allMatch(result -> result.getStatus() == HttpStatus.CREATED.value());
+        return ResponseEntity.status(allCreated ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS).body(results);
+    }
+
+    @PostMapping(path = "/import", consumes = "text/csv")
+    @Operation(
+            summary = "Imports animals from CSV",
+            description = "This endpoint receives a CSV upload (the export format, or any file with scientificName, specie, size, mass and groupName or groupId columns) and answers 202 with the import job as soon as the body is stored. The rows are then committed in fixed-size batch transactions in the background; invalid rows go to a rejection report and the progress can be followed through the Location link.",
+            tags = {"Animals", "z2 - Post"}
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "Upload accepted, the import is running", content = @Content(mediaType = "application/json", schema = @Schema(implementation = AnimalImportDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Empty upload, missing columns or malformed CSV header", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "413", description = "Upload larger than application.import.max-upload-size", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "429", description = "Too many imports running, retry after the Retry-After seconds", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<AnimalImportDTO> importAnimals(InputStream inputStream) throws IOException {
+        AnimalImportDTO importDTO = animalImportService.importAnimals(inputStream);
+        return ResponseEntity.accepted()
+                .location(URI.create(importDTO.getRequiredLink(IanaLinkRelations.SELF).getHref()))
+                .body(importDTO);
+    }
+
+    @GetMapping("/import/{id}")
+    @Operation(
+            summary = "Returns the progress of a CSV import",
+            description = "This endpoint returns how many rows an import has read, committed and rejected so far.",
+            tags = {"Animals", "z1 - Get"}
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Import found", content = @Content(mediaType = "application/json", schema = @Schema(implementation = AnimalImportDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Import not found or already evicted", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<AnimalImportDTO> getImport(@PathVariable String id) {
+        return ResponseEntity.ok(animalImportService.getImport(id));
+    }
+
+    @GetMapping("/import/{id}/rejections")
+    @Operation(
+            summary = "Returns the rejection report of a CSV import",
+            description = "This endpoint streams the rejected rows of an import as CSV, each prefixed with its line number and the reasons it was rejected.",
+            tags = {"Animals", "z1 - Get"}
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Rejection report successfully streamed", content = @Content(mediaType = "text/csv")),
+            @ApiResponse(responseCode = "404", description = "Import not found or already evicted", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<StreamingResponseBody> getImportRejections(@PathVariable String id) {
+        animalImportService.getImport(id);
+
+        StreamingResponseBody body = outputStream -> animalImportService.writeRejections(id, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(ExportFormatEnum.CSV.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("rejections-" + id + "." + ExportFormatEnum.CSV.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
     @PutMapping("/{id}")
     @Operation(
             summary = "Updates an existing animal",
@@ -108,10 +343,12 @@ public class AnimalController {
             @ApiResponse(responseCode = "200", description = "Animal updated successfully", content = @Content(mediaType = "application/json", schema = @Schema(implementation = AnimalDTO.class))),
             @ApiResponse(responseCode = "404", description = "Animal not found", content = @Content(mediaType = "application/json")),
             @ApiResponse(responseCode = "400", description = "Data validation error", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "409", description = "Animal modified by a concurrent request", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "412", description = "Animal does not match the If-Match ETag", content = @Content(mediaType = "application/json")),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = "application/json"))
     })
-    public ResponseEntity<AnimalDTO> updateAnimal(@PathVariable Long id, @Valid @RequestBody AnimalDTO animalDTO) {
-        return ResponseEntity.ok(animalService.updateAnimal(id, animalDTO));
+    public ResponseEntity<AnimalDTO> updateAnimal(@PathVariable Long id, @Valid @RequestBody AnimalDTO animalDTO, WebRequest webRequest) {
+        return ResponseEntity.ok(animalService.updateAnimal(id, animalDTO, expectedVersion(id, webRequest)));
     }
 
     @PatchMapping("/{id}")
@@ -123,10 +360,12 @@ public class AnimalController {
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Animal partially updated successfully", content = @Content(mediaType = "application/json", schema = @Schema(implementation = AnimalDTO.class))),
             @ApiResponse(responseCode = "404", description = "Animal not found", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "409", description = "Animal modified by a concurrent request", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "412", description = "Animal does not match the If-Match ETag", content = @Content(mediaType = "application/json")),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = "application/json"))
     })
-    public ResponseEntity<AnimalDTO> partialUpdateAnimal(@PathVariable Long id, @Valid @RequestBody AnimalDTO animalDTO) {
-        return ResponseEntity.ok(animalService.partialUpdateAnimal(id, animalDTO));
+    public ResponseEntity<AnimalDTO> partialUpdateAnimal(@PathVariable Long id, @Valid @RequestBody AnimalDTO animalDTO, WebRequest webRequest) {
+        return ResponseEntity.ok(animalService.partialUpdateAnimal(id, animalDTO, expectedVersion(id, webRequest)));
     }
 
     @DeleteMapping("/{id}")
@@ -144,4 +383,30 @@ public class AnimalController {
         animalService.delete(id);
         return ResponseEntity.noContent().build();
     }
+
+    private Long expectedVersion(Long id, WebRequest webRequest) {
+        if (webRequest.getHeader(HttpHeaders.IF_MATCH) == null) {
+            return null;
+        }
+
+        AnimalVersion version = animalService.getAnimalVersion(id);
+        if (webRequest.checkNotModified(version.eTag())) {
+            throw new PreconditionFailedException("Animal " + id + " does not match " + webRequest.getHeader(HttpHeaders.IF_MATCH));
+        }
+        return version.version();
+    }
+
+    // Compared by hand: checkNotModified would also write this ETag to the response, which the body may not match.
+    private static boolean matchesAny(String[] ifNoneMatch, String eTag) {
+        String quoted = "\"" + eTag + "\"";
+        for (String value : ifNoneMatch) {
+            for (String candidate : StringUtils.commaDelimitedListToStringArray(value)) {
+                candidate = candidate.trim();
+                if (candidate.equals("*") || candidate.equals(quoted) || candidate.equals("W/" + quoted)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
 }
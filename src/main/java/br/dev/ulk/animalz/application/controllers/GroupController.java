@@ -1,6 +1,10 @@
 package br.dev.ulk.animalz.application.controllers;
 
+import br.dev.ulk.animalz.application.dtos.FieldSelectionDTO;
 import br.dev.ulk.animalz.application.dtos.GroupDTO;
+import br.dev.ulk.animalz.application.exceptions.BadRequestException;
+import br.dev.ulk.animalz.application.exceptions.PreconditionFailedException;
+import br.dev.ulk.animalz.application.links.LinkFactory;
 import br.dev.ulk.animalz.infraestructure.services.GroupService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -8,8 +12,13 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -19,7 +28,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -29,41 +41,90 @@ import java.util.List;
 @Tag(name = "Groups", description = "Groups management Endpoint")
 public class GroupController {
 
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache();
+    private static final String EMBED_ANIMALS = "animals";
+
     @Autowired
     private GroupService groupService;
+    @Autowired
+    private LinkFactory linkFactory;
 
     @GetMapping
     @Operation(
             summary = "Returns all groups",
-            description = "This endpoint returns a list of all registered groups.",
+            description = "This endpoint returns a list of all registered groups. 'fields' narrows each group to the given fields and 'links=false' leaves the links out. The response carries a strong ETag, so pollers can send If-None-Match and get 304 when no group changed.",
             tags = {"Groups", "z1 - Get"}
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "List of groups successfully returned", content = @Content(mediaType = "application/json", schema = @Schema(implementation = GroupDTO.class))),
             @ApiResponse(responseCode = "204", description = "No groups found", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "304", description = "Groups not modified since the given ETag", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "Unsupported field", content = @Content(mediaType = "application/json")),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = "application/json"))
     })
-    public ResponseEntity<List<GroupDTO>> getAllGroups() {
-        List<GroupDTO> groups = groupService.getAllGroups();
+    public ResponseEntity<List<GroupDTO>> getAllGroups(@ParameterObject FieldSelectionDTO selection, WebRequest webRequest) {
+        String eTag = groupService.getGroupsVersion().eTag();
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(CACHE_CONTROL).build();
+        }
+
+        List<GroupDTO> groups = groupService.getAllGroups(selection);
         if (groups.isEmpty()) {
             return ResponseEntity.noContent().build();
         }
-        return ResponseEntity.ok(groups);
+        return ResponseEntity.ok().eTag(eTag).cacheControl(CACHE_CONTROL).body(groups);
+    }
+
+    @GetMapping(params = "embed")
+    @Operation(
+            summary = "Returns all groups with their animals",
+            description = "With 'embed=animals' this endpoint streams every group together with its animals, read in a single query, instead of one request per group. The ETag changes whenever a group or an animal changes.",
+            tags = {"Groups", "z1 - Get"}
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Groups and their animals successfully streamed", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "304", description = "Groups and animals not modified since the given ETag", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "Unsupported embed", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<StreamingResponseBody> getAllGroupsWithAnimals(@RequestParam String embed, WebRequest webRequest) {
+        if (!EMBED_ANIMALS.equals(embed)) {
+            throw new BadRequestException("Unsupported embed " + embed);
+        }
+
+        String eTag = groupService.getGroupsWithAnimalsETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(CACHE_CONTROL).build();
+        }
+
+        String baseUri = linkFactory.getBaseUri();
+        StreamingResponseBody body = outputStream -> groupService.writeGroupsWithAnimals(baseUri, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(eTag)
+                .cacheControl(CACHE_CONTROL)
+                .body(body);
     }
 
     @GetMapping("/{id}")
     @Operation(
             summary = "Returns a group by ID",
-            description = "This endpoint returns the details of a specific group by the given ID.",
+            description = "This endpoint returns the details of a specific group by the given ID. 'fields' narrows the group to the given fields and 'links=false' leaves the links out.",
             tags = {"Groups", "z1 - Get"}
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Group found", content = @Content(mediaType = "application/json", schema = @Schema(implementation = GroupDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Group not modified since the given ETag", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "Unsupported field", content = @Content(mediaType = "application/json")),
             @ApiResponse(responseCode = "404", description = "Group not found", content = @Content(mediaType = "application/json")),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = "application/json"))
     })
-    public ResponseEntity<GroupDTO> getGroupById(@PathVariable Long id) {
-        return ResponseEntity.ok(groupService.getGroupById(id));
+    public ResponseEntity<GroupDTO> getGroupById(@PathVariable Long id, @ParameterObject FieldSelectionDTO selection, WebRequest webRequest) {
+        String eTag = String.valueOf(groupService.getGroupVersion(id));
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(CACHE_CONTROL).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).cacheControl(CACHE_CONTROL).body(groupService.getGroupById(id, selection));
     }
 
     @PostMapping
@@ -91,10 +152,12 @@ public class GroupController {
             @ApiResponse(responseCode = "200", description = "Group successfully updated", content = @Content(mediaType = "application/json", schema = @Schema(implementation = GroupDTO.class))),
             @ApiResponse(responseCode = "400", description = "Invalid input data", content = @Content(mediaType = "application/json")),
             @ApiResponse(responseCode = "404", description = "Group not found", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "409", description = "Group modified by a concurrent request", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "412", description = "Group does not match the If-Match ETag", content = @Content(mediaType = "application/json")),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = "application/json"))
     })
-    public ResponseEntity<GroupDTO> updateGroup(@PathVariable Long id, @RequestBody GroupDTO groupDTO) {
-        return ResponseEntity.ok(groupService.updateGroup(id, groupDTO));
+    public ResponseEntity<GroupDTO> updateGroup(@PathVariable Long id, @RequestBody GroupDTO groupDTO, WebRequest webRequest) {
+        return ResponseEntity.ok(groupService.updateGroup(id, groupDTO, expectedVersion(id, webRequest)));
     }
 
     @DeleteMapping("/{id}")
@@ -112,4 +175,16 @@ public class GroupController {
         groupService.delete(id);
         return ResponseEntity.noContent().build();
     }
+
+    private Long expectedVersion(Long id, WebRequest webRequest) {
+        if (webRequest.getHeader(HttpHeaders.IF_MATCH) == null) {
+            return null;
+        }
+
+        Long version = groupService.getGroupVersion(id);
+        if (webRequest.checkNotModified(String.valueOf(version))) {
+            throw new PreconditionFailedException("Group " + id + " does not match " + webRequest.getHeader(HttpHeaders.IF_MATCH));
+        }
+        return version;
+    }
 }
@@ -0,0 +1,231 @@
+package br.dev.ulk.animalz.application.converters;
+
+import br.dev.ulk.animalz.application.dtos.AnimalDTO;
+import br.dev.ulk.animalz.application.dtos.GroupDTO;
+import br.dev.ulk.animalz.application.exceptions.payloads.ApiError;
+import br.dev.ulk.animalz.application.protobuf.AnimalzProtos;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import org.springframework.core.ResolvableType;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+public class AnimalzProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final MediaType PROTOBUF = MediaType.parseMediaType("application/x-protobuf");
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy - HH:mm:ss");
+    private static final Set<Class<?>> READABLE = Set.of(AnimalDTO.class, GroupDTO.class);
+    private static final Set<Class<?>> WRITABLE = Set.of(AnimalDTO.class, GroupDTO.class, ApiError.class);
+
+    public AnimalzProtobufHttpMessageConverter() {
+        super(PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return WRITABLE.contains(clazz) || Collection.class.isAssignableFrom(clazz) || CollectionModel.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        ResolvableType resolvableType = ResolvableType.forType(type);
+        Class<?> rawClass = resolvableType.toClass();
+        boolean readable = READABLE.contains(rawClass)
+                || List.class.equals(rawClass) && AnimalDTO.class.equals(resolvableType.getGeneric(0).toClass());
+        return readable && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        ResolvableType resolvableType = type == null ? ResolvableType.forClass(clazz) : ResolvableType.forType(type);
+        Class<?> rawClass = resolvableType.toClass();
+        boolean writable = WRITABLE.contains(rawClass)
+                || isContainerOf(resolvableType, AnimalDTO.class)
+                || isContainerOf(resolvableType, GroupDTO.class);
+        return writable && canWrite(mediaType);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        return readInternal(ResolvableType.forType(type), inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        return readInternal(ResolvableType.forClass(clazz), inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object value, Type type, HttpOutputMessage outputMessage) throws IOException {
+        ResolvableType resolvableType = type == null ? ResolvableType.forInstance(value) : ResolvableType.forType(type);
+        toMessage(value, resolvableType).writeTo(outputMessage.getBody());
+    }
+
+    private Object readInternal(ResolvableType type, HttpInputMessage inputMessage) throws IOException {
+        Class<?> rawClass = type.toClass();
+        try {
+            if (AnimalDTO.class.equals(rawClass)) {
+                return toAnimalDTO(AnimalzProtos.Animal.parseFrom(inputMessage.getBody()));
+            }
+            if (GroupDTO.class.equals(rawClass)) {
+                return toGroupDTO(AnimalzProtos.Group.parseFrom(inputMessage.getBody()));
+            }
+            return AnimalzProtos.AnimalList.parseFrom(inputMessage.getBody()).getAnimalsList().stream()
+                    .map(this::toAnimalDTO)
+                    .toList();
+        } catch (InvalidProtocolBufferException e) {
+            throw new HttpMessageNotReadableException("Invalid protobuf message: " + e.getMessage(), e, inputMessage);
+        }
+    }
+
+    private Message toMessage(Object value, ResolvableType type) {
+        if (value instanceof AnimalDTO animalDTO) {
+            return toAnimal(animalDTO);
+        }
+        if (value instanceof GroupDTO groupDTO) {
+            return toGroup(groupDTO);
+        }
+        if (value instanceof ApiError apiError) {
+            return toError(apiError);
+        }
+
+        Collection<?> content = value instanceof CollectionModel<?> collectionModel ? collectionModel.getContent() : (Collection<?>) value;
+        List<AnimalzProtos.Link> links = value instanceof CollectionModel<?> collectionModel ? toLinks(collectionModel) : List.of();
+        if (isContainerOf(type, GroupDTO.class)) {
+            AnimalzProtos.GroupList.Builder groups = AnimalzProtos.GroupList.newBuilder().addAllLinks(links);
+            content.forEach(groupDTO -> groups.addGroups(toGroup((GroupDTO) groupDTO)));
+            return groups.build();
+        }
+        if (isContainerOf(type, AnimalDTO.class)) {
+            AnimalzProtos.AnimalList.Builder animals = AnimalzProtos.AnimalList.newBuilder().addAllLinks(links);
+            content.forEach(animalDTO -> animals.addAnimals(toAnimal((AnimalDTO) animalDTO)));
+            return animals.build();
+        }
+        throw new HttpMessageNotWritableException("Cannot write " + type + " as protobuf");
+    }
+
+    private AnimalzProtos.Animal toAnimal(AnimalDTO animalDTO) {
+        AnimalzProtos.Animal.Builder animal = AnimalzProtos.Animal.newBuilder().addAllLinks(toLinks(animalDTO));
+        if (animalDTO.getId() != null) {
+            animal.setId(animalDTO.getId());
+        }
+        if (animalDTO.getScientificName() != null) {
+            animal.setScientificName(animalDTO.getScientificName());
+        }
+        if (animalDTO.getSpecie() != null) {
+            animal.setSpecie(animalDTO.getSpecie());
+        }
+        if (animalDTO.getSize() != null) {
+            animal.setSize(animalDTO.getSize());
+        }
+        if (animalDTO.getMass() != null) {
+            animal.setMass(animalDTO.getMass());
+        }
+        if (animalDTO.getStatus() != null) {
+            animal.setStatus(animalDTO.getStatus());
+        }
+        if (animalDTO.getGroup() != null) {
+            animal.setGroup(toGroup(animalDTO.getGroup()));
+        }
+        return animal.build();
+    }
+
+    private AnimalzProtos.Group toGroup(GroupDTO groupDTO) {
+        AnimalzProtos.Group.Builder group = AnimalzProtos.Group.newBuilder().addAllLinks(toLinks(groupDTO));
+        if (groupDTO.getId() != null) {
+            group.setId(groupDTO.getId());
+        }
+        if (groupDTO.getName() != null) {
+            group.setName(groupDTO.getName());
+        }
+        return group.build();
+    }
+
+    private AnimalzProtos.Error toError(ApiError apiError) {
+        AnimalzProtos.Error.Builder error = AnimalzProtos.Error.newBuilder()
+                .setStatus(apiError.getStatus());
+        if (apiError.getTimestamp() != null) {
+            error.setTimestamp(TIMESTAMP_FORMAT.format(apiError.getTimestamp()));
+        }
+        if (apiError.getError() != null) {
+            error.setError(apiError.getError());
+        }
+        if (apiError.getPath() != null) {
+            error.setPath(apiError.getPath());
+        }
+        if (apiError.getMessage() != null) {
+            error.setMessage(apiError.getMessage());
+        }
+        if (apiError.getDetails() != null) {
+            apiError.getDetails().forEach(detail -> error.addDetails(toSubError(detail)));
+        }
+        return error.build();
+    }
+
+    private AnimalzProtos.SubError toSubError(ApiError.ApiSubError detail) {
+        AnimalzProtos.SubError.Builder subError = AnimalzProtos.SubError.newBuilder();
+        if (detail.getField() != null) {
+            subError.setField(detail.getField());
+        }
+        if (detail.getMessage() != null) {
+            subError.setMessage(detail.getMessage());
+        }
+        return subError.build();
+    }
+
+    private List<AnimalzProtos.Link> toLinks(RepresentationModel<?> model) {
+        List<AnimalzProtos.Link> links = new ArrayList<>();
+        for (Link link : model.getLinks()) {
+            links.add(AnimalzProtos.Link.newBuilder()
+                    .setRel(link.getRel().value())
+                    .setHref(link.getHref())
+                    .build());
+        }
+        return links;
+    }
+
+    private AnimalDTO toAnimalDTO(AnimalzProtos.Animal animal) {
+        AnimalDTO animalDTO = AnimalDTO.builder()
+                .id(animal.hasId() ? animal.getId() : null)
+                .scientificName(animal.hasScientificName() ? animal.getScientificName() : null)
+                .specie(animal.hasSpecie() ? animal.getSpecie() : null)
+                .size(animal.hasSize() ? animal.getSize() : null)
+                .mass(animal.hasMass() ? animal.getMass() : null)
+                .status(animal.hasStatus() ? animal.getStatus() : null)
+                .group(animal.hasGroup() ? toGroupDTO(animal.getGroup()) : null)
+                .build();
+        animal.getLinksList().forEach(link -> animalDTO.add(Link.of(link.getHref(), link.getRel())));
+        return animalDTO;
+    }
+
+    private GroupDTO toGroupDTO(AnimalzProtos.Group group) {
+        GroupDTO groupDTO = GroupDTO.builder()
+                .id(group.hasId() ? group.getId() : null)
+                .name(group.hasName() ? group.getName() : null)
+                .build();
+        group.getLinksList().forEach(link -> groupDTO.add(Link.of(link.getHref(), link.getRel())));
+        return groupDTO;
+    }
+
+    private static boolean isContainerOf(ResolvableType type, Class<?> elementClass) {
+        Class<?> rawClass = type.toClass();
+        return (Collection.class.isAssignableFrom(rawClass) || CollectionModel.class.isAssignableFrom(rawClass))
+                && elementClass.equals(type.getGeneric(0).toClass());
+    }
+}
@@ -0,0 +1,43 @@
+package br.dev.ulk.animalz.application.dtos;
+
+import br.dev.ulk.animalz.application.exceptions.payloads.ApiError;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AnimalBatchResultDTO {
+
+    @Schema(
+            description = "Position of the animal in the submitted batch",
+            example = "0"
+    )
+    private int index;
+
+    @Schema(
+            description = "HTTP status of this item: 201 when created, 400 when rejected",
+            example = "201"
+    )
+    private int status;
+
+    @Schema(
+            description = "The created animal, present when the item was accepted"
+    )
+    private AnimalDTO animal;
+
+    @Schema(
+            description = "Reasons the item was rejected, present when the item was not created"
+    )
+    private List<ApiError.ApiSubError> errors;
+}
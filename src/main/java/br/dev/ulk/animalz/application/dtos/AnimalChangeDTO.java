@@ -0,0 +1,48 @@
+package br.dev.ulk.animalz.application.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AnimalChangeDTO {
+
+    @Schema(
+            description = "Position of the change in the change log",
+            example = "1042"
+    )
+    private long sequence;
+
+    @Schema(
+            description = "ID of the changed animal",
+            example = "1"
+    )
+    private Long animalId;
+
+    @Schema(
+            description = "Last operation applied to the animal: CREATED, UPDATED or DELETED",
+            example = "UPDATED"
+    )
+    private String operation;
+
+    @Schema(
+            description = "When the change was made"
+    )
+    private Instant changedAt;
+
+    @Schema(
+            description = "Current state of the animal, absent when it no longer exists"
+    )
+    private AnimalDTO animal;
+}
@@ -0,0 +1,36 @@
+package br.dev.ulk.animalz.application.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.hateoas.RepresentationModel;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnimalChangesDTO extends RepresentationModel<AnimalChangesDTO> {
+
+    @Schema(
+            description = "Changes after the given token, one per animal, ordered by sequence"
+    )
+    private List<AnimalChangeDTO> changes;
+
+    @Schema(
+            description = "Token to send as 'since' on the next request",
+            example = "1042"
+    )
+    private String token;
+
+    @Schema(
+            description = "Whether more changes are available right away after this token",
+            example = "false"
+    )
+    private boolean hasMore;
+}
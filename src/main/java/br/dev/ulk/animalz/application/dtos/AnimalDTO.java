@@ -1,6 +1,10 @@
 package br.dev.ulk.animalz.application.dtos;
 
+import br.dev.ulk.animalz.domain.enumerations.AnimalFieldEnum;
 import br.dev.ulk.animalz.domain.models.Animal;
+import br.dev.ulk.animalz.domain.projections.AnimalVersion;
+import br.dev.ulk.animalz.domain.projections.AnimalView;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
@@ -10,12 +14,16 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.hateoas.RepresentationModel;
+import org.springframework.hateoas.server.core.Relation;
+
+import java.util.Set;
 
 @Getter
 @Setter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@Relation(collectionRelation = "animals")
 public class AnimalDTO extends RepresentationModel<AnimalDTO> {
 
     @Schema(
@@ -75,6 +83,14 @@ public class AnimalDTO extends RepresentationModel<AnimalDTO> {
     )
     private GroupDTO group;
 
+    @JsonIgnore
+    @Schema(hidden = true)
+    private AnimalVersion version;
+
+    @JsonIgnore
+    @Schema(hidden = true)
+    private boolean sparse;
+
     public AnimalDTO(Animal animal) {
         id = animal.getId();
         scientificName = animal.getScientificName();
@@ -88,7 +104,65 @@ public class AnimalDTO extends RepresentationModel<AnimalDTO> {
         );
     }
 
+    public AnimalDTO(AnimalView animalView) {
+        id = animalView.id();
+        scientificName = animalView.scientificName();
+        specie = animalView.specie();
+        size = animalView.size();
+        mass = animalView.mass();
+        status = animalView.status().getDescription();
+        group = new GroupDTO(
+                animalView.groupId(),
+                animalView.groupName()
+        );
+        version = animalView.animalVersion();
+    }
+
     public static AnimalDTO fromEntity(Animal animal) {
         return new AnimalDTO(animal);
     }
+
+    public static AnimalDTO fromView(AnimalView animalView) {
+        return new AnimalDTO(animalView);
+    }
+
+    public static AnimalDTO copyOf(AnimalDTO animalDTO) {
+        AnimalDTO copy = new AnimalDTO(animalDTO.id, animalDTO.scientificName, animalDTO.specie, animalDTO.size, animalDTO.mass,
+                animalDTO.status, animalDTO.group != null ? GroupDTO.copyOf(animalDTO.group) : null, animalDTO.version, animalDTO.sparse);
+        copy.add(animalDTO.getLinks());
+        return copy;
+    }
+
+    // Fields outside the selection stay null and are left out of the response.
+    public static AnimalDTO fromView(AnimalView animalView, Set<AnimalFieldEnum> fields) {
+        AnimalDTO animalDTO = new AnimalDTO();
+        animalDTO.sparse = true;
+        animalDTO.version = animalView.animalVersion();
+        if (fields.contains(AnimalFieldEnum.ID)) {
+            animalDTO.id = animalView.id();
+        }
+        if (fields.contains(AnimalFieldEnum.SCIENTIFIC_NAME)) {
+            animalDTO.scientificName = animalView.scientificName();
+        }
+        if (fields.contains(AnimalFieldEnum.SPECIE)) {
+            animalDTO.specie = animalView.specie();
+        }
+        if (fields.contains(AnimalFieldEnum.SIZE)) {
+            animalDTO.size = animalView.size();
+        }
+        if (fields.contains(AnimalFieldEnum.MASS)) {
+            animalDTO.mass = animalView.mass();
+        }
+        if (fields.contains(AnimalFieldEnum.STATUS)) {
+            animalDTO.status = animalView.status().getDescription();
+        }
+        if (fields.contains(AnimalFieldEnum.GROUP_ID) || fields.contains(AnimalFieldEnum.GROUP_NAME)) {
+            animalDTO.group = GroupDTO.builder()
+                    .id(fields.contains(AnimalFieldEnum.GROUP_ID) ? animalView.groupId() : null)
+                    .name(fields.contains(AnimalFieldEnum.GROUP_NAME) ? animalView.groupName() : null)
+                    .sparse(true)
+                    .build();
+        }
+        return animalDTO;
+    }
 }
@@ -0,0 +1,76 @@
+package br.dev.ulk.animalz.application.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnimalFilterDTO {
+
+    @Schema(
+            description = "Minimum mass of the animal in kilograms",
+            example = "50"
+    )
+    private Double minMass;
+
+    @Schema(
+            description = "Maximum mass of the animal in kilograms",
+            example = "500"
+    )
+    private Double maxMass;
+
+    @Schema(
+            description = "Minimum size of the animal in meters",
+            example = "0.5"
+    )
+    private Double minSize;
+
+    @Schema(
+            description = "Maximum size of the animal in meters",
+            example = "3"
+    )
+    private Double maxSize;
+
+    @Schema(
+            description = "Status of the animal",
+            example = "ACTIVE"
+    )
+    private String status;
+
+    @Schema(
+            description = "ID or name of the group the animal belongs to",
+            example = "Mammals"
+    )
+    private String group;
+
+    public boolean isEmpty() {
+        return toParameters().isEmpty();
+    }
+
+    public Map<String, Object> toParameters() {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        putIfPresent(parameters, "minMass", minMass);
+        putIfPresent(parameters, "maxMass", maxMass);
+        putIfPresent(parameters, "minSize", minSize);
+        putIfPresent(parameters, "maxSize", maxSize);
+        putIfPresent(parameters, "status", status);
+        putIfPresent(parameters, "group", group);
+        return parameters;
+    }
+
+    private static void putIfPresent(Map<String, Object> parameters, String name, Object value) {
+        if (value != null && !(value instanceof String text && text.isBlank())) {
+            parameters.put(name, value);
+        }
+    }
+}
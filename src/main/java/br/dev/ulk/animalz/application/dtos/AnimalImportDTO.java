@@ -0,0 +1,67 @@
+package br.dev.ulk.animalz.application.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.hateoas.RepresentationModel;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AnimalImportDTO extends RepresentationModel<AnimalImportDTO> {
+
+    @Schema(
+            description = "ID of the import job",
+            example = "1b4e28ba-2fa1-11d2-883f-0016d3cca427"
+    )
+    private String id;
+
+    @Schema(
+            description = "Status of the import: RUNNING, COMPLETED or FAILED",
+            example = "COMPLETED"
+    )
+    private String status;
+
+    @Schema(
+            description = "Number of CSV records read so far, excluding the header",
+            example = "250000"
+    )
+    private long rowsRead;
+
+    @Schema(
+            description = "Number of animals committed so far",
+            example = "249990"
+    )
+    private long imported;
+
+    @Schema(
+            description = "Number of records sent to the rejection report",
+            example = "10"
+    )
+    private long rejected;
+
+    @Schema(
+            description = "When the import started"
+    )
+    private Instant startedAt;
+
+    @Schema(
+            description = "When the import finished, absent while it is running"
+    )
+    private Instant finishedAt;
+
+    @Schema(
+            description = "Why the import stopped, present when it failed",
+            example = "Unterminated quoted field in record starting at line 1042"
+    )
+    private String message;
+}
@@ -0,0 +1,48 @@
+package br.dev.ulk.animalz.application.dtos;
+
+import br.dev.ulk.animalz.domain.projections.AnimalName;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.hateoas.server.core.Relation;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Relation(collectionRelation = "animals")
+public class AnimalNameDTO extends RepresentationModel<AnimalNameDTO> {
+
+    @Schema(
+            description = "ID of the animal",
+            example = "1"
+    )
+    private Long id;
+
+    @Schema(
+            description = "Scientific name of the animal",
+            example = "Panthera leo"
+    )
+    private String scientificName;
+
+    @Schema(
+            description = "Species name of the animal",
+            example = "Lion"
+    )
+    private String specie;
+
+    public AnimalNameDTO(AnimalName animalName) {
+        id = animalName.id();
+        scientificName = animalName.scientificName();
+        specie = animalName.specie();
+    }
+
+    public static AnimalNameDTO fromProjection(AnimalName animalName) {
+        return new AnimalNameDTO(animalName);
+    }
+}
@@ -0,0 +1,62 @@
+package br.dev.ulk.animalz.application.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class FieldSelectionDTO {
+
+    @Schema(
+            description = "Comma-separated fields to return; nested fields use dots and 'group' selects the whole group",
+            example = "id,specie,group.name"
+    )
+    private String fields;
+
+    @Schema(
+            description = "Whether to return the HATEOAS links",
+            example = "false"
+    )
+    private Boolean links;
+
+    public boolean isEmpty() {
+        return !hasFields() && !Boolean.FALSE.equals(links);
+    }
+
+    public boolean hasFields() {
+        return fields != null && !fields.isBlank();
+    }
+
+    public boolean includeLinks() {
+        return !Boolean.FALSE.equals(links);
+    }
+
+    public List<String> getFieldNames() {
+        return hasFields() ? Arrays.stream(fields.split(",")).map(String::trim).filter(name -> !name.isEmpty()).toList() : List.of();
+    }
+
+    public Map<String, Object> toParameters() {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        if (hasFields()) {
+            parameters.put("fields", fields);
+        }
+        if (links != null) {
+            parameters.put("links", links);
+        }
+        return parameters;
+    }
+}
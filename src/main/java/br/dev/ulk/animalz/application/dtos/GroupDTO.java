@@ -1,6 +1,9 @@
 package br.dev.ulk.animalz.application.dtos;
 
+import br.dev.ulk.animalz.domain.enumerations.GroupFieldEnum;
 import br.dev.ulk.animalz.domain.models.Group;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -9,6 +12,9 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.hateoas.RepresentationModel;
 
+import java.util.List;
+import java.util.Set;
+
 @Getter
 @Setter
 @Builder
@@ -29,6 +35,19 @@ public class GroupDTO extends RepresentationModel<GroupDTO> {
     )
     private String name;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Animals of the group, only present with embed=animals")
+    private List<AnimalDTO> animals;
+
+    @JsonIgnore
+    @Schema(hidden = true)
+    private boolean sparse;
+
+    public GroupDTO(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
     public GroupDTO(Group group) {
         id = group.getId();
         name = group.getName();
@@ -37,4 +56,18 @@ public class GroupDTO extends RepresentationModel<GroupDTO> {
     public static GroupDTO fromEntity(Group group) {
         return new GroupDTO(group);
     }
+
+    public static GroupDTO copyOf(GroupDTO groupDTO) {
+        GroupDTO copy = new GroupDTO(groupDTO.id, groupDTO.name, groupDTO.animals, groupDTO.sparse);
+        copy.add(groupDTO.getLinks());
+        return copy;
+    }
+
+    public static GroupDTO fromEntity(Group group, Set<GroupFieldEnum> fields) {
+        return GroupDTO.builder()
+                .id(fields.contains(GroupFieldEnum.ID) ? group.getId() : null)
+                .name(fields.contains(GroupFieldEnum.NAME) ? group.getName() : null)
+                .sparse(true)
+                .build();
+    }
 }
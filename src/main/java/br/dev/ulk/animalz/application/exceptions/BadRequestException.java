@@ -0,0 +1,9 @@
+package br.dev.ulk.animalz.application.exceptions;
+
+public class BadRequestException extends RuntimeException {
+
+    public BadRequestException(String message) {
+        super(message);
+    }
+
+}
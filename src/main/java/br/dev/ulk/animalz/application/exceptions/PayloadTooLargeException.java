@@ -0,0 +1,9 @@
+package br.dev.ulk.animalz.application.exceptions;
+
+public class PayloadTooLargeException extends RuntimeException {
+
+    public PayloadTooLargeException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,9 @@
+package br.dev.ulk.animalz.application.exceptions;
+
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+
+}
@@ -1,14 +1,20 @@
 package br.dev.ulk.animalz.application.exceptions.handler;
 
+import br.dev.ulk.animalz.application.exceptions.BadRequestException;
+import br.dev.ulk.animalz.application.exceptions.PayloadTooLargeException;
+import br.dev.ulk.animalz.application.exceptions.PreconditionFailedException;
 import br.dev.ulk.animalz.application.exceptions.ResourceNotFoundException;
+import br.dev.ulk.animalz.application.exceptions.TooManyRequestsException;
 import br.dev.ulk.animalz.application.exceptions.payloads.ApiError;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -36,6 +42,73 @@ public class RestExceptionHandler {
         return new ResponseEntity<>(apiError, HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<ApiError> handleBadRequestException(BadRequestException ex) {
+        ApiError apiError = new ApiError(
+                LocalDateTime.now(),
+                HttpStatus.BAD_REQUEST.value(),
+                HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                httpServletRequest.getRequestURI(),
+                ex.getMessage(),
+                List.of(new ApiError.ApiSubError("request", "The request parameters are invalid."))
+        );
+        return new ResponseEntity<>(apiError, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ApiError> handlePreconditionFailedException(PreconditionFailedException ex) {
+        ApiError apiError = new ApiError(
+                LocalDateTime.now(),
+                HttpStatus.PRECONDITION_FAILED.value(),
+                HttpStatus.PRECONDITION_FAILED.getReasonPhrase(),
+                httpServletRequest.getRequestURI(),
+                ex.getMessage(),
+                List.of(new ApiError.ApiSubError("If-Match", "The resource was modified since the given ETag."))
+        );
+        return new ResponseEntity<>(apiError, HttpStatus.PRECONDITION_FAILED);
+    }
+
+    @ExceptionHandler(PayloadTooLargeException.class)
+    public ResponseEntity<ApiError> handlePayloadTooLargeException(PayloadTooLargeException ex) {
+        ApiError apiError = new ApiError(
+                LocalDateTime.now(),
+                HttpStatus.PAYLOAD_TOO_LARGE.value(),
+                HttpStatus.PAYLOAD_TOO_LARGE.getReasonPhrase(),
+                httpServletRequest.getRequestURI(),
+                ex.getMessage(),
+                List.of(new ApiError.ApiSubError("body", "The request body is larger than the server accepts."))
+        );
+        return new ResponseEntity<>(apiError, HttpStatus.PAYLOAD_TOO_LARGE);
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ApiError> handleTooManyRequestsException(TooManyRequestsException ex) {
+        ApiError apiError = new ApiError(
+                LocalDateTime.now(),
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase(),
+                httpServletRequest.getRequestURI(),
+                ex.getMessage(),
+                List.of(new ApiError.ApiSubError("Retry-After", "Retry the request after the given number of seconds."))
+        );
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(apiError);
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ApiError> handleOptimisticLockingFailureException(ObjectOptimisticLockingFailureException ex) {
+        ApiError apiError = new ApiError(
+                LocalDateTime.now(),
+                HttpStatus.CONFLICT.value(),
+                HttpStatus.CONFLICT.getReasonPhrase(),
+                httpServletRequest.getRequestURI(),
+                "The resource was modified by another request",
+                List.of(new ApiError.ApiSubError("version", "Reload the resource and retry the update."))
+        );
+        return new ResponseEntity<>(apiError, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiError> handleGlobalException(Exception ex) {
         ApiError apiError = new ApiError(
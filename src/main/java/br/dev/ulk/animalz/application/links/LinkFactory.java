@@ -0,0 +1,141 @@
+package br.dev.ulk.animalz.application.links;
+
+import br.dev.ulk.animalz.application.controllers.AnimalController;
+import br.dev.ulk.animalz.application.controllers.GroupController;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class LinkFactory {
+
+    private static final String TEMPLATES_ATTRIBUTE = LinkFactory.class.getName() + ".TEMPLATES";
+    private static final int MAX_BASE_URIS = 64;
+
+    private static final String ANIMALS_PATH = mappingOf(AnimalController.class);
+    private static final String GROUPS_PATH = mappingOf(GroupController.class);
+
+    private final Map<String, Templates> templatesByBaseUri = new ConcurrentHashMap<>();
+    private final ThreadLocal<Templates> boundTemplates = new ThreadLocal<>();
+
+    public Link linkToAnimals(LinkRelation relation) {
+        return Link.of(templates().animals(), relation);
+    }
+
+    public Link linkToAnimal(Long id, LinkRelation relation) {
+        return Link.of(templates().animal() + id, relation);
+    }
+
+    public Link linkToAnimalsPage(Long after, int limit, LinkRelation relation) {
+        return linkToAnimalsPage(after, limit, Map.of(), relation);
+    }
+
+    public Link linkToAnimalsPage(Long after, int limit, Map<String, ?> filters, LinkRelation relation) {
+        StringBuilder href = new StringBuilder(templates().animals());
+        href.append(after == null ? "?limit=" : "?after=" + after + "&limit=").append(limit);
+        filters.forEach((name, value) -> href.append('&').append(name).append('=')
+                .append(UriUtils.encodeQueryParam(String.valueOf(value), StandardCharsets.UTF_8)));
+        return Link.of(href.toString(), relation);
+    }
+
+    public Link linkToAnimalImport(String id, LinkRelation relation) {
+        return Link.of(templates().animal() + "import/" + id, relation);
+    }
+
+    public Link linkToAnimalImportRejections(String id, LinkRelation relation) {
+        return Link.of(templates().animal() + "import/" + id + "/rejections", relation);
+    }
+
+    public Link linkToAnimalChanges(String since, int limit, LinkRelation relation) {
+        return Link.of(templates().animal() + "changes?since=" + since + "&limit=" + limit, relation);
+    }
+
+    public String getBaseUri() {
+        return templates().baseUri();
+    }
+
+    // Streaming bodies are written after the request thread returned, so they bind the base URI read from the request.
+    public Binding bind(String baseUri) {
+        Templates previous = boundTemplates.get();
+        boundTemplates.set(templatesFor(baseUri));
+        return () -> {
+            if (previous == null) {
+                boundTemplates.remove();
+            } else {
+                boundTemplates.set(previous);
+            }
+        };
+    }
+
+    public Link linkToGroups(LinkRelation relation) {
+        return Link.of(templates().groups(), relation);
+    }
+
+    public Link linkToGroup(Long id, LinkRelation relation) {
+        return Link.of(templates().group() + id, relation);
+    }
+
+    private Templates templates() {
+        Templates bound = boundTemplates.get();
+        if (bound != null) {
+            return bound;
+        }
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return templatesFor("");
+        }
+
+        Templates templates = (Templates) attributes.getAttribute(TEMPLATES_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (templates == null) {
+            templates = templatesFor(ServletUriComponentsBuilder.fromCurrentServletMapping().toUriString());
+            attributes.setAttribute(TEMPLATES_ATTRIBUTE, templates, RequestAttributes.SCOPE_REQUEST);
+        }
+        return templates;
+    }
+
+    private Templates templatesFor(String baseUri) {
+        Templates templates = templatesByBaseUri.get(baseUri);
+        if (templates == null) {
+            if (templatesByBaseUri.size() >= MAX_BASE_URIS) {
+                templatesByBaseUri.clear();
+            }
+            templates = templatesByBaseUri.computeIfAbsent(baseUri, Templates::of);
+        }
+        return templates;
+    }
+
+    private static String mappingOf(Class<?> controller) {
+        RequestMapping mapping = AnnotatedElementUtils.findMergedAnnotation(controller, RequestMapping.class);
+        return mapping == null || mapping.path().length == 0 ? "" : mapping.path()[0];
+    }
+
+    public interface Binding extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+
+    private record Templates(String baseUri, String animals, String animal, String groups, String group) {
+
+        static Templates of(String baseUri) {
+            return new Templates(
+                    baseUri,
+                    baseUri + ANIMALS_PATH,
+                    baseUri + ANIMALS_PATH + "/",
+                    baseUri + GROUPS_PATH,
+                    baseUri + GROUPS_PATH + "/"
+            );
+        }
+    }
+}
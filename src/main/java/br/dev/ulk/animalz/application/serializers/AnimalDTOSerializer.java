@@ -0,0 +1,64 @@
+package br.dev.ulk.animalz.application.serializers;
+
+import br.dev.ulk.animalz.application.dtos.AnimalDTO;
+import br.dev.ulk.animalz.application.dtos.GroupDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+
+class AnimalDTOSerializer extends RepresentationModelSerializer<AnimalDTO> {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString SCIENTIFIC_NAME = new SerializedString("scientificName");
+    private static final SerializedString SPECIE = new SerializedString("specie");
+    private static final SerializedString SIZE = new SerializedString("size");
+    private static final SerializedString MASS = new SerializedString("mass");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString GROUP = new SerializedString("group");
+
+    private JsonSerializer<Object> groupSerializer;
+
+    AnimalDTOSerializer(JsonSerializer<Object> defaultSerializer, boolean hal) {
+        super(AnimalDTO.class, defaultSerializer, hal);
+    }
+
+    @Override
+    public void resolve(SerializerProvider provider) throws JsonMappingException {
+        super.resolve(provider);
+        groupSerializer = provider.findPrimaryPropertySerializer(GroupDTO.class, null);
+    }
+
+    @Override
+    protected void serializeFields(AnimalDTO value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        boolean sparse = value.isSparse();
+        writeNumberField(gen, ID, value.getId(), sparse);
+        writeStringField(gen, SCIENTIFIC_NAME, value.getScientificName(), sparse);
+        writeStringField(gen, SPECIE, value.getSpecie(), sparse);
+        writeNumberField(gen, SIZE, value.getSize(), sparse);
+        writeNumberField(gen, MASS, value.getMass(), sparse);
+        writeStringField(gen, STATUS, value.getStatus(), sparse);
+        if (value.getGroup() != null) {
+            gen.writeFieldName(GROUP);
+            groupSerializer.serialize(value.getGroup(), gen, provider);
+        } else if (!sparse) {
+            gen.writeFieldName(GROUP);
+            gen.writeNull();
+        }
+    }
+
+    @Override
+    protected boolean isSparse(AnimalDTO value) {
+        return value.isSparse();
+    }
+
+    @Override
+    protected RepresentationModelSerializer<AnimalDTO> withDefaultSerializer(JsonSerializer<Object> defaultSerializer) {
+        AnimalDTOSerializer serializer = new AnimalDTOSerializer(defaultSerializer, hal);
+        serializer.groupSerializer = groupSerializer;
+        return serializer;
+    }
+}
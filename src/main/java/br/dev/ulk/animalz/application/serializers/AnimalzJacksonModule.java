@@ -0,0 +1,49 @@
+package br.dev.ulk.animalz.application.serializers;
+
+import br.dev.ulk.animalz.application.dtos.AnimalDTO;
+import br.dev.ulk.animalz.application.dtos.GroupDTO;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AnimalzJacksonModule extends SimpleModule {
+
+    public AnimalzJacksonModule() {
+        super(AnimalzJacksonModule.class.getSimpleName());
+        setSerializerModifier(new DtoSerializerModifier());
+    }
+
+    private static class DtoSerializerModifier extends BeanSerializerModifier {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc, JsonSerializer<?> serializer) {
+            Class<?> beanClass = beanDesc.getBeanClass();
+            if ((beanClass != AnimalDTO.class && beanClass != GroupDTO.class) || !hasDefaultLayout(config, beanClass)) {
+                return serializer;
+            }
+
+            // Spring HATEOAS switches a copied mapper to HAL by mixing link rendering into RepresentationModel.
+            boolean hal = config.findMixInClassFor(RepresentationModel.class) != null;
+            JsonSerializer<Object> defaultSerializer = (JsonSerializer<Object>) serializer;
+            return beanClass == AnimalDTO.class
+                    ? new AnimalDTOSerializer(defaultSerializer, hal)
+                    : new GroupDTOSerializer(defaultSerializer, hal);
+        }
+
+        private static boolean hasDefaultLayout(SerializationConfig config, Class<?> beanClass) {
+            JsonInclude.Include inclusion = config.getDefaultPropertyInclusion(beanClass).getValueInclusion();
+            return config.getPropertyNamingStrategy() == null
+                    && !config.isEnabled(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+                    && config.findMixInClassFor(beanClass) == null
+                    && (inclusion == JsonInclude.Include.ALWAYS || inclusion == JsonInclude.Include.USE_DEFAULTS);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package br.dev.ulk.animalz.application.serializers;
+
+import br.dev.ulk.animalz.application.dtos.AnimalDTO;
+import br.dev.ulk.animalz.application.dtos.GroupDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+import java.util.List;
+
+class GroupDTOSerializer extends RepresentationModelSerializer<GroupDTO> {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString ANIMALS = new SerializedString("animals");
+
+    GroupDTOSerializer(JsonSerializer<Object> defaultSerializer, boolean hal) {
+        super(GroupDTO.class, defaultSerializer, hal);
+    }
+
+    @Override
+    protected void serializeFields(GroupDTO value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        writeNumberField(gen, ID, value.getId(), value.isSparse());
+        writeStringField(gen, NAME, value.getName(), value.isSparse());
+        if (value.getAnimals() != null) {
+            writeAnimals(value.getAnimals(), gen, provider);
+        }
+    }
+
+    @Override
+    protected boolean isSparse(GroupDTO value) {
+        return value.isSparse();
+    }
+
+    @Override
+    protected RepresentationModelSerializer<GroupDTO> withDefaultSerializer(JsonSerializer<Object> defaultSerializer) {
+        return new GroupDTOSerializer(defaultSerializer, hal);
+    }
+
+    // Looked up on use: resolving it eagerly would recurse, since the animal serializer resolves this one for its group.
+    private static void writeAnimals(List<AnimalDTO> animals, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        JsonSerializer<Object> animalSerializer = provider.findValueSerializer(AnimalDTO.class);
+        gen.writeFieldName(ANIMALS);
+        gen.writeStartArray();
+        for (int i = 0; i < animals.size(); i++) {
+            animalSerializer.serialize(animals.get(i), gen, provider);
+        }
+        gen.writeEndArray();
+    }
+}
@@ -0,0 +1,203 @@
+package br.dev.ulk.animalz.application.serializers;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.RepresentationModel;
+
+import java.io.IOException;
+import java.util.List;
+
+abstract class RepresentationModelSerializer<T extends RepresentationModel<?>> extends StdSerializer<T>
+        implements ContextualSerializer, ResolvableSerializer {
+
+    private static final SerializedString LINKS = new SerializedString("links");
+    private static final SerializedString HAL_LINKS = new SerializedString("_links");
+    private static final SerializedString REL = new SerializedString("rel");
+    private static final SerializedString HREF = new SerializedString("href");
+
+    protected final JsonSerializer<Object> defaultSerializer;
+    protected final boolean hal;
+
+    protected RepresentationModelSerializer(Class<T> type, JsonSerializer<Object> defaultSerializer, boolean hal) {
+        super(type);
+        this.defaultSerializer = defaultSerializer;
+        this.hal = hal;
+    }
+
+    protected abstract void serializeFields(T value, JsonGenerator gen, SerializerProvider provider) throws IOException;
+
+    protected abstract RepresentationModelSerializer<T> withDefaultSerializer(JsonSerializer<Object> defaultSerializer);
+
+    protected abstract boolean isSparse(T value);
+
+    @Override
+    public void serialize(T value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        List<Link> links = value.getLinks().toList();
+        if (!isPlain(links)) {
+            defaultSerializer.serialize(value, gen, provider);
+            return;
+        }
+
+        gen.writeStartObject(value);
+        serializeFields(value, gen, provider);
+        if (hal) {
+            writeHalLinks(links, gen);
+        } else if (!links.isEmpty() || !isSparse(value)) {
+            writeLinks(links, gen);
+        }
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(T value, JsonGenerator gen, SerializerProvider provider, TypeSerializer typeSer) throws IOException {
+        defaultSerializer.serializeWithType(value, gen, provider, typeSer);
+    }
+
+    @Override
+    public void resolve(SerializerProvider provider) throws JsonMappingException {
+        if (defaultSerializer instanceof ResolvableSerializer resolvable) {
+            resolvable.resolve(provider);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) throws JsonMappingException {
+        if (!(defaultSerializer instanceof ContextualSerializer contextual)) {
+            return this;
+        }
+        JsonSerializer<?> contextualized = contextual.createContextual(provider, property);
+        return contextualized == defaultSerializer ? this : withDefaultSerializer((JsonSerializer<Object>) contextualized);
+    }
+
+    // Sparse representations only carry the selected fields, which are the non-null ones.
+    protected static void writeNumberField(JsonGenerator gen, SerializedString name, Long value, boolean sparse) throws IOException {
+        if (value != null || !sparse) {
+            writeNumberField(gen, name, value);
+        }
+    }
+
+    protected static void writeNumberField(JsonGenerator gen, SerializedString name, Double value, boolean sparse) throws IOException {
+        if (value != null || !sparse) {
+            writeNumberField(gen, name, value);
+        }
+    }
+
+    protected static void writeStringField(JsonGenerator gen, SerializedString name, String value, boolean sparse) throws IOException {
+        if (value != null || !sparse) {
+            writeStringField(gen, name, value);
+        }
+    }
+
+    protected static void writeNumberField(JsonGenerator gen, SerializedString name, Long value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+
+    protected static void writeNumberField(JsonGenerator gen, SerializedString name, Double value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+
+    protected static void writeStringField(JsonGenerator gen, SerializedString name, String value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value);
+        }
+    }
+
+    // Links carrying anything beyond rel and href (titles, templates, ...) go through the reflective serializer.
+    private static boolean isPlain(List<Link> links) {
+        for (int i = 0; i < links.size(); i++) {
+            Link link = links.get(i);
+            if (isTemplated(link) || link.getHreflang() != null || link.getMedia() != null || link.getTitle() != null
+                    || link.getType() != null || link.getDeprecation() != null || link.getProfile() != null
+                    || link.getName() != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Link.isTemplated() parses the href into a UriTemplate; without a brace there is nothing to expand.
+    private static boolean isTemplated(Link link) {
+        return link.getHref().indexOf('{') >= 0 && link.isTemplated();
+    }
+
+    private static void writeLinks(List<Link> links, JsonGenerator gen) throws IOException {
+        gen.writeFieldName(LINKS);
+        gen.writeStartArray();
+        for (int i = 0; i < links.size(); i++) {
+            Link link = links.get(i);
+            gen.writeStartObject();
+            gen.writeFieldName(REL);
+            gen.writeString(link.getRel().value());
+            gen.writeFieldName(HREF);
+            gen.writeString(link.getHref());
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+    }
+
+    private static void writeHalLinks(List<Link> links, JsonGenerator gen) throws IOException {
+        if (links.isEmpty()) {
+            return;
+        }
+
+        gen.writeFieldName(HAL_LINKS);
+        gen.writeStartObject();
+        for (int i = 0; i < links.size(); i++) {
+            String rel = links.get(i).getRel().value();
+            if (indexOfRel(links, rel, 0) < i) {
+                continue;
+            }
+
+            gen.writeFieldName(rel);
+            if (indexOfRel(links, rel, i + 1) < 0) {
+                writeHalLink(links.get(i), gen);
+                continue;
+            }
+            gen.writeStartArray();
+            for (int j = i; j >= 0; j = indexOfRel(links, rel, j + 1)) {
+                writeHalLink(links.get(j), gen);
+            }
+            gen.writeEndArray();
+        }
+        gen.writeEndObject();
+    }
+
+    private static void writeHalLink(Link link, JsonGenerator gen) throws IOException {
+        gen.writeStartObject();
+        gen.writeFieldName(HREF);
+        gen.writeString(link.getHref());
+        gen.writeEndObject();
+    }
+
+    private static int indexOfRel(List<Link> links, String rel, int from) {
+        for (int i = from; i < links.size(); i++) {
+            if (links.get(i).getRel().value().equals(rel)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
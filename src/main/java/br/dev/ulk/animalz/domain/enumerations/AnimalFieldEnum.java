@@ -0,0 +1,29 @@
+package br.dev.ulk.animalz.domain.enumerations;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+@Getter
+@AllArgsConstructor
+public enum AnimalFieldEnum {
+
+    ID("id"),
+    SCIENTIFIC_NAME("scientificName"),
+    SPECIE("specie"),
+    SIZE("size"),
+    MASS("mass"),
+    STATUS("status"),
+    GROUP_ID("group.id"),
+    GROUP_NAME("group.name");
+
+    private final String path;
+
+    public static Optional<AnimalFieldEnum> fromValue(String value) {
+        return Arrays.stream(values())
+                .filter(field -> field.path.equals(value))
+                .findFirst();
+    }
+}
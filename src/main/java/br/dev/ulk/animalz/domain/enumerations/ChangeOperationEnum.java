@@ -0,0 +1,8 @@
+package br.dev.ulk.animalz.domain.enumerations;
+
+public enum ChangeOperationEnum {
+
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,23 @@
+package br.dev.ulk.animalz.domain.enumerations;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+@Getter
+@AllArgsConstructor
+public enum ContentEncodingEnum {
+
+    BROTLI("br"),
+    GZIP("gzip");
+
+    private final String token;
+
+    public static Optional<ContentEncodingEnum> fromValue(String value) {
+        return Arrays.stream(values())
+                .filter(encoding -> encoding.token.equalsIgnoreCase(value))
+                .findFirst();
+    }
+}
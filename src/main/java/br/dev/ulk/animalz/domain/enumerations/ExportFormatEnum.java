@@ -0,0 +1,24 @@
+package br.dev.ulk.animalz.domain.enumerations;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+@Getter
+@AllArgsConstructor
+public enum ExportFormatEnum {
+
+    NDJSON("ndjson", "application/x-ndjson"),
+    CSV("csv", "text/csv");
+
+    private final String extension;
+    private final String mediaType;
+
+    public static Optional<ExportFormatEnum> fromValue(String value) {
+        return Arrays.stream(values())
+                .filter(format -> format.extension.equalsIgnoreCase(value))
+                .findFirst();
+    }
+}
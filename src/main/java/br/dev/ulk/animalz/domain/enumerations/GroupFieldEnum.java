@@ -0,0 +1,23 @@
+package br.dev.ulk.animalz.domain.enumerations;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+@Getter
+@AllArgsConstructor
+public enum GroupFieldEnum {
+
+    ID("id"),
+    NAME("name");
+
+    private final String path;
+
+    public static Optional<GroupFieldEnum> fromValue(String value) {
+        return Arrays.stream(values())
+                .filter(field -> field.path.equals(value))
+                .findFirst();
+    }
+}
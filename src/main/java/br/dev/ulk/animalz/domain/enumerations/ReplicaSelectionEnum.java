@@ -0,0 +1,7 @@
+package br.dev.ulk.animalz.domain.enumerations;
+
+public enum ReplicaSelectionEnum {
+
+    ROUND_ROBIN,
+    LEAST_CONNECTIONS
+}
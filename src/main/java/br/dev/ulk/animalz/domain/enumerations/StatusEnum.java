@@ -4,6 +4,9 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.Arrays;
+import java.util.Optional;
+
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -13,4 +16,10 @@ public enum StatusEnum {
     INACTIVE("INACTIVE");
 
     private String description;
+
+    public static Optional<StatusEnum> fromValue(String value) {
+        return Arrays.stream(values())
+                .filter(status -> status.description.equalsIgnoreCase(value))
+                .findFirst();
+    }
 }
@@ -0,0 +1,45 @@
+package br.dev.ulk.animalz.domain.models;
+
+import br.dev.ulk.animalz.domain.enumerations.ChangeOperationEnum;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "ANIMAL_CHANGES")
+public class AnimalChange {
+
+    // Assigned from ANIMAL_CHANGE_COUNTER when the writing transaction commits, see AnimalChangeLog.
+    @Id
+    @Column(name = "ID")
+    private Long id;
+
+    @NotNull
+    @Column(name = "ANIMAL_ID")
+    private Long animalId;
+
+    @NotNull
+    @Column(name = "OPERATION")
+    @Enumerated(EnumType.STRING)
+    private ChangeOperationEnum operation;
+
+    @NotNull
+    @Column(name = "CHANGED_AT")
+    private Instant changedAt;
+}
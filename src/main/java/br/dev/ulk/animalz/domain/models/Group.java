@@ -6,13 +6,18 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Generated;
+import org.hibernate.generator.EventType;
 
 import java.util.Set;
 
@@ -23,17 +28,27 @@ import java.util.Set;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "GROUPS")
+@BatchSize(size = 50)
 public class Group {
 
     @Id
     @Column(name = "ID")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "groups_seq")
+    @SequenceGenerator(name = "groups_seq", sequenceName = "GROUPS_SEQ", initialValue = 100, allocationSize = 50)
     private Long id;
 
     @NotNull
     @Column(name = "NAME")
     private String name;
 
+    @Generated(event = {EventType.INSERT, EventType.UPDATE})
+    @Column(name = "NAME_LOWER", insertable = false, updatable = false)
+    private String nameLower;
+
     @OneToMany(mappedBy = "group")
     private Set<Animal> animals;
+
+    @Version
+    @Column(name = "VERSION")
+    private Long version;
 }
@@ -0,0 +1,9 @@
+package br.dev.ulk.animalz.domain.projections;
+
+import br.dev.ulk.animalz.domain.models.AnimalChange;
+
+import java.util.List;
+import java.util.Map;
+
+public record AnimalChangePage(List<AnimalChange> changes, Map<Long, AnimalView> animals, long token, boolean hasMore) {
+}
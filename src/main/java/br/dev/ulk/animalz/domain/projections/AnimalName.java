@@ -0,0 +1,4 @@
+package br.dev.ulk.animalz.domain.projections;
+
+public record AnimalName(Long id, String scientificName, String specie) {
+}
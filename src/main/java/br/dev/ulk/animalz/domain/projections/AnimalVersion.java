@@ -0,0 +1,8 @@
+package br.dev.ulk.animalz.domain.projections;
+
+public record AnimalVersion(Long version, Long groupVersion) {
+
+    public String eTag() {
+        return version + "." + groupVersion;
+    }
+}
@@ -0,0 +1,25 @@
+package br.dev.ulk.animalz.domain.projections;
+
+import br.dev.ulk.animalz.domain.enumerations.StatusEnum;
+
+// The versions are only read by the single animal queries, which build the ETag from the row they return.
+public record AnimalView(Long id,
+                         String scientificName,
+                         String specie,
+                         Double size,
+                         Double mass,
+                         StatusEnum status,
+                         Long groupId,
+                         String groupName,
+                         Long version,
+                         Long groupVersion) {
+
+    public AnimalView(Long id, String scientificName, String specie, Double size, Double mass, StatusEnum status,
+                      Long groupId, String groupName) {
+        this(id, scientificName, specie, size, mass, status, groupId, groupName, null, null);
+    }
+
+    public AnimalVersion animalVersion() {
+        return version == null ? null : new AnimalVersion(version, groupVersion);
+    }
+}
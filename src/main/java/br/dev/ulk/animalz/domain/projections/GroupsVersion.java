@@ -0,0 +1,12 @@
+package br.dev.ulk.animalz.domain.projections;
+
+public record GroupsVersion(Long count, Long maxId, Long versionSum) {
+
+    public String eTag() {
+        return count + "." + maxId + "." + versionSum;
+    }
+
+    public String eTag(long animalsSequence) {
+        return eTag() + "." + animalsSequence;
+    }
+}
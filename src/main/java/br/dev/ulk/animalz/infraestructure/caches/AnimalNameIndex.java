@@ -0,0 +1,132 @@
+package br.dev.ulk.animalz.infraestructure.caches;
+
+import br.dev.ulk.animalz.domain.projections.AnimalName;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+@Component
+public class AnimalNameIndex implements MeterBinder {
+
+    private static final String CACHE_NAME = "animal-names";
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final NavigableMap<String, AnimalName> namesByKey = new ConcurrentSkipListMap<>();
+    private final Map<Long, AnimalName> namesById = new ConcurrentHashMap<>();
+
+    // Changes committed while a load is running, replayed over its snapshot once it finishes. Guarded by this.
+    private List<Runnable> pendingChanges;
+
+    public List<AnimalName> search(String prefix, int limit) {
+        String normalizedPrefix = normalize(prefix);
+        LinkedHashSet<AnimalName> results = new LinkedHashSet<>();
+        for (Map.Entry<String, AnimalName> entry : namesByKey.tailMap(normalizedPrefix).entrySet()) {
+            if (results.size() == limit || !entry.getKey().startsWith(normalizedPrefix)) {
+                break;
+            }
+            results.add(entry.getValue());
+        }
+        return new ArrayList<>(results);
+    }
+
+    public void put(Long id, String scientificName, String specie) {
+        AnimalName name = new AnimalName(id, scientificName, specie);
+        afterCommit(() -> apply(id, name));
+    }
+
+    public void remove(Long id) {
+        afterCommit(() -> apply(id, null));
+    }
+
+    // The snapshot is opened only after buffering starts, so every change it may miss is replayed over it afterwards.
+    public void load(Supplier<Stream<AnimalName>> names) {
+        synchronized (this) {
+            pendingChanges = new ArrayList<>();
+        }
+        try (Stream<AnimalName> snapshot = names.get()) {
+            snapshot.forEach(name -> {
+                synchronized (this) {
+                    if (namesById.putIfAbsent(name.id(), name) == null) {
+                        addKeys(name);
+                    }
+                }
+            });
+        } finally {
+            synchronized (this) {
+                pendingChanges.forEach(Runnable::run);
+                pendingChanges = null;
+            }
+        }
+    }
+
+    public long size() {
+        return namesById.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("cache.size", this, AnimalNameIndex::size)
+                .tag("cache", CACHE_NAME)
+                .description("The number of entries in this cache.")
+                .register(registry);
+    }
+
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyOrDefer(change);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applyOrDefer(change);
+            }
+        });
+    }
+
+    private synchronized void applyOrDefer(Runnable change) {
+        if (pendingChanges != null) {
+            pendingChanges.add(change);
+        } else {
+            change.run();
+        }
+    }
+
+    private synchronized void apply(Long id, AnimalName name) {
+        AnimalName previous = name == null ? namesById.remove(id) : namesById.put(id, name);
+        if (previous != null) {
+            namesByKey.remove(key(previous.scientificName(), id));
+            namesByKey.remove(key(previous.specie(), id));
+        }
+        if (name != null) {
+            addKeys(name);
+        }
+    }
+
+    private void addKeys(AnimalName name) {
+        namesByKey.put(key(name.scientificName(), name.id()), name);
+        namesByKey.put(key(name.specie(), name.id()), name);
+    }
+
+    private static String key(String name, Long id) {
+        return normalize(name) + KEY_SEPARATOR + id;
+    }
+
+    private static String normalize(String name) {
+        return name == null ? "" : name.strip().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,82 @@
+package br.dev.ulk.animalz.infraestructure.caches;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+@Component
+public class CompressedResponseCache implements MeterBinder {
+
+    private static final String CACHE_NAME = "compressed-responses";
+
+    @Value("${application.cache.compressed-responses.max-size:256}")
+    private int maxSize = 256;
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > maxSize;
+        }
+    };
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public byte[] get(String key, byte[] body, UnaryOperator<byte[]> compressor) {
+        byte[] digest = digest(body);
+        synchronized (this) {
+            Entry cached = entries.get(key);
+            if (cached != null && MessageDigest.isEqual(cached.digest(), digest)) {
+                hits.increment();
+                return cached.compressed();
+            }
+        }
+
+        misses.increment();
+        byte[] compressed = compressor.apply(body);
+        synchronized (this) {
+            entries.put(key, new Entry(digest, compressed));
+        }
+        return compressed;
+    }
+
+    public synchronized long size() {
+        return entries.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+                .tags("cache", CACHE_NAME, "result", "hit")
+                .description("The number of times cache lookup methods have returned a cached value.")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+                .tags("cache", CACHE_NAME, "result", "miss")
+                .description("The number of times cache lookup methods have returned an uncached value.")
+                .register(registry);
+        Gauge.builder("cache.size", this, CompressedResponseCache::size)
+                .tag("cache", CACHE_NAME)
+                .description("The number of entries in this cache.")
+                .register(registry);
+    }
+
+    private static byte[] digest(byte[] body) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(body);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Entry(byte[] digest, byte[] compressed) {
+    }
+}
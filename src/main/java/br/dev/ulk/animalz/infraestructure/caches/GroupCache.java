@@ -0,0 +1,127 @@
+package br.dev.ulk.animalz.infraestructure.caches;
+
+import br.dev.ulk.animalz.domain.models.Group;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+@Component
+public class GroupCache implements MeterBinder {
+
+    private static final String CACHE_NAME = "groups";
+
+    @Value("${application.cache.groups.max-size:1000}")
+    private int maxSize = 1000;
+
+    private final Map<Long, Group> groupsById = new BoundedMap<>();
+    private final Map<String, Group> groupsByName = new BoundedMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public Optional<Group> findById(Long id, Function<Long, Optional<Group>> loader) {
+        return find(groupsById, id, loader);
+    }
+
+    public Optional<Group> findByName(String name, Function<String, Optional<Group>> loader) {
+        return find(groupsByName, name.toLowerCase(Locale.ROOT), key -> loader.apply(name));
+    }
+
+    public void invalidateAll() {
+        clear();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clear();
+                }
+            });
+        }
+    }
+
+    public long size() {
+        synchronized (this) {
+            return groupsById.size();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+                .tags("cache", CACHE_NAME, "result", "hit")
+                .description("The number of times cache lookup methods have returned a cached value.")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+                .tags("cache", CACHE_NAME, "result", "miss")
+                .description("The number of times cache lookup methods have returned an uncached value.")
+                .register(registry);
+        Gauge.builder("cache.size", this, GroupCache::size)
+                .tag("cache", CACHE_NAME)
+                .description("The number of entries in this cache.")
+                .register(registry);
+    }
+
+    private <K> Optional<Group> find(Map<K, Group> cache, K key, Function<K, Optional<Group>> loader) {
+        long loadGeneration;
+        synchronized (this) {
+            Group cached = cache.get(key);
+            if (cached != null) {
+                hits.increment();
+                return Optional.of(cached);
+            }
+            loadGeneration = generation.get();
+        }
+
+        misses.increment();
+        Optional<Group> loaded = loader.apply(key).map(GroupCache::detachedCopy);
+        loaded.ifPresent(group -> {
+            synchronized (this) {
+                if (generation.get() == loadGeneration) {
+                    groupsById.put(group.getId(), group);
+                    groupsByName.put(group.getName().toLowerCase(Locale.ROOT), group);
+                }
+            }
+        });
+        return loaded;
+    }
+
+    private synchronized void clear() {
+        generation.incrementAndGet();
+        groupsById.clear();
+        groupsByName.clear();
+    }
+
+    private static Group detachedCopy(Group group) {
+        return Group.builder()
+                .id(group.getId())
+                .name(group.getName())
+                .nameLower(group.getNameLower())
+                .version(group.getVersion())
+                .build();
+    }
+
+    private class BoundedMap<K> extends LinkedHashMap<K, Group> {
+
+        BoundedMap() {
+            super(16, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, Group> eldest) {
+            return size() > maxSize;
+        }
+    }
+}
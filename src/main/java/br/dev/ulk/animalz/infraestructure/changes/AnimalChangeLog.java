@@ -0,0 +1,72 @@
+package br.dev.ulk.animalz.infraestructure.changes;
+
+import br.dev.ulk.animalz.domain.enumerations.ChangeOperationEnum;
+import br.dev.ulk.animalz.domain.models.AnimalChange;
+import br.dev.ulk.animalz.infraestructure.repositories.AnimalChangeRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class AnimalChangeLog {
+
+    @Autowired
+    private AnimalChangeRepository animalChangeRepository;
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional
+    public void record(Long animalId, ChangeOperationEnum operation) {
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.changes.add(AnimalChange.builder()
+                .animalId(animalId)
+                .operation(operation)
+                .changedAt(Instant.now())
+                .build());
+    }
+
+    public long getLastSequence() {
+        return animalChangeRepository.findLastSequence();
+    }
+
+    // Sequences are reserved right before the commit: the counter row stays locked until the transaction ends, so a
+    // later sequence can only become visible after every earlier one and readers never skip an uncommitted gap.
+    private void append(List<AnimalChange> changes) {
+        animalChangeRepository.incrementLastSequence(changes.size());
+        long sequence = animalChangeRepository.findLastSequence() - changes.size();
+        for (AnimalChange change : changes) {
+            change.setId(++sequence);
+            entityManager.persist(change);
+        }
+    }
+
+    private class PendingChanges implements TransactionSynchronization {
+
+        private final List<AnimalChange> changes = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (!changes.isEmpty()) {
+                append(changes);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(AnimalChangeLog.this);
+        }
+    }
+}
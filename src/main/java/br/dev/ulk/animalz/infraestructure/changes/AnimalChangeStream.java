@@ -0,0 +1,192 @@
+package br.dev.ulk.animalz.infraestructure.changes;
+
+import br.dev.ulk.animalz.application.dtos.AnimalChangeDTO;
+import br.dev.ulk.animalz.application.links.LinkFactory;
+import br.dev.ulk.animalz.domain.projections.AnimalChangePage;
+import br.dev.ulk.animalz.infraestructure.services.AnimalChangeService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+public class AnimalChangeStream implements MeterBinder {
+
+    public static final String SUBSCRIBERS_NAME = "animalz.changes.subscribers";
+    public static final String EVENT_NAME = "change";
+
+    @Value("${application.changes.stream-timeout:30m}")
+    private Duration streamTimeout = Duration.ofMinutes(30);
+
+    @Value("${application.changes.keep-alive-interval:15s}")
+    private Duration keepAliveInterval = Duration.ofSeconds(15);
+
+    @Value("${application.changes.subscriber-queue-size:1000}")
+    private int subscriberQueueSize = 1000;
+
+    @Autowired
+    private AnimalChangeService animalChangeService;
+    @Autowired
+    private LinkFactory linkFactory;
+    @Autowired
+    private TaskExecutor applicationTaskExecutor;
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    // Called on the request thread, so the links of the events point at the host the client connected to.
+    public SseEmitter subscribe(long cursor) {
+        Subscriber subscriber = new Subscriber(new SseEmitter(streamTimeout.toMillis()), linkFactory.getBaseUri(), cursor);
+        subscriber.emitter.onCompletion(() -> subscribers.remove(subscriber));
+        subscriber.emitter.onTimeout(() -> subscribers.remove(subscriber));
+        subscriber.emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        return subscriber.emitter;
+    }
+
+    public int size() {
+        return subscribers.size();
+    }
+
+    // A single query per page serves every subscriber: the page starts at the oldest cursor and each subscriber only
+    // receives the changes past its own. Events are queued here and written by the executor, so a slow client only
+    // delays itself.
+    @Scheduled(fixedDelayString = "${application.changes.poll-interval:1000}")
+    public void poll() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        long cursor = subscribers.stream().mapToLong(subscriber -> subscriber.cursor).min().orElseThrow();
+        AnimalChangePage page;
+        do {
+            page = animalChangeService.getChangePage(cursor, AnimalChangeService.MAX_CHANGES_SIZE);
+            cursor = page.token();
+            Map<String, List<AnimalChangeDTO>> changesByBaseUri = new HashMap<>();
+            for (Subscriber subscriber : subscribers) {
+                AnimalChangePage current = page;
+                subscriber.enqueue(changesByBaseUri.computeIfAbsent(subscriber.baseUri, baseUri -> toChangeDTOs(baseUri, current)), cursor);
+                subscriber.drain();
+            }
+        } while (page.hasMore() && !subscribers.isEmpty());
+
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            if (now - subscriber.lastSent >= keepAliveInterval.toNanos()) {
+                subscriber.keepAlive();
+                subscriber.drain();
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(SUBSCRIBERS_NAME, this, AnimalChangeStream::size)
+                .description("Number of open change stream connections")
+                .register(registry);
+    }
+
+    private List<AnimalChangeDTO> toChangeDTOs(String baseUri, AnimalChangePage page) {
+        try (LinkFactory.Binding ignored = linkFactory.bind(baseUri)) {
+            return animalChangeService.toChangeDTOs(page);
+        }
+    }
+
+    private class Subscriber {
+
+        private final SseEmitter emitter;
+        private final String baseUri;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> events = new ArrayBlockingQueue<>(subscriberQueueSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private long cursor;
+        private volatile long lastSent = System.nanoTime();
+
+        Subscriber(SseEmitter emitter, String baseUri, long cursor) {
+            this.emitter = emitter;
+            this.baseUri = baseUri;
+            this.cursor = cursor;
+        }
+
+        void enqueue(List<AnimalChangeDTO> changes, long token) {
+            for (AnimalChangeDTO change : changes) {
+                if (change.getSequence() <= cursor) {
+                    continue;
+                }
+                if (!offer(SseEmitter.event()
+                        .id(String.valueOf(change.getSequence()))
+                        .name(EVENT_NAME)
+                        .data(change, MediaType.APPLICATION_JSON))) {
+                    return;
+                }
+                cursor = change.getSequence();
+            }
+            cursor = Math.max(cursor, token);
+        }
+
+        void keepAlive() {
+            if (events.isEmpty()) {
+                offer(SseEmitter.event().comment("keep-alive"));
+            } else if (events.remainingCapacity() == 0) {
+                close();
+            }
+        }
+
+        // A full queue holds the cursor back, so the next polls resume where it stopped. A client that accepted nothing
+        // for a whole keep-alive interval is dropped instead; it resumes from its Last-Event-ID when it reconnects.
+        private boolean offer(SseEmitter.SseEventBuilder event) {
+            if (events.offer(event)) {
+                return true;
+            }
+            if (System.nanoTime() - lastSent >= keepAliveInterval.toNanos()) {
+                close();
+            }
+            return false;
+        }
+
+        void drain() {
+            if (!events.isEmpty() && draining.compareAndSet(false, true)) {
+                applicationTaskExecutor.execute(this::send);
+            }
+        }
+
+        private void send() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while ((event = events.poll()) != null) {
+                    emitter.send(event);
+                    lastSent = System.nanoTime();
+                }
+            } catch (IOException | IllegalStateException e) {
+                close();
+            } finally {
+                draining.set(false);
+            }
+            // Events queued after the last poll() above and before the flag was cleared would wait for the next poll.
+            if (!events.isEmpty() && subscribers.contains(this)) {
+                drain();
+            }
+        }
+
+        // Dead connections are only noticed on write, so they are dropped here instead of waiting for the timeout.
+        private void close() {
+            subscribers.remove(this);
+            events.clear();
+            emitter.complete();
+        }
+    }
+}
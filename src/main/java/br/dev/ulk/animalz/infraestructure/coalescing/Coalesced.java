@@ -0,0 +1,14 @@
+package br.dev.ulk.animalz.infraestructure.coalescing;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Coalesced {
+
+    // Name of the read, used as the metrics tag; calls are shared by read name and arguments.
+    String value();
+}
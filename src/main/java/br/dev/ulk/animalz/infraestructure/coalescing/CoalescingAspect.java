@@ -0,0 +1,55 @@
+package br.dev.ulk.animalz.infraestructure.coalescing;
+
+import br.dev.ulk.animalz.application.dtos.AnimalDTO;
+import br.dev.ulk.animalz.application.links.LinkFactory;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Runs outside the transaction advice, so callers waiting for a shared result do not hold a connection.
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class CoalescingAspect {
+
+    @Value("${application.coalescing.enabled:true}")
+    private boolean enabled = true;
+
+    @Autowired
+    private SingleFlight singleFlight;
+
+    @Autowired
+    private LinkFactory linkFactory;
+
+    @Around("@annotation(coalesced)")
+    public Object coalesce(ProceedingJoinPoint joinPoint, Coalesced coalesced) throws Throwable {
+        if (!enabled) {
+            return joinPoint.proceed();
+        }
+
+        // Results carry links built from the request's base URI, so only requests to the same base URI share them.
+        List<Object> key = List.of(linkFactory.getBaseUri(), Arrays.asList(joinPoint.getArgs()));
+        return singleFlight.execute(coalesced.value(), key, joinPoint::proceed, CoalescingAspect::copy);
+    }
+
+    // DTOs are mutable, so callers sharing a computation must not share the instances it returned.
+    private static Object copy(Object result) {
+        if (result instanceof AnimalDTO animalDTO) {
+            return AnimalDTO.copyOf(animalDTO);
+        }
+        if (result instanceof List<?> list) {
+            return list.stream().map(CoalescingAspect::copy).collect(Collectors.toCollection(ArrayList::new));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,128 @@
+package br.dev.ulk.animalz.infraestructure.coalescing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+
+@Component
+public class SingleFlight implements TransactionExecutionListener {
+
+    public static final String CALLS_NAME = "animalz.coalescing.calls";
+    public static final String SHARED_NAME = "animalz.coalescing.shared";
+
+    private final ConcurrentMap<Key, Flight> flights = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final ConcurrentMap<CallsKey, Counter> calls = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, DistributionSummary> shared = new ConcurrentHashMap<>();
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    public Object execute(String read, Object key, Call call) throws Throwable {
+        return execute(read, key, call, UnaryOperator.identity());
+    }
+
+    // The shared result stays in the flight and every caller, the one that ran it included, gets its own copy.
+    public Object execute(String read, Object key, Call call, UnaryOperator<Object> copy) throws Throwable {
+        Key flightKey = new Key(read, key);
+        long startedAt = generation.get();
+        Flight flight = new Flight(startedAt);
+        // A flight that started before the last write commit may miss it, so later callers start their own. A caller
+        // that read an older generation can use a newer flight, and must not replace it.
+        Flight current = flights.compute(flightKey, (ignored, existing) -> {
+            if (existing != null && existing.generation >= startedAt) {
+                existing.followers.incrementAndGet();
+                return existing;
+            }
+            return flight;
+        });
+
+        if (current != flight) {
+            count(read, "coalesced");
+            return copy.apply(await(current));
+        }
+
+        count(read, "executed");
+        try {
+            Object result = call.proceed();
+            flight.result.complete(result);
+            return copy.apply(result);
+        } catch (Throwable ex) {
+            flight.result.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            flights.remove(flightKey, flight);
+            shared.computeIfAbsent(read, ignored -> DistributionSummary.builder(SHARED_NAME)
+                            .description("Number of callers that shared each coalesced computation, including the one that ran it")
+                            .tag("read", read)
+                            .register(meterRegistry))
+                    .record(flight.followers.get() + 1);
+        }
+    }
+
+    public int size() {
+        return flights.size();
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure == null && !transaction.isReadOnly()) {
+            generation.incrementAndGet();
+        }
+    }
+
+    private void count(String read, String outcome) {
+        calls.computeIfAbsent(new CallsKey(read, outcome), key -> Counter.builder(CALLS_NAME)
+                        .description("Number of coalescable calls, by whether they ran the computation or waited for another caller's")
+                        .tags("read", key.read(), "outcome", key.outcome())
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    private static Object await(Flight flight) throws Throwable {
+        try {
+            return flight.result.get();
+        } catch (ExecutionException ex) {
+            throw ex.getCause();
+        } catch (InterruptedException ex) {
+            // Checked, and not declared by the coalesced methods, so it would surface as an UndeclaredThrowableException.
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a shared computation", ex);
+        }
+    }
+
+    @FunctionalInterface
+    public interface Call {
+
+        Object proceed() throws Throwable;
+    }
+
+    private record Key(String read, Object key) {
+    }
+
+    private record CallsKey(String read, String outcome) {
+    }
+
+    private static class Flight {
+
+        private final long generation;
+        private final AtomicInteger followers = new AtomicInteger();
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        Flight(long generation) {
+            this.generation = generation;
+        }
+    }
+}
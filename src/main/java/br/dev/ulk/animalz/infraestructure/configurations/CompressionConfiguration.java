@@ -0,0 +1,14 @@
+package br.dev.ulk.animalz.infraestructure.configurations;
+
+import br.dev.ulk.animalz.infraestructure.filters.ResponseCompressionFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CompressionConfiguration {
+
+    @Bean
+    public ResponseCompressionFilter responseCompressionFilter() {
+        return new ResponseCompressionFilter();
+    }
+}
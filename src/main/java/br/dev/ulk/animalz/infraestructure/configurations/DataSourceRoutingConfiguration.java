@@ -0,0 +1,82 @@
+package br.dev.ulk.animalz.infraestructure.configurations;
+
+import br.dev.ulk.animalz.domain.enumerations.ReplicaSelectionEnum;
+import br.dev.ulk.animalz.infraestructure.datasources.ReadReplicaDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty("application.datasource.replicas.urls")
+public class DataSourceRoutingConfiguration {
+
+    @Value("${application.datasource.replicas.urls}")
+    private List<String> replicaUrls;
+
+    @Value("${application.datasource.replicas.selection:ROUND_ROBIN}")
+    private ReplicaSelectionEnum selection = ReplicaSelectionEnum.ROUND_ROBIN;
+
+    @Value("${application.datasource.replicas.read-your-writes-window:0ms}")
+    private Duration readYourWritesWindow = Duration.ZERO;
+
+    @Autowired
+    private DataSourceProperties dataSourceProperties;
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource() {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReadReplicaDataSource replicaDataSource(HikariDataSource primaryDataSource) {
+        List<HikariDataSource> replicas = new ArrayList<>(replicaUrls.size());
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariConfig config = new HikariConfig();
+            Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(config));
+            config.setJdbcUrl(replicaUrls.get(i).trim());
+            config.setUsername(dataSourceProperties.determineUsername());
+            config.setPassword(dataSourceProperties.determinePassword());
+            config.setDriverClassName(dataSourceProperties.determineDriverClassName());
+            config.setPoolName("replica-" + (i + 1));
+            config.setReadOnly(true);
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(new HikariDataSource(config));
+        }
+        return new ReadReplicaDataSource(primaryDataSource, replicas, selection, readYourWritesWindow);
+    }
+
+    // Read-only transactions mark the lazy connection as read-only before Hibernate issues its first statement,
+    // which is when the proxy decides between the primary and the replica pool.
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReadReplicaDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        return dataSource;
+    }
+}
@@ -0,0 +1,52 @@
+package br.dev.ulk.animalz.infraestructure.configurations;
+
+import br.dev.ulk.animalz.application.converters.AnimalzProtobufHttpMessageConverter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+import java.util.ListIterator;
+
+@Configuration
+public class MessageConverterConfiguration implements WebMvcConfigurer {
+
+    @Autowired
+    private Jackson2ObjectMapperBuilder objectMapperBuilder;
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        MappingJackson2CborHttpMessageConverter cbor = new MappingJackson2CborHttpMessageConverter(objectMapperBuilder.factory(new CBORFactory()).build());
+        MappingJackson2SmileHttpMessageConverter smile = new MappingJackson2SmileHttpMessageConverter(objectMapperBuilder.factory(new SmileFactory()).build());
+
+        // Spring MVC registers its own CBOR/Smile converters when the libraries are present; swap them in place
+        // so both binary formats share the Boot mapper configuration and modules.
+        boolean cborFound = false;
+        boolean smileFound = false;
+        for (ListIterator<HttpMessageConverter<?>> iterator = converters.listIterator(); iterator.hasNext(); ) {
+            HttpMessageConverter<?> converter = iterator.next();
+            if (converter instanceof MappingJackson2CborHttpMessageConverter && !cborFound) {
+                iterator.set(cbor);
+                cborFound = true;
+            } else if (converter instanceof MappingJackson2SmileHttpMessageConverter && !smileFound) {
+                iterator.set(smile);
+                smileFound = true;
+            }
+        }
+
+        // Appended after the JSON converters so that */* and missing Accept headers keep resolving to JSON/HAL.
+        if (!cborFound) {
+            converters.add(cbor);
+        }
+        if (!smileFound) {
+            converters.add(smile);
+        }
+        converters.add(new AnimalzProtobufHttpMessageConverter());
+    }
+}
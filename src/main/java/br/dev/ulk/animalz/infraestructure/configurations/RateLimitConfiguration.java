@@ -0,0 +1,21 @@
+package br.dev.ulk.animalz.infraestructure.configurations;
+
+import br.dev.ulk.animalz.infraestructure.ratelimit.RateLimitInterceptor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class RateLimitConfiguration implements WebMvcConfigurer {
+
+    @Bean
+    public RateLimitInterceptor rateLimitInterceptor() {
+        return new RateLimitInterceptor();
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(rateLimitInterceptor()).addPathPatterns("/api/animals/**", "/api/groups/**");
+    }
+}
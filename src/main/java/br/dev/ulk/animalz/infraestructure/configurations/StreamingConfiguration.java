@@ -0,0 +1,21 @@
+package br.dev.ulk.animalz.infraestructure.configurations;
+
+import br.dev.ulk.animalz.infraestructure.streaming.StreamingTimeoutInterceptor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class StreamingConfiguration implements WebMvcConfigurer {
+
+    @Bean
+    public StreamingTimeoutInterceptor streamingTimeoutInterceptor() {
+        return new StreamingTimeoutInterceptor();
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(streamingTimeoutInterceptor());
+    }
+}
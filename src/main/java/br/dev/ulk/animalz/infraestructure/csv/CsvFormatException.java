@@ -0,0 +1,10 @@
+package br.dev.ulk.animalz.infraestructure.csv;
+
+import java.io.IOException;
+
+public class CsvFormatException extends IOException {
+
+    public CsvFormatException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,111 @@
+package br.dev.ulk.animalz.infraestructure.csv;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+public class CsvReader implements Closeable {
+
+    private static final int END = -1;
+    private static final int NONE = -2;
+
+    private final Reader reader;
+    private final int maxRecordLength;
+    private final StringBuilder field = new StringBuilder();
+
+    private long line = 1;
+    private long recordLine;
+    private int pushedBack = NONE;
+
+    public CsvReader(Reader reader, int maxRecordLength) {
+        this.reader = reader instanceof BufferedReader ? reader : new BufferedReader(reader, 16 * 1024);
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    // Returns the next record, or null at the end of the input. Blank lines are skipped.
+    public List<String> next() throws IOException {
+        List<String> fields = new ArrayList<>();
+        field.setLength(0);
+        recordLine = line;
+        boolean quoted = false;
+        int length = 0;
+
+        while (true) {
+            int c = read();
+            if (c == END) {
+                if (quoted) {
+                    throw new CsvFormatException("Unterminated quoted field in record starting at line " + recordLine);
+                }
+                if (fields.isEmpty() && length == 0) {
+                    return null;
+                }
+                fields.add(field.toString());
+                return fields;
+            }
+            if (++length > maxRecordLength) {
+                throw new CsvFormatException("Record starting at line " + recordLine + " is longer than " + maxRecordLength + " characters");
+            }
+
+            if (quoted) {
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        pushedBack = next;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n') {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        pushedBack = next;
+                    }
+                }
+                line++;
+                if (fields.isEmpty() && field.isEmpty()) {
+                    recordLine = line;
+                    length = 0;
+                    continue;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else {
+                field.append((char) c);
+            }
+        }
+    }
+
+    // Line number, starting at 1, where the record returned by the last call to next() begins.
+    public long getLine() {
+        return recordLine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != NONE) {
+            int c = pushedBack;
+            pushedBack = NONE;
+            return c;
+        }
+        return reader.read();
+    }
+}
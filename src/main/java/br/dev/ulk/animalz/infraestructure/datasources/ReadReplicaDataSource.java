@@ -0,0 +1,92 @@
+package br.dev.ulk.animalz.infraestructure.datasources;
+
+import br.dev.ulk.animalz.domain.enumerations.ReplicaSelectionEnum;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ReadReplicaDataSource extends AbstractDataSource implements TransactionExecutionListener, AutoCloseable {
+
+    private final DataSource primary;
+    private final List<HikariDataSource> replicas;
+    private final ReplicaSelectionEnum selection;
+    private final long readYourWritesWindow;
+    private final AtomicInteger next = new AtomicInteger();
+    private final AtomicLong lastWrite = new AtomicLong();
+
+    public ReadReplicaDataSource(DataSource primary, List<HikariDataSource> replicas, ReplicaSelectionEnum selection, Duration readYourWritesWindow) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.selection = selection;
+        this.readYourWritesWindow = readYourWritesWindow.toNanos();
+        // Starts outside the window, so replicas serve reads right after startup.
+        this.lastWrite.set(System.nanoTime() - this.readYourWritesWindow - 1);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return determineDataSource().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return determineDataSource().getConnection(username, password);
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure == null && !transaction.isReadOnly()) {
+            lastWrite.set(System.nanoTime());
+        }
+    }
+
+    public List<HikariDataSource> getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(HikariDataSource::close);
+    }
+
+    DataSource determineDataSource() {
+        if (replicas.isEmpty() || isWithinReadYourWritesWindow()) {
+            return primary;
+        }
+        return switch (selection) {
+            case ROUND_ROBIN -> replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+            case LEAST_CONNECTIONS -> leastConnections();
+        };
+    }
+
+    private boolean isWithinReadYourWritesWindow() {
+        return readYourWritesWindow > 0 && System.nanoTime() - lastWrite.get() <= readYourWritesWindow;
+    }
+
+    // Ties rotate with the round-robin cursor so that an idle pool does not pin every read to the first replica.
+    private DataSource leastConnections() {
+        int offset = next.getAndIncrement();
+        HikariDataSource best = null;
+        int bestActive = Integer.MAX_VALUE;
+        for (int i = 0; i < replicas.size(); i++) {
+            HikariDataSource replica = replicas.get(Math.floorMod(offset + i, replicas.size()));
+            HikariPoolMXBean pool = replica.getHikariPoolMXBean();
+            int active = pool != null ? pool.getActiveConnections() : 0;
+            if (active < bestActive) {
+                best = replica;
+                bestActive = active;
+            }
+        }
+        return best;
+    }
+}
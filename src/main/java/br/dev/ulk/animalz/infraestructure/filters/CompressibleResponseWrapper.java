@@ -0,0 +1,163 @@
+package br.dev.ulk.animalz.infraestructure.filters;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.util.function.Predicate;
+
+class CompressibleResponseWrapper extends HttpServletResponseWrapper {
+
+    private final Predicate<HttpServletResponse> compressible;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(4096);
+
+    private Boolean buffering;
+    private long contentLength = -1;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    CompressibleResponseWrapper(HttpServletResponse response, Predicate<HttpServletResponse> compressible) {
+        super(response);
+        this.compressible = compressible;
+    }
+
+    boolean isBuffering() {
+        return Boolean.TRUE.equals(buffering);
+    }
+
+    byte[] getBody() {
+        return buffer.toByteArray();
+    }
+
+    void finish() {
+        if (writer != null) {
+            writer.flush();
+        }
+        if (buffering == null && contentLength >= 0) {
+            super.setContentLengthLong(contentLength);
+        }
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (writer != null) {
+            throw new IllegalStateException("getWriter() has already been called for this response");
+        }
+        return outputStream();
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            if (outputStream != null) {
+                throw new IllegalStateException("getOutputStream() has already been called for this response");
+            }
+            writer = new PrintWriter(new OutputStreamWriter(outputStream(), getCharacterEncoding()));
+        }
+        return writer;
+    }
+
+    @Override
+    public void setContentLength(int length) {
+        setContentLengthLong(length);
+    }
+
+    @Override
+    public void setContentLengthLong(long length) {
+        if (buffering == null) {
+            contentLength = length;
+        } else if (!buffering) {
+            super.setContentLengthLong(length);
+        }
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (!decide()) {
+            super.flushBuffer();
+        }
+    }
+
+    @Override
+    public void resetBuffer() {
+        super.resetBuffer();
+        buffer.reset();
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        buffer.reset();
+        buffering = null;
+        contentLength = -1;
+    }
+
+    private ServletOutputStream outputStream() {
+        if (outputStream == null) {
+            outputStream = new DecidingOutputStream();
+        }
+        return outputStream;
+    }
+
+    private ServletOutputStream delegate() {
+        try {
+            return getResponse().getOutputStream();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean decide() {
+        if (buffering == null) {
+            buffering = compressible.test(this);
+            if (!buffering && contentLength >= 0) {
+                super.setContentLengthLong(contentLength);
+            }
+        }
+        return buffering;
+    }
+
+    private class DecidingOutputStream extends ServletOutputStream {
+
+        @Override
+        public void write(int b) throws IOException {
+            if (decide()) {
+                buffer.write(b);
+            } else {
+                getResponse().getOutputStream().write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (decide()) {
+                buffer.write(b, off, len);
+            } else {
+                getResponse().getOutputStream().write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (!decide()) {
+                getResponse().getOutputStream().flush();
+            }
+        }
+
+        @Override
+        public boolean isReady() {
+            return isBuffering() || delegate().isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate().setWriteListener(writeListener);
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package br.dev.ulk.animalz.infraestructure.filters;
+
+import br.dev.ulk.animalz.domain.enumerations.ContentEncodingEnum;
+import br.dev.ulk.animalz.infraestructure.caches.CompressedResponseCache;
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.WebUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Enumeration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+public class ResponseCompressionFilter extends OncePerRequestFilter {
+
+    public static final String RATIO_NAME = "animalz.compression.ratio";
+    public static final String CPU_NAME = "animalz.compression.cpu";
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+    private static final Pattern ENCODED_ETAG = Pattern.compile("-(br|gzip)\"");
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+    private static final boolean BROTLI_AVAILABLE = Brotli4jLoader.isAvailable();
+
+    @Value("${application.compression.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${application.compression.min-response-size:2048}")
+    private int minResponseSize = 2048;
+
+    @Value("${application.compression.mime-types:application/json,application/hal+json}")
+    private Set<String> mimeTypes = Set.of("application/json", "application/hal+json");
+
+    @Value("${application.compression.cached-uris:/api/groups,/api/animals/groups/{group}}")
+    private Set<String> cachedUris = Set.of("/api/groups", "/api/animals/groups/{group}");
+
+    @Value("${application.compression.gzip-level:6}")
+    private int gzipLevel = 6;
+
+    @Value("${application.compression.brotli-quality:5}")
+    private int brotliQuality = 5;
+
+    private final ConcurrentMap<MeterKey, DistributionSummary> ratios = new ConcurrentHashMap<>();
+    private final ConcurrentMap<MeterKey, Timer> cpuTimes = new ConcurrentHashMap<>();
+
+    @Autowired
+    private CompressedResponseCache compressedResponseCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        HttpServletRequest requestToUse = hasEncodedETag(request) ? new DecodedETagRequestWrapper(request) : request;
+        Optional<ContentEncodingEnum> encoding = negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        if (encoding.isEmpty()) {
+            filterChain.doFilter(requestToUse, response);
+            return;
+        }
+
+        CompressibleResponseWrapper wrapper = WebUtils.getNativeResponse(response, CompressibleResponseWrapper.class);
+        if (wrapper == null) {
+            wrapper = new CompressibleResponseWrapper(response, wrapped -> isCompressible(request, wrapped));
+        }
+        filterChain.doFilter(requestToUse, wrapper);
+        if (isAsyncStarted(request)) {
+            return;
+        }
+
+        wrapper.finish();
+        HttpServletResponse rawResponse = (HttpServletResponse) wrapper.getResponse();
+        if (wrapper.isBuffering()) {
+            writeBody(request, rawResponse, wrapper.getBody(), encoding.get());
+        } else if (rawResponse.getStatus() == HttpServletResponse.SC_NOT_MODIFIED && hasEncodedETag(request)) {
+            encodeETag(rawResponse, encoding.get());
+        }
+    }
+
+    private void writeBody(HttpServletRequest request, HttpServletResponse response, byte[] body, ContentEncodingEnum encoding) throws IOException {
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        byte[] content = body;
+        if (body.length >= minResponseSize) {
+            String uri = uri(request);
+            content = cachedUris.contains(uri)
+                    ? compressedResponseCache.get(cacheKey(request, response, encoding), body, uncompressed -> compress(uri, encoding, uncompressed))
+                    : compress(uri, encoding, body);
+            ratios.computeIfAbsent(new MeterKey(uri, encoding), key -> DistributionSummary.builder(RATIO_NAME)
+                            .description("Ratio between the original and the compressed size of response bodies")
+                            .tags("uri", key.uri(), "encoding", key.encoding().getToken())
+                            .register(meterRegistry))
+                    .record((double) body.length / content.length);
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, encoding.getToken());
+            encodeETag(response, encoding);
+        }
+        response.setContentLength(content.length);
+        response.getOutputStream().write(content);
+    }
+
+    private byte[] compress(String uri, ContentEncodingEnum encoding, byte[] body) {
+        long start = cpuTime();
+        byte[] compressed = switch (encoding) {
+            case BROTLI -> brotli(body);
+            case GZIP -> gzip(body);
+        };
+        cpuTimes.computeIfAbsent(new MeterKey(uri, encoding), key -> Timer.builder(CPU_NAME)
+                        .description("CPU time spent compressing response bodies")
+                        .tags("uri", key.uri(), "encoding", key.encoding().getToken())
+                        .register(meterRegistry))
+                .record(Math.max(0, cpuTime() - start), TimeUnit.NANOSECONDS);
+        return compressed;
+    }
+
+    private byte[] brotli(byte[] body) {
+        try {
+            return Encoder.compress(body, new Encoder.Parameters().setQuality(brotliQuality));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] gzip(byte[] body) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed, 8192) {{
+            def.setLevel(gzipLevel);
+        }}) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+
+    private boolean isCompressible(HttpServletRequest request, HttpServletResponse response) {
+        String contentType = response.getContentType();
+        if (contentType == null || request.isAsyncStarted() || response.getHeader(HttpHeaders.CONTENT_ENCODING) != null) {
+            return false;
+        }
+        int parameters = contentType.indexOf(';');
+        String mimeType = (parameters < 0 ? contentType : contentType.substring(0, parameters)).trim().toLowerCase(Locale.ROOT);
+        return mimeTypes.contains(mimeType);
+    }
+
+    private static Optional<ContentEncodingEnum> negotiate(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return Optional.empty();
+        }
+
+        Map<ContentEncodingEnum, Double> qualities = new EnumMap<>(ContentEncodingEnum.class);
+        double wildcard = 0;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String token = parts[0].trim();
+            double quality = quality(parts);
+            if ("*".equals(token)) {
+                wildcard = quality;
+            } else {
+                ContentEncodingEnum.fromValue(token).ifPresent(encoding -> qualities.put(encoding, quality));
+            }
+        }
+
+        ContentEncodingEnum best = null;
+        double bestQuality = 0;
+        for (ContentEncodingEnum encoding : ContentEncodingEnum.values()) {
+            double quality = qualities.getOrDefault(encoding, wildcard);
+            if (quality > bestQuality && (encoding != ContentEncodingEnum.BROTLI || BROTLI_AVAILABLE)) {
+                best = encoding;
+                bestQuality = quality;
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static void encodeETag(HttpServletResponse response, ContentEncodingEnum encoding) {
+        String eTag = response.getHeader(HttpHeaders.ETAG);
+        if (eTag != null && eTag.endsWith("\"") && !ENCODED_ETAG.matcher(eTag).find()) {
+            response.setHeader(HttpHeaders.ETAG, eTag.substring(0, eTag.length() - 1) + "-" + encoding.getToken() + "\"");
+        }
+    }
+
+    private static boolean hasEncodedETag(HttpServletRequest request) {
+        return isEncoded(request.getHeader(HttpHeaders.IF_NONE_MATCH)) || isEncoded(request.getHeader(HttpHeaders.IF_MATCH));
+    }
+
+    private static boolean isEncoded(String header) {
+        return header != null && ENCODED_ETAG.matcher(header).find();
+    }
+
+    private static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNKNOWN_URI;
+    }
+
+    private static String cacheKey(HttpServletRequest request, HttpServletResponse response, ContentEncodingEnum encoding) {
+        String query = request.getQueryString();
+        return request.getRequestURI() + (query != null ? "?" + query : "") + " " + response.getContentType() + " " + encoding.getToken();
+    }
+
+    private static long cpuTime() {
+        long cpuTime = THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported() ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : -1;
+        return cpuTime >= 0 ? cpuTime : System.nanoTime();
+    }
+
+    private record MeterKey(String uri, ContentEncodingEnum encoding) {
+    }
+
+    private static class DecodedETagRequestWrapper extends HttpServletRequestWrapper {
+
+        DecodedETagRequestWrapper(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public String getHeader(String name) {
+            String header = super.getHeader(name);
+            return isConditional(name) && header != null ? decode(header) : header;
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            Enumeration<String> headers = super.getHeaders(name);
+            if (!isConditional(name) || headers == null) {
+                return headers;
+            }
+            return Collections.enumeration(Collections.list(headers).stream()
+                    .map(DecodedETagRequestWrapper::decode)
+                    .toList());
+        }
+
+        private static boolean isConditional(String name) {
+            return HttpHeaders.IF_NONE_MATCH.equalsIgnoreCase(name) || HttpHeaders.IF_MATCH.equalsIgnoreCase(name);
+        }
+
+        private static String decode(String header) {
+            return ENCODED_ETAG.matcher(header).replaceAll("\"");
+        }
+    }
+}
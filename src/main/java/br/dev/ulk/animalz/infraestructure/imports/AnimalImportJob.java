@@ -0,0 +1,48 @@
+package br.dev.ulk.animalz.infraestructure.imports;
+
+import br.dev.ulk.animalz.domain.enumerations.ImportStatusEnum;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Getter
+public class AnimalImportJob {
+
+    private final String id = UUID.randomUUID().toString();
+    private final Instant startedAt = Instant.now();
+    private final Path upload;
+    private final Path rejectionReport;
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong imported = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    private volatile ImportStatusEnum status = ImportStatusEnum.RUNNING;
+    private volatile Instant finishedAt;
+    private volatile String message;
+
+    public AnimalImportJob(Path upload, Path rejectionReport) {
+        this.upload = upload;
+        this.rejectionReport = rejectionReport;
+    }
+
+    public boolean isFinished() {
+        return status != ImportStatusEnum.RUNNING;
+    }
+
+    public void complete() {
+        finish(ImportStatusEnum.COMPLETED, null);
+    }
+
+    public void fail(String message) {
+        finish(ImportStatusEnum.FAILED, message);
+    }
+
+    private void finish(ImportStatusEnum status, String message) {
+        this.message = message;
+        this.finishedAt = Instant.now();
+        this.status = status;
+    }
+}
@@ -0,0 +1,95 @@
+package br.dev.ulk.animalz.infraestructure.imports;
+
+import br.dev.ulk.animalz.application.exceptions.TooManyRequestsException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Component
+public class AnimalImportRegistry {
+
+    private static final long RETRY_AFTER_SECONDS = 5;
+
+    @Value("${application.import.max-jobs:32}")
+    private int maxJobs = 32;
+
+    @Value("${application.import.max-running:2}")
+    private int maxRunning = 2;
+
+    private final Map<String, AnimalImportJob> jobs = new LinkedHashMap<>();
+
+    // Running imports hold disk and an executor thread, so new ones are turned away once max-running are in progress.
+    public AnimalImportJob create() throws IOException {
+        AnimalImportJob job = new AnimalImportJob(Files.createTempFile("animalz-upload-", ".csv"),
+                Files.createTempFile("animalz-import-", ".csv"));
+        List<AnimalImportJob> evicted;
+        synchronized (jobs) {
+            if (jobs.values().stream().filter(running -> !running.isFinished()).count() >= maxRunning) {
+                deleteFiles(job);
+                throw new TooManyRequestsException("Too many imports are running, retry later", RETRY_AFTER_SECONDS);
+            }
+            jobs.put(job.getId(), job);
+            evicted = evict();
+        }
+        evicted.forEach(AnimalImportRegistry::deleteFiles);
+        return job;
+    }
+
+    public Optional<AnimalImportJob> findById(String id) {
+        synchronized (jobs) {
+            return Optional.ofNullable(jobs.get(id));
+        }
+    }
+
+    // The spooled upload is only needed while the rows are processed; the rejection report stays with the job.
+    public void releaseUpload(AnimalImportJob job) {
+        delete(job.getUpload());
+    }
+
+    @PreDestroy
+    public void clear() {
+        List<AnimalImportJob> removed;
+        synchronized (jobs) {
+            removed = List.copyOf(jobs.values());
+            jobs.clear();
+        }
+        removed.forEach(AnimalImportRegistry::deleteFiles);
+    }
+
+    // Running jobs are never evicted; finished ones leave in arrival order together with their files.
+    private List<AnimalImportJob> evict() {
+        List<AnimalImportJob> evicted = new ArrayList<>();
+        Iterator<AnimalImportJob> iterator = jobs.values().iterator();
+        while (jobs.size() > maxJobs && iterator.hasNext()) {
+            AnimalImportJob job = iterator.next();
+            if (job.isFinished()) {
+                iterator.remove();
+                evicted.add(job);
+            }
+        }
+        return evicted;
+    }
+
+    private static void deleteFiles(AnimalImportJob job) {
+        delete(job.getUpload());
+        delete(job.getRejectionReport());
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            file.toFile().deleteOnExit();
+        }
+    }
+}
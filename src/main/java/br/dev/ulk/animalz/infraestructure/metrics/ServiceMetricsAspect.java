@@ -0,0 +1,86 @@
+package br.dev.ulk.animalz.infraestructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServiceMetricsAspect {
+
+    public static final String TIMER_NAME = "animalz.service";
+    public static final String RESULTS_NAME = "animalz.service.results";
+    public static final String ERRORS_NAME = "animalz.service.errors";
+
+    private static final String NO_EXCEPTION = "none";
+
+    // Registering looks the meter up by name and tags on every call, so each tag set is only registered once.
+    private final ConcurrentMap<MeterKey, Timer> timers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<MeterKey, Counter> errors = new ConcurrentHashMap<>();
+    private final ConcurrentMap<MeterKey, DistributionSummary> results = new ConcurrentHashMap<>();
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Around("execution(public * br.dev.ulk.animalz.infraestructure.services.*Service.*(..))")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        String className = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String method = joinPoint.getSignature().getName();
+        String exception = NO_EXCEPTION;
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            Object result = joinPoint.proceed();
+            recordResultSize(className, method, result);
+            return result;
+        } catch (Throwable ex) {
+            exception = ex.getClass().getSimpleName();
+            errors.computeIfAbsent(new MeterKey(className, method, exception), key -> Counter.builder(ERRORS_NAME)
+                            .description("Number of service method invocations that ended with an exception")
+                            .tags("class", key.className(), "method", key.method(), "exception", key.exception())
+                            .register(meterRegistry))
+                    .increment();
+            throw ex;
+        } finally {
+            sample.stop(timers.computeIfAbsent(new MeterKey(className, method, exception), key -> Timer.builder(TIMER_NAME)
+                    .description("Duration of service method invocations")
+                    .tags("class", key.className(), "method", key.method(), "exception", key.exception())
+                    .register(meterRegistry)));
+        }
+    }
+
+    private void recordResultSize(String className, String method, Object result) {
+        int size;
+        if (result instanceof Collection<?> collection) {
+            size = collection.size();
+        } else if (result instanceof CollectionModel<?> collectionModel) {
+            size = collectionModel.getContent().size();
+        } else {
+            return;
+        }
+
+        results.computeIfAbsent(new MeterKey(className, method, NO_EXCEPTION), key -> DistributionSummary.builder(RESULTS_NAME)
+                        .description("Number of elements returned by service method invocations")
+                        .baseUnit("elements")
+                        .tags("class", key.className(), "method", key.method())
+                        .register(meterRegistry))
+                .record(size);
+    }
+
+    private record MeterKey(String className, String method, String exception) {
+    }
+}
@@ -0,0 +1,64 @@
+package br.dev.ulk.animalz.infraestructure.ratelimit;
+
+import br.dev.ulk.animalz.application.exceptions.TooManyRequestsException;
+import br.dev.ulk.animalz.domain.enumerations.EndpointClassEnum;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private static final String ITEM_SUFFIX = "/{id}";
+
+    @Value("${application.rate-limit.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${application.rate-limit.api-key-header:X-API-Key}")
+    private String apiKeyHeader = "X-API-Key";
+
+    @Value("${application.rate-limit.api-keys:}")
+    private Set<String> apiKeys = Set.of();
+
+    @Autowired
+    private RateLimiter rateLimiter;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Streaming responses are dispatched again once the async work completes; they were counted on the first pass.
+        if (!enabled || request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+
+        EndpointClassEnum endpointClass = classify(request);
+        long wait = rateLimiter.tryAcquire(client(request), endpointClass);
+        if (wait > 0) {
+            throw new TooManyRequestsException("Rate limit exceeded for " + endpointClass.name().toLowerCase() + " requests",
+                    TimeUnit.NANOSECONDS.toSeconds(wait - 1) + 1);
+        }
+        return true;
+    }
+
+    // Only configured keys get their own bucket; otherwise a client could mint a fresh bucket per request.
+    private String client(HttpServletRequest request) {
+        String apiKey = request.getHeader(apiKeyHeader);
+        return apiKey != null && apiKeys.contains(apiKey) ? "key:" + apiKey : "addr:" + request.getRemoteAddr();
+    }
+
+    // Anything that changes state is a write; reads of a single resource by id are items and every other read is a list.
+    private static EndpointClassEnum classify(HttpServletRequest request) {
+        String method = request.getMethod();
+        if (!HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method)) {
+            return EndpointClassEnum.WRITE;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null && pattern.toString().endsWith(ITEM_SUFFIX) ? EndpointClassEnum.ITEM : EndpointClassEnum.LIST;
+    }
+}
@@ -0,0 +1,117 @@
+package br.dev.ulk.animalz.infraestructure.ratelimit;
+
+import br.dev.ulk.animalz.domain.enumerations.EndpointClassEnum;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@Component
+public class RateLimiter implements MeterBinder {
+
+    public static final String REJECTED_NAME = "animalz.ratelimit.rejected";
+    public static final String CLIENTS_NAME = "animalz.ratelimit.clients";
+    public static final String OVERFLOW_CLIENT = "overflow";
+
+    @Value("${application.rate-limit.list.capacity:40}")
+    private int listCapacity = 40;
+
+    @Value("${application.rate-limit.list.refill-per-second:20}")
+    private double listRefillPerSecond = 20;
+
+    @Value("${application.rate-limit.item.capacity:200}")
+    private int itemCapacity = 200;
+
+    @Value("${application.rate-limit.item.refill-per-second:100}")
+    private double itemRefillPerSecond = 100;
+
+    @Value("${application.rate-limit.write.capacity:20}")
+    private int writeCapacity = 20;
+
+    @Value("${application.rate-limit.write.refill-per-second:10}")
+    private double writeRefillPerSecond = 10;
+
+    @Value("${application.rate-limit.max-clients:10000}")
+    private int maxClients = 10000;
+
+    private final Map<EndpointClassEnum, ConcurrentMap<String, TokenBucket>> buckets = new EnumMap<>(EndpointClassEnum.class);
+    private final Map<EndpointClassEnum, Counter> rejected = new EnumMap<>(EndpointClassEnum.class);
+
+    public RateLimiter() {
+        for (EndpointClassEnum endpointClass : EndpointClassEnum.values()) {
+            buckets.put(endpointClass, new ConcurrentHashMap<>());
+        }
+    }
+
+    // Returns 0 when the request may proceed, otherwise the nanoseconds until the client has a token again.
+    public long tryAcquire(String client, EndpointClassEnum endpointClass) {
+        long now = System.nanoTime();
+        ConcurrentMap<String, TokenBucket> clients = buckets.get(endpointClass);
+        TokenBucket bucket = clients.get(client);
+        if (bucket == null) {
+            bucket = clients.computeIfAbsent(hasRoom(clients, now) ? client : OVERFLOW_CLIENT, ignored -> newBucket(endpointClass, now));
+        }
+
+        long wait = bucket.tryAcquire(now);
+        Counter counter = rejected.get(endpointClass);
+        if (wait > 0 && counter != null) {
+            counter.increment();
+        }
+        return wait;
+    }
+
+    public int size() {
+        return buckets.values().stream().mapToInt(Map::size).sum();
+    }
+
+    // A full bucket behaves exactly like a new one, so dropping it forgets nothing.
+    @Scheduled(fixedDelayString = "${application.rate-limit.eviction-interval:60000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        for (ConcurrentMap<String, TokenBucket> clients : buckets.values()) {
+            clients.values().removeIf(bucket -> bucket.isFull(now));
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (EndpointClassEnum endpointClass : EndpointClassEnum.values()) {
+            rejected.put(endpointClass, Counter.builder(REJECTED_NAME)
+                    .description("Number of requests rejected by the per-client rate limit")
+                    .tag("class", endpointClass.name().toLowerCase())
+                    .register(registry));
+        }
+        Gauge.builder(CLIENTS_NAME, this, RateLimiter::size)
+                .description("Number of client buckets currently tracked by the rate limiter")
+                .register(registry);
+    }
+
+    private TokenBucket newBucket(EndpointClassEnum endpointClass, long now) {
+        return switch (endpointClass) {
+            case LIST -> new TokenBucket(listCapacity, listRefillPerSecond, now);
+            case ITEM -> new TokenBucket(itemCapacity, itemRefillPerSecond, now);
+            case WRITE -> new TokenBucket(writeCapacity, writeRefillPerSecond, now);
+        };
+    }
+
+    // Past the cap, idle buckets are dropped first; if every bucket is busy, new clients share a single overflow bucket.
+    private boolean hasRoom(ConcurrentMap<String, TokenBucket> clients, long now) {
+        if (clients.size() < maxClients) {
+            return true;
+        }
+        synchronized (clients) {
+            if (clients.size() >= maxClients) {
+                clients.values().removeIf(bucket -> bucket.isFull(now));
+            }
+            return clients.size() < maxClients;
+        }
+    }
+}
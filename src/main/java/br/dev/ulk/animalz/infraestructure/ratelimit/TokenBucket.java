@@ -0,0 +1,40 @@
+package br.dev.ulk.animalz.infraestructure.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Token bucket kept as the time at which it will be full again (GCRA), so taking a token is a single CAS on one long
+// and refilling needs no background work.
+public class TokenBucket {
+
+    private final long interval;
+    private final long tolerance;
+    private final AtomicLong fullAt;
+
+    public TokenBucket(int capacity, double refillPerSecond, long now) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Capacity and refill rate must be positive");
+        }
+        this.interval = Math.max(1, (long) (1_000_000_000L / refillPerSecond));
+        this.tolerance = interval * (capacity - 1);
+        this.fullAt = new AtomicLong(now);
+    }
+
+    // Returns 0 when a token was taken, otherwise the nanoseconds until one is available.
+    public long tryAcquire(long now) {
+        while (true) {
+            long current = fullAt.get();
+            long start = current - now > 0 ? current : now;
+            long wait = start - now - tolerance;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, start + interval)) {
+                return 0;
+            }
+        }
+    }
+
+    public boolean isFull(long now) {
+        return fullAt.get() - now <= 0;
+    }
+}
@@ -0,0 +1,24 @@
+package br.dev.ulk.animalz.infraestructure.repositories;
+
+import br.dev.ulk.animalz.domain.models.AnimalChange;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface AnimalChangeRepository extends JpaRepository<AnimalChange, Long> {
+
+    @Modifying
+    @Query(value = "UPDATE ANIMAL_CHANGE_COUNTER SET LAST_SEQUENCE = LAST_SEQUENCE + :count", nativeQuery = true)
+    int incrementLastSequence(int count);
+
+    @Query(value = "SELECT LAST_SEQUENCE FROM ANIMAL_CHANGE_COUNTER", nativeQuery = true)
+    long findLastSequence();
+
+    List<AnimalChange> findByIdGreaterThanOrderById(Long id, Limit limit);
+
+}
@@ -1,18 +1,64 @@
 package br.dev.ulk.animalz.infraestructure.repositories;
 
 import br.dev.ulk.animalz.domain.models.Animal;
+import br.dev.ulk.animalz.domain.projections.AnimalName;
+import br.dev.ulk.animalz.domain.projections.AnimalVersion;
+import br.dev.ulk.animalz.domain.projections.AnimalView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface AnimalRepository extends JpaRepository<Animal, Long> {
+public interface AnimalRepository extends JpaRepository<Animal, Long>, JpaSpecificationExecutor<Animal>, AnimalViewRepository {
 
-    List<Animal> findAnimalsByGroupId(Long groupId);
+    String ANIMAL_VIEW = "SELECT new br.dev.ulk.animalz.domain.projections.AnimalView(a.id, a.scientificName, a.specie, a.size, a.mass, a.status, g.id, g.name) FROM Animal a JOIN a.group g";
 
-    @Query("SELECT a FROM Animal a WHERE LOWER(a.group.name) = LOWER(:groupName) ")
-    List<Animal> findByGroupNameIgnoreCase(String groupName);
+    @Override
+    @EntityGraph(attributePaths = "group")
+    List<Animal> findAll();
+
+    @Override
+    @EntityGraph(attributePaths = "group")
+    Optional<Animal> findById(Long id);
+
+    @Query("SELECT a.id FROM Animal a WHERE a.group.id = :groupId ORDER BY a.id")
+    List<Long> findIdsByGroupId(Long groupId);
+
+    @Query("SELECT new br.dev.ulk.animalz.domain.projections.AnimalVersion(a.version, g.version) FROM Animal a JOIN a.group g WHERE a.id = :id")
+    Optional<AnimalVersion> findVersionById(Long id);
+
+    @Query(ANIMAL_VIEW + " ORDER BY a.id")
+    List<AnimalView> findAllViews();
+
+    @Query("SELECT new br.dev.ulk.animalz.domain.projections.AnimalView(a.id, a.scientificName, a.specie, a.size, a.mass, a.status, g.id, g.name, a.version, g.version) FROM Animal a JOIN a.group g WHERE a.id = :id")
+    Optional<AnimalView> findViewById(Long id);
+
+    @Query(ANIMAL_VIEW + " WHERE a.id IN :ids")
+    List<AnimalView> findViewsByIdIn(Collection<Long> ids);
+
+    @Query(ANIMAL_VIEW + " WHERE g.id = :groupId ORDER BY a.id")
+    List<AnimalView> findViewsByGroupId(Long groupId);
+
+    @Query(ANIMAL_VIEW + " WHERE a.id > :id ORDER BY a.id")
+    List<AnimalView> findViewsByIdGreaterThan(Long id, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(ANIMAL_VIEW + " ORDER BY a.id")
+    Stream<AnimalView> streamAllViews();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new br.dev.ulk.animalz.domain.projections.AnimalName(a.id, a.scientificName, a.specie) FROM Animal a")
+    Stream<AnimalName> streamAllNames();
 
 }
@@ -0,0 +1,50 @@
+package br.dev.ulk.animalz.infraestructure.repositories;
+
+import br.dev.ulk.animalz.domain.enumerations.StatusEnum;
+import br.dev.ulk.animalz.domain.models.Animal;
+import org.springframework.data.jpa.domain.Specification;
+
+public final class AnimalSpecifications {
+
+    private AnimalSpecifications() {
+    }
+
+    public static Specification<Animal> hasId(Long id) {
+        return (root, query, builder) -> builder.equal(root.get("id"), id);
+    }
+
+    public static Specification<Animal> idGreaterThan(Long id) {
+        return (root, query, builder) -> builder.greaterThan(root.get("id"), id);
+    }
+
+    public static Specification<Animal> massBetween(Double min, Double max) {
+        return between("mass", min, max);
+    }
+
+    public static Specification<Animal> sizeBetween(Double min, Double max) {
+        return between("size", min, max);
+    }
+
+    public static Specification<Animal> hasStatus(StatusEnum status) {
+        return (root, query, builder) -> status == null ? null : builder.equal(root.get("status"), status);
+    }
+
+    public static Specification<Animal> inGroup(Long groupId) {
+        return (root, query, builder) -> groupId == null ? null : builder.equal(root.get("group").get("id"), groupId);
+    }
+
+    private static Specification<Animal> between(String attribute, Double min, Double max) {
+        return (root, query, builder) -> {
+            if (min != null && max != null) {
+                return builder.between(root.get(attribute), min, max);
+            }
+            if (min != null) {
+                return builder.greaterThanOrEqualTo(root.get(attribute), min);
+            }
+            if (max != null) {
+                return builder.lessThanOrEqualTo(root.get(attribute), max);
+            }
+            return null;
+        };
+    }
+}
@@ -0,0 +1,21 @@
+package br.dev.ulk.animalz.infraestructure.repositories;
+
+import br.dev.ulk.animalz.domain.enumerations.AnimalFieldEnum;
+import br.dev.ulk.animalz.domain.models.Animal;
+import br.dev.ulk.animalz.domain.projections.AnimalView;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public interface AnimalViewRepository {
+
+    List<AnimalView> findViews(Specification<Animal> specification, Sort sort, Limit limit);
+
+    List<AnimalView> findViews(Specification<Animal> specification, Sort sort, Limit limit, Set<AnimalFieldEnum> fields);
+
+    Optional<AnimalView> findVersionedViewById(Long id, Set<AnimalFieldEnum> fields);
+}
@@ -0,0 +1,107 @@
+package br.dev.ulk.animalz.infraestructure.repositories;
+
+import br.dev.ulk.animalz.domain.enumerations.AnimalFieldEnum;
+import br.dev.ulk.animalz.domain.enumerations.StatusEnum;
+import br.dev.ulk.animalz.domain.models.Animal;
+import br.dev.ulk.animalz.domain.models.Group;
+import br.dev.ulk.animalz.domain.projections.AnimalView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public class AnimalViewRepositoryImpl implements AnimalViewRepository {
+
+    private static final Set<AnimalFieldEnum> ALL_FIELDS = EnumSet.allOf(AnimalFieldEnum.class);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<AnimalView> findViews(Specification<Animal> specification, Sort sort, Limit limit) {
+        return findViews(specification, sort, limit, ALL_FIELDS);
+    }
+
+    @Override
+    public List<AnimalView> findViews(Specification<Animal> specification, Sort sort, Limit limit, Set<AnimalFieldEnum> fields) {
+        return createQuery(specification, sort, limit, fields, false).getResultList();
+    }
+
+    // Also selects the animal and group versions, so the ETag matches the row that was read.
+    @Override
+    public Optional<AnimalView> findVersionedViewById(Long id, Set<AnimalFieldEnum> fields) {
+        return createQuery(AnimalSpecifications.hasId(id), Sort.unsorted(), Limit.of(1), fields, true).getResultStream()
+                .findFirst();
+    }
+
+    // The ID and the group ID live on the animal row and are always read, for links and cursors; the other columns are
+    // only selected when asked for, and the group is only joined for its name or version.
+    private TypedQuery<AnimalView> createQuery(Specification<Animal> specification, Sort sort, Limit limit,
+                                               Set<AnimalFieldEnum> fields, boolean versioned) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AnimalView> query = builder.createQuery(AnimalView.class);
+        Root<Animal> animal = query.from(Animal.class);
+        Path<Long> groupId;
+        Expression<String> groupName;
+        Expression<Long> groupVersion;
+        Predicate hasGroup = null;
+        if (fields.contains(AnimalFieldEnum.GROUP_NAME) || versioned) {
+            Join<Animal, Group> group = animal.join("group");
+            groupId = group.get("id");
+            groupName = fields.contains(AnimalFieldEnum.GROUP_NAME) ? group.get("name") : builder.nullLiteral(String.class);
+            groupVersion = versioned ? group.get("version") : builder.nullLiteral(Long.class);
+        } else {
+            // Keeps the same rows the inner join would, without reading the groups table.
+            groupId = animal.get("group").get("id");
+            groupName = builder.nullLiteral(String.class);
+            groupVersion = builder.nullLiteral(Long.class);
+            hasGroup = builder.isNotNull(groupId);
+        }
+
+        query.select(builder.construct(AnimalView.class,
+                animal.get("id"),
+                select(builder, animal, fields, AnimalFieldEnum.SCIENTIFIC_NAME, String.class),
+                select(builder, animal, fields, AnimalFieldEnum.SPECIE, String.class),
+                select(builder, animal, fields, AnimalFieldEnum.SIZE, Double.class),
+                select(builder, animal, fields, AnimalFieldEnum.MASS, Double.class),
+                select(builder, animal, fields, AnimalFieldEnum.STATUS, StatusEnum.class),
+                groupId,
+                groupName,
+                versioned ? animal.get("version") : builder.nullLiteral(Long.class),
+                groupVersion));
+        Predicate predicate = specification.toPredicate(animal, query, builder);
+        if (hasGroup != null) {
+            predicate = predicate == null ? hasGroup : builder.and(predicate, hasGroup);
+        }
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, animal, builder));
+
+        TypedQuery<AnimalView> typedQuery = entityManager.createQuery(query);
+        if (limit.isLimited()) {
+            typedQuery.setMaxResults(limit.max());
+        }
+        return typedQuery;
+    }
+
+    private static <T> Expression<T> select(CriteriaBuilder builder, Root<Animal> animal, Set<AnimalFieldEnum> fields,
+                                            AnimalFieldEnum field, Class<T> type) {
+        return fields.contains(field) ? animal.get(field.getPath()) : builder.nullLiteral(type);
+    }
+}
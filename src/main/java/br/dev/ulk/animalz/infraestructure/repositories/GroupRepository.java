@@ -1,14 +1,33 @@
 package br.dev.ulk.animalz.infraestructure.repositories;
 
 import br.dev.ulk.animalz.domain.models.Group;
+import br.dev.ulk.animalz.domain.projections.AnimalView;
+import br.dev.ulk.animalz.domain.projections.GroupsVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface GroupRepository extends JpaRepository<Group, Long> {
 
+    @Query("SELECT g FROM Group g WHERE g.nameLower = LOWER(:name)")
     Optional<Group> findByNameIgnoreCase(String name);
 
+    @Query("SELECT g.version FROM Group g WHERE g.id = :id")
+    Optional<Long> findVersionById(Long id);
+
+    @Query("SELECT new br.dev.ulk.animalz.domain.projections.GroupsVersion(COUNT(g), COALESCE(MAX(g.id), 0), COALESCE(SUM(g.version), 0)) FROM Group g")
+    GroupsVersion findGroupsVersion();
+
+    // Groups without animals come back as a single row with null animal columns.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new br.dev.ulk.animalz.domain.projections.AnimalView(a.id, a.scientificName, a.specie, a.size, a.mass, a.status, g.id, g.name) FROM Group g LEFT JOIN g.animals a ORDER BY g.id, a.id")
+    Stream<AnimalView> streamAllWithAnimals();
+
 }
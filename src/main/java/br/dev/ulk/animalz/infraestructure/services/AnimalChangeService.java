@@ -0,0 +1,131 @@
+package br.dev.ulk.animalz.infraestructure.services;
+
+import br.dev.ulk.animalz.application.dtos.AnimalChangeDTO;
+import br.dev.ulk.animalz.application.dtos.AnimalChangesDTO;
+import br.dev.ulk.animalz.application.dtos.AnimalDTO;
+import br.dev.ulk.animalz.application.exceptions.BadRequestException;
+import br.dev.ulk.animalz.application.links.LinkFactory;
+import br.dev.ulk.animalz.domain.enumerations.ChangeOperationEnum;
+import br.dev.ulk.animalz.domain.models.AnimalChange;
+import br.dev.ulk.animalz.domain.projections.AnimalChangePage;
+import br.dev.ulk.animalz.domain.projections.AnimalView;
+import br.dev.ulk.animalz.infraestructure.changes.AnimalChangeLog;
+import br.dev.ulk.animalz.infraestructure.repositories.AnimalChangeRepository;
+import br.dev.ulk.animalz.infraestructure.repositories.AnimalRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class AnimalChangeService {
+
+    public static final int DEFAULT_CHANGES_SIZE = 100;
+    public static final int MAX_CHANGES_SIZE = 1000;
+    private static final LinkRelation GROUP_RELATION = LinkRelation.of("group");
+
+    @Autowired
+    private AnimalChangeRepository animalChangeRepository;
+    @Autowired
+    private AnimalRepository animalRepository;
+    @Autowired
+    private AnimalChangeLog animalChangeLog;
+    @Autowired
+    private LinkFactory linkFactory;
+
+    @Transactional(readOnly = true)
+    public AnimalChangesDTO getChanges(String since, Integer limit) {
+        int size = limit == null ? DEFAULT_CHANGES_SIZE : Math.min(Math.max(limit, 1), MAX_CHANGES_SIZE);
+        long cursor = getCursor(since);
+
+        // Without a token there is nothing to catch up on: the client takes the current token and reads the catalogue.
+        AnimalChangePage page = since == null
+                ? new AnimalChangePage(List.of(), Map.of(), cursor, false)
+                : getChangePage(cursor, size);
+        String token = String.valueOf(page.token());
+
+        AnimalChangesDTO animalChangesDTO = AnimalChangesDTO.builder()
+                .changes(toChangeDTOs(page))
+                .token(token)
+                .hasMore(page.hasMore())
+                .build();
+        animalChangesDTO.add(linkFactory.linkToAnimalChanges(since == null ? token : since, size, IanaLinkRelations.SELF));
+        animalChangesDTO.add(linkFactory.linkToAnimalChanges(token, size, IanaLinkRelations.NEXT));
+        return animalChangesDTO;
+    }
+
+    // Keeps only the last change of each animal in the page, with its current state.
+    @Transactional(readOnly = true)
+    public AnimalChangePage getChangePage(long cursor, int size) {
+        List<AnimalChange> changes = animalChangeRepository.findByIdGreaterThanOrderById(cursor, Limit.of(size + 1));
+        boolean hasMore = changes.size() > size;
+        List<AnimalChange> page = hasMore ? changes.subList(0, size) : changes;
+        long token = page.isEmpty() ? cursor : page.get(page.size() - 1).getId();
+
+        Map<Long, AnimalChange> lastChanges = new LinkedHashMap<>();
+        for (AnimalChange change : page) {
+            lastChanges.remove(change.getAnimalId());
+            lastChanges.put(change.getAnimalId(), change);
+        }
+
+        List<Long> ids = lastChanges.values().stream()
+                .filter(change -> change.getOperation() != ChangeOperationEnum.DELETED)
+                .map(AnimalChange::getAnimalId)
+                .toList();
+        Map<Long, AnimalView> animals = new HashMap<>();
+        if (!ids.isEmpty()) {
+            animalRepository.findViewsByIdIn(ids).forEach(animal -> animals.put(animal.id(), animal));
+        }
+        return new AnimalChangePage(List.copyOf(lastChanges.values()), animals, token, hasMore);
+    }
+
+    // Links point at the current request, or at the base URI bound to the LinkFactory.
+    public List<AnimalChangeDTO> toChangeDTOs(AnimalChangePage page) {
+        List<AnimalChangeDTO> animalChangeDTOs = new ArrayList<>(page.changes().size());
+        for (AnimalChange change : page.changes()) {
+            AnimalView animal = page.animals().get(change.getAnimalId());
+            animalChangeDTOs.add(AnimalChangeDTO.builder()
+                    .sequence(change.getId())
+                    .animalId(change.getAnimalId())
+                    .operation(change.getOperation().name())
+                    .changedAt(change.getChangedAt())
+                    .animal(animal == null ? null : toAnimalDTO(animal))
+                    .build());
+        }
+        return animalChangeDTOs;
+    }
+
+    @Transactional(readOnly = true)
+    public long getCursor(String token) {
+        if (token == null) {
+            return animalChangeLog.getLastSequence();
+        }
+
+        // A token ahead of the log is not rejected: a lagging read replica may not have seen it yet.
+        long cursor;
+        try {
+            cursor = Long.parseLong(token);
+        } catch (NumberFormatException e) {
+            cursor = -1;
+        }
+        if (cursor < 0) {
+            throw new BadRequestException("Invalid change token " + token);
+        }
+        return cursor;
+    }
+
+    private AnimalDTO toAnimalDTO(AnimalView animal) {
+        AnimalDTO animalDTO = AnimalDTO.fromView(animal);
+        animalDTO.add(linkFactory.linkToAnimal(animalDTO.getId(), IanaLinkRelations.SELF));
+        animalDTO.getGroup().add(linkFactory.linkToGroup(animalDTO.getGroup().getId(), GROUP_RELATION));
+        return animalDTO;
+    }
+}
@@ -0,0 +1,342 @@
+package br.dev.ulk.animalz.infraestructure.services;
+
+import br.dev.ulk.animalz.application.dtos.AnimalDTO;
+import br.dev.ulk.animalz.application.dtos.AnimalImportDTO;
+import br.dev.ulk.animalz.application.dtos.GroupDTO;
+import br.dev.ulk.animalz.application.exceptions.BadRequestException;
+import br.dev.ulk.animalz.application.exceptions.PayloadTooLargeException;
+import br.dev.ulk.animalz.application.exceptions.ResourceNotFoundException;
+import br.dev.ulk.animalz.application.links.LinkFactory;
+import br.dev.ulk.animalz.domain.enumerations.StatusEnum;
+import br.dev.ulk.animalz.domain.models.Animal;
+import br.dev.ulk.animalz.domain.models.Group;
+import br.dev.ulk.animalz.infraestructure.csv.CsvFormatException;
+import br.dev.ulk.animalz.infraestructure.csv.CsvReader;
+import br.dev.ulk.animalz.infraestructure.csv.CsvWriter;
+import br.dev.ulk.animalz.infraestructure.imports.AnimalImportJob;
+import br.dev.ulk.animalz.infraestructure.imports.AnimalImportRegistry;
+import br.dev.ulk.animalz.infraestructure.repositories.GroupRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class AnimalImportService {
+
+    public static final String ROWS_NAME = "animalz.import.rows";
+
+    private static final int MAX_RECORD_LENGTH = 64 * 1024;
+    private static final LinkRelation REJECTIONS_RELATION = LinkRelation.of("rejections");
+
+    @Value("${application.import.batch-size:1000}")
+    private int batchSize = 1000;
+
+    @Value("${application.import.max-upload-size:100MB}")
+    private DataSize maxUploadSize = DataSize.ofMegabytes(100);
+
+    @Autowired
+    private AnimalService animalService;
+    @Autowired
+    private GroupRepository groupRepository;
+    @Autowired
+    private AnimalImportRegistry animalImportRegistry;
+    @Autowired
+    private LinkFactory linkFactory;
+    @Autowired
+    private Validator validator;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private TaskExecutor applicationTaskExecutor;
+
+    // The upload is spooled to disk on the request thread, so the client gets the job id as soon as the body is
+    // received and can follow the progress while the rows are validated and committed batch by batch in the background.
+    public AnimalImportDTO importAnimals(InputStream inputStream) throws IOException {
+        AnimalImportJob job = animalImportRegistry.create();
+        List<String> header;
+        Columns columns;
+        try {
+            spool(inputStream, job);
+            header = readHeader(job);
+            columns = Columns.of(header);
+        } catch (IOException | RuntimeException e) {
+            job.fail(e.getMessage());
+            animalImportRegistry.releaseUpload(job);
+            throw e;
+        }
+
+        applicationTaskExecutor.execute(() -> process(job, header, columns));
+        return toDTO(job);
+    }
+
+    public AnimalImportDTO getImport(String id) {
+        return toDTO(findJob(id));
+    }
+
+    public void writeRejections(String id, OutputStream outputStream) throws IOException {
+        Files.copy(findJob(id).getRejectionReport(), outputStream);
+    }
+
+    private void spool(InputStream inputStream, AnimalImportJob job) throws IOException {
+        try (OutputStream outputStream = Files.newOutputStream(job.getUpload())) {
+            byte[] buffer = new byte[8192];
+            long size = 0;
+            for (int read = inputStream.read(buffer); read != -1; read = inputStream.read(buffer)) {
+                size += read;
+                if (size > maxUploadSize.toBytes()) {
+                    throw new PayloadTooLargeException("The upload is larger than " + maxUploadSize.toBytes() + " bytes");
+                }
+                outputStream.write(buffer, 0, read);
+            }
+        }
+    }
+
+    private void process(AnimalImportJob job, List<String> header, Columns columns) {
+        Counter importedRows = Counter.builder(ROWS_NAME).tag("result", "imported").register(meterRegistry);
+        Counter rejectedRows = Counter.builder(ROWS_NAME).tag("result", "rejected").register(meterRegistry);
+
+        try (CsvReader reader = reader(job);
+             CsvWriter rejections = new CsvWriter(Files.newBufferedWriter(job.getRejectionReport()))) {
+            Groups groups = new Groups(groupRepository.findAll());
+            reader.next();
+
+            List<String> reportHeader = new ArrayList<>(header.size() + 2);
+            reportHeader.add("line");
+            reportHeader.add("errors");
+            reportHeader.addAll(header);
+            rejections.writeRow(reportHeader);
+
+            List<Animal> pending = new ArrayList<>(batchSize);
+            for (List<String> row = reader.next(); row != null; row = reader.next()) {
+                job.getRowsRead().incrementAndGet();
+                AnimalDTO animalDTO = columns.toAnimal(row, groups);
+                List<String> errors = validate(animalDTO, columns, row);
+                if (!errors.isEmpty()) {
+                    List<String> rejection = new ArrayList<>(row.size() + 2);
+                    rejection.add(String.valueOf(reader.getLine()));
+                    rejection.add(String.join("; ", errors));
+                    rejection.addAll(row);
+                    rejections.writeRow(rejection);
+                    job.getRejected().incrementAndGet();
+                    rejectedRows.increment();
+                    continue;
+                }
+
+                pending.add(Animal.builder()
+                        .scientificName(animalDTO.getScientificName())
+                        .specie(animalDTO.getSpecie())
+                        .size(animalDTO.getSize())
+                        .mass(animalDTO.getMass())
+                        .status(StatusEnum.fromValue(animalDTO.getStatus()).orElseThrow())
+                        .group(groups.byId().get(animalDTO.getGroup().getId()))
+                        .build());
+                if (pending.size() == batchSize) {
+                    commit(pending, job, importedRows);
+                }
+            }
+            commit(pending, job, importedRows);
+            job.complete();
+        } catch (IOException e) {
+            // The upload is already on disk, so this is a malformed record or a local file error; the job reports it.
+            job.fail(e.getMessage());
+        } catch (RuntimeException e) {
+            job.fail(e.getMessage());
+            throw e;
+        } finally {
+            animalImportRegistry.releaseUpload(job);
+        }
+    }
+
+    private List<String> readHeader(AnimalImportJob job) throws IOException {
+        try (CsvReader reader = reader(job)) {
+            List<String> header = reader.next();
+            if (header == null) {
+                throw new BadRequestException("The CSV upload is empty");
+            }
+            return header;
+        } catch (CsvFormatException e) {
+            throw new BadRequestException(e.getMessage());
+        }
+    }
+
+    private static CsvReader reader(AnimalImportJob job) throws IOException {
+        return new CsvReader(new InputStreamReader(Files.newInputStream(job.getUpload()), StandardCharsets.UTF_8), MAX_RECORD_LENGTH);
+    }
+
+    private void commit(List<Animal> pending, AnimalImportJob job, Counter importedRows) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        animalService.saveAll(pending);
+        job.getImported().addAndGet(pending.size());
+        importedRows.increment(pending.size());
+        pending.clear();
+    }
+
+    private List<String> validate(AnimalDTO animalDTO, Columns columns, List<String> row) {
+        // Unparseable numbers reach the validator as nulls, so they are reported once, as numbers.
+        Set<String> invalidNumbers = new HashSet<>();
+        if (isInvalidNumber(columns.value(row, columns.size()))) {
+            invalidNumbers.add("size");
+        }
+        if (isInvalidNumber(columns.value(row, columns.mass()))) {
+            invalidNumbers.add("mass");
+        }
+
+        List<String> errors = new ArrayList<>();
+        invalidNumbers.stream().sorted().forEach(number -> errors.add(number + ": must be a number"));
+        validator.validate(animalDTO).stream()
+                .filter(violation -> !invalidNumbers.contains(violation.getPropertyPath().toString()))
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .forEach(violation -> errors.add(violation.getPropertyPath() + ": " + violation.getMessage()));
+
+        String status = columns.value(row, columns.status());
+        if (status != null && StatusEnum.fromValue(status).isEmpty()) {
+            errors.add("status: Unsupported status " + status);
+        }
+        if (animalDTO.getGroup() != null && animalDTO.getGroup().getId() == null) {
+            String groupName = columns.value(row, columns.groupName());
+            errors.add(groupName != null
+                    ? "groupName: Group not found with name " + groupName
+                    : "groupId: Group not found with id " + columns.value(row, columns.groupId()));
+        }
+        return errors;
+    }
+
+    private AnimalImportJob findJob(String id) {
+        return animalImportRegistry.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Import not found with id " + id));
+    }
+
+    private AnimalImportDTO toDTO(AnimalImportJob job) {
+        AnimalImportDTO importDTO = AnimalImportDTO.builder()
+                .id(job.getId())
+                .status(job.getStatus().name())
+                .rowsRead(job.getRowsRead().get())
+                .imported(job.getImported().get())
+                .rejected(job.getRejected().get())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .message(job.getMessage())
+                .build();
+        importDTO.add(linkFactory.linkToAnimalImport(job.getId(), IanaLinkRelations.SELF));
+        if (importDTO.getRejected() > 0) {
+            importDTO.add(linkFactory.linkToAnimalImportRejections(job.getId(), REJECTIONS_RELATION));
+        }
+        return importDTO;
+    }
+
+    private static boolean isInvalidNumber(String value) {
+        return value != null && parseDouble(value) == null;
+    }
+
+    private static Double parseDouble(String value) {
+        try {
+            return Double.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Long parseLong(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private record Groups(Map<Long, Group> byId, Map<String, Group> byName) {
+
+        Groups(List<Group> groups) {
+            this(groups.stream().collect(Collectors.toMap(Group::getId, group -> group)),
+                    groups.stream().collect(Collectors.toMap(group -> group.getName().toLowerCase(Locale.ROOT), group -> group, (first, second) -> first)));
+        }
+    }
+
+    // Columns are matched by header name, so the export format and hand-written files with fewer columns both work.
+    private record Columns(int scientificName, int specie, int size, int mass, int status, int groupId, int groupName) {
+
+        static Columns of(List<String> header) {
+            Map<String, Integer> indexes = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                indexes.putIfAbsent(header.get(i).trim(), i);
+            }
+
+            List<String> missing = new ArrayList<>();
+            for (String required : List.of("scientificName", "specie", "size", "mass")) {
+                if (!indexes.containsKey(required)) {
+                    missing.add(required);
+                }
+            }
+            if (!indexes.containsKey("groupName") && !indexes.containsKey("groupId")) {
+                missing.add("groupName");
+            }
+            if (!missing.isEmpty()) {
+                throw new BadRequestException("The CSV header is missing the columns " + String.join(", ", missing));
+            }
+
+            return new Columns(indexes.get("scientificName"), indexes.get("specie"), indexes.get("size"), indexes.get("mass"),
+                    indexes.getOrDefault("status", -1), indexes.getOrDefault("groupId", -1), indexes.getOrDefault("groupName", -1));
+        }
+
+        String value(List<String> row, int index) {
+            if (index < 0 || index >= row.size()) {
+                return null;
+            }
+            String value = row.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        AnimalDTO toAnimal(List<String> row, Groups groups) {
+            String size = value(row, this.size);
+            String mass = value(row, this.mass);
+            String status = value(row, this.status);
+            return AnimalDTO.builder()
+                    .scientificName(value(row, scientificName))
+                    .specie(value(row, specie))
+                    .size(size == null ? null : parseDouble(size))
+                    .mass(mass == null ? null : parseDouble(mass))
+                    .status(status == null ? StatusEnum.ACTIVE.getDescription() : status)
+                    .group(toGroup(row, groups))
+                    .build();
+        }
+
+        // Group names go through the local map first; the ID column is only used when the name is absent.
+        private GroupDTO toGroup(List<String> row, Groups groups) {
+            String name = value(row, groupName);
+            String id = value(row, groupId);
+            if (name == null && id == null) {
+                return null;
+            }
+
+            Group group = name != null
+                    ? groups.byName().get(name.toLowerCase(Locale.ROOT))
+                    : groups.byId().get(parseLong(id));
+            return group == null ? GroupDTO.builder().name(name).build() : GroupDTO.fromEntity(group);
+        }
+    }
+}
@@ -1,32 +1,106 @@
 package br.dev.ulk.animalz.infraestructure.services;
 
-import br.dev.ulk.animalz.application.controllers.AnimalController;
-import br.dev.ulk.animalz.application.controllers.GroupController;
+import br.dev.ulk.animalz.application.dtos.AnimalBatchResultDTO;
 import br.dev.ulk.animalz.application.dtos.AnimalDTO;
+import br.dev.ulk.animalz.application.dtos.AnimalFilterDTO;
+import br.dev.ulk.animalz.application.dtos.AnimalNameDTO;
+import br.dev.ulk.animalz.application.dtos.FieldSelectionDTO;
+import br.dev.ulk.animalz.application.dtos.GroupDTO;
+import br.dev.ulk.animalz.application.exceptions.BadRequestException;
+import br.dev.ulk.animalz.application.exceptions.PreconditionFailedException;
 import br.dev.ulk.animalz.application.exceptions.ResourceNotFoundException;
+import br.dev.ulk.animalz.application.exceptions.payloads.ApiError;
+import br.dev.ulk.animalz.application.links.LinkFactory;
+import br.dev.ulk.animalz.domain.enumerations.AnimalFieldEnum;
+import br.dev.ulk.animalz.domain.enumerations.ChangeOperationEnum;
+import br.dev.ulk.animalz.domain.enumerations.ExportFormatEnum;
 import br.dev.ulk.animalz.domain.enumerations.StatusEnum;
 import br.dev.ulk.animalz.domain.models.Animal;
 import br.dev.ulk.animalz.domain.models.Group;
+import br.dev.ulk.animalz.domain.projections.AnimalVersion;
+import br.dev.ulk.animalz.domain.projections.AnimalView;
+import br.dev.ulk.animalz.infraestructure.caches.AnimalNameIndex;
+import br.dev.ulk.animalz.infraestructure.caches.GroupCache;
+import br.dev.ulk.animalz.infraestructure.changes.AnimalChangeLog;
+import br.dev.ulk.animalz.infraestructure.coalescing.Coalesced;
+import br.dev.ulk.animalz.infraestructure.csv.CsvWriter;
 import br.dev.ulk.animalz.infraestructure.repositories.AnimalRepository;
 import br.dev.ulk.animalz.infraestructure.repositories.GroupRepository;
-import jakarta.transaction.Transactional;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.hateoas.Link;
-import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static br.dev.ulk.animalz.infraestructure.repositories.AnimalSpecifications.hasStatus;
+import static br.dev.ulk.animalz.infraestructure.repositories.AnimalSpecifications.idGreaterThan;
+import static br.dev.ulk.animalz.infraestructure.repositories.AnimalSpecifications.inGroup;
+import static br.dev.ulk.animalz.infraestructure.repositories.AnimalSpecifications.massBetween;
+import static br.dev.ulk.animalz.infraestructure.repositories.AnimalSpecifications.sizeBetween;
 
 @Service
 public class AnimalService {
 
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_BATCH_SIZE = 10_000;
+    public static final int DEFAULT_SEARCH_SIZE = 10;
+    public static final int MAX_SEARCH_SIZE = 50;
+    private static final int JDBC_BATCH_SIZE = 50;
+    private static final int EXPORT_FLUSH_SIZE = 500;
+    private static final String[] CSV_HEADER = {"id", "scientificName", "specie", "size", "mass", "status", "groupId", "groupName"};
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final Sort ORDER_BY_ID = Sort.by("id");
+    private static final LinkRelation ANIMALS_RELATION = LinkRelation.of("animals");
+    private static final LinkRelation GROUP_RELATION = LinkRelation.of("group");
+    private static final String GROUP_FIELD = "group";
+
     @Autowired
     private AnimalRepository animalRepository;
     @Autowired
     private GroupRepository groupRepository;
+    @Autowired
+    private LinkFactory linkFactory;
+    @Autowired
+    private GroupCache groupCache;
+    @Autowired
+    private AnimalNameIndex animalNameIndex;
+    @Autowired
+    private AnimalChangeLog animalChangeLog;
+    @Autowired
+    private Validator validator;
+    @PersistenceContext
+    private EntityManager entityManager;
 
     public List<Animal> findAll() {
         return animalRepository.findAll();
@@ -37,39 +111,157 @@ public class AnimalService {
     }
 
     public Animal save(Animal animal) {
-        return animalRepository.save(animal);
+        ChangeOperationEnum operation = animal.getId() == null ? ChangeOperationEnum.CREATED : ChangeOperationEnum.UPDATED;
+        Animal saved = animalRepository.save(animal);
+        animalNameIndex.put(saved.getId(), saved.getScientificName(), saved.getSpecie());
+        animalChangeLog.record(saved.getId(), operation);
+        return saved;
     }
 
     @Transactional
     public void delete(Long id) {
+        if (!animalRepository.existsById(id)) {
+            return;
+        }
         animalRepository.deleteById(id);
+        animalNameIndex.remove(id);
+        animalChangeLog.record(id, ChangeOperationEnum.DELETED);
+    }
+
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadNameIndex() {
+        animalNameIndex.load(animalRepository::streamAllNames);
     }
 
-    public List<AnimalDTO> getAllAnimals() {
-        List<Animal> animals = findAll();
+    // The filter and the selection are optional: without them every animal comes in its full representation.
+    @Transactional(readOnly = true)
+    public List<AnimalDTO> getAllAnimals(AnimalFilterDTO filter, FieldSelectionDTO selection) {
+        boolean filtered = filter != null && !filter.isEmpty();
+        Set<AnimalFieldEnum> fields = parseFields(selection);
+        if (fields == null) {
+            List<AnimalView> animals = filtered
+                    ? animalRepository.findViews(toSpecification(filter), ORDER_BY_ID, Limit.unlimited())
+                    : animalRepository.findAllViews();
+            return animals.stream()
+                    .map(animal -> addLinksSelf(AnimalDTO.fromView(animal)))
+                    .toList();
+        }
+
+        Specification<Animal> specification = filtered ? toSpecification(filter) : Specification.where(null);
+        List<AnimalView> animals = animalRepository.findViews(specification, ORDER_BY_ID, Limit.unlimited(), fields);
         return animals.stream()
-                .map(animal -> addLinksSelf(animal, AnimalDTO.fromEntity(animal)))
+                .map(animal -> toSparseDTO(animal, fields, selection.includeLinks()))
                 .toList();
     }
 
-    public AnimalDTO getAnimalById(Long id) {
-        Animal animal = findById(id)
+    @Transactional(readOnly = true)
+    public CollectionModel<AnimalDTO> getAnimalsPage(Long after, Integer limit, AnimalFilterDTO filter, FieldSelectionDTO selection) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        long cursor = after == null ? 0L : after;
+        Map<String, Object> filters = filter == null ? Map.of() : filter.toParameters();
+        Set<AnimalFieldEnum> fields = parseFields(selection);
+
+        List<AnimalView> animals;
+        if (fields != null) {
+            Specification<Animal> specification = filters.isEmpty() ? idGreaterThan(cursor) : toSpecification(filter).and(idGreaterThan(cursor));
+            animals = animalRepository.findViews(specification, ORDER_BY_ID, Limit.of(pageSize + 1), fields);
+        } else if (filters.isEmpty()) {
+            animals = animalRepository.findViewsByIdGreaterThan(cursor, Limit.of(pageSize + 1));
+        } else {
+            animals = animalRepository.findViews(toSpecification(filter).and(idGreaterThan(cursor)), ORDER_BY_ID, Limit.of(pageSize + 1));
+        }
+        List<AnimalDTO> page = animals.stream()
+                .limit(pageSize)
+                .map(animal -> fields == null ? addLinksSelf(AnimalDTO.fromView(animal)) : toSparseDTO(animal, fields, selection.includeLinks()))
+                .toList();
+
+        Map<String, Object> parameters = filters;
+        if (fields != null) {
+            parameters = new LinkedHashMap<>(filters);
+            parameters.putAll(selection.toParameters());
+        }
+        CollectionModel<AnimalDTO> animalsPage = CollectionModel.of(page);
+        animalsPage.add(linkFactory.linkToAnimalsPage(after, pageSize, parameters, IanaLinkRelations.SELF));
+        if (animals.size() > pageSize) {
+            Long nextCursor = animals.get(pageSize - 1).id();
+            animalsPage.add(linkFactory.linkToAnimalsPage(nextCursor, pageSize, parameters, IanaLinkRelations.NEXT));
+        }
+        return animalsPage;
+    }
+
+    @Coalesced("animal")
+    @Transactional(readOnly = true)
+    public AnimalDTO getAnimalById(Long id, FieldSelectionDTO selection) {
+        Set<AnimalFieldEnum> fields = parseFields(selection);
+        if (fields == null) {
+            AnimalView animal = animalRepository.findViewById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Animal not found with id " + id));
+            return addLinks(AnimalDTO.fromView(animal));
+        }
+
+        AnimalView animal = animalRepository.findVersionedViewById(id, fields)
+                .orElseThrow(() -> new ResourceNotFoundException("Animal not found with id " + id));
+        AnimalDTO animalDTO = AnimalDTO.fromView(animal, fields);
+        if (selection.includeLinks()) {
+            animalDTO.add(linkFactory.linkToAnimals(ANIMALS_RELATION));
+            addGroupLink(animalDTO, animal.groupId());
+        }
+        return animalDTO;
+    }
+
+    public List<AnimalNameDTO> searchAnimals(String prefix, Integer limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new BadRequestException("The search prefix must not be blank");
+        }
+        int size = limit == null ? DEFAULT_SEARCH_SIZE : Math.min(Math.max(limit, 1), MAX_SEARCH_SIZE);
+
+        return animalNameIndex.search(prefix, size).stream()
+                .map(animalName -> {
+                    AnimalNameDTO animalNameDTO = AnimalNameDTO.fromProjection(animalName);
+                    animalNameDTO.add(linkFactory.linkToAnimal(animalName.id(), IanaLinkRelations.SELF));
+                    return animalNameDTO;
+                })
+                .toList();
+    }
+
+    @Coalesced("animal-version")
+    public AnimalVersion getAnimalVersion(Long id) {
+        return animalRepository.findVersionById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Animal not found with id " + id));
-        return addLinks(animal, AnimalDTO.fromEntity(animal));
     }
 
-    public List<AnimalDTO> getAnimalsByGroup(String group) {
-        Optional<Object> groupParameter = parseGroupParameter(group);
+    @Coalesced("animals-by-group")
+    @Transactional(readOnly = true)
+    public List<AnimalDTO> getAnimalsByGroup(String group, FieldSelectionDTO selection) {
+        Set<AnimalFieldEnum> fields = parseFields(selection);
+        Long groupId = findGroup(group).getId();
+        if (fields == null) {
+            return animalRepository.findViewsByGroupId(groupId).stream()
+                    .map(animal -> addLinksSelf(AnimalDTO.fromView(animal)))
+                    .toList();
+        }
 
-        return parseGroupParameter(group).get() instanceof Long ?
-                getAnimalsByGroupId((Long) groupParameter.get()) :
-                getAnimalsByGroupName((String) groupParameter.get());
+        List<AnimalView> animals = animalRepository.findViews(inGroup(groupId), ORDER_BY_ID, Limit.unlimited(), fields);
+        return animals.stream()
+                .map(animal -> toSparseDTO(animal, fields, selection.includeLinks()))
+                .toList();
+    }
 
+    @Transactional(readOnly = true)
+    public void exportAnimals(ExportFormatEnum format, OutputStream outputStream) throws IOException {
+        try (Stream<AnimalView> animals = animalRepository.streamAllViews()) {
+            Iterator<AnimalView> iterator = animals.iterator();
+            switch (format) {
+                case NDJSON -> writeNdjson(iterator, outputStream);
+                case CSV -> writeCsv(iterator, outputStream);
+            }
+        }
     }
 
     @Transactional
     public AnimalDTO createAnimal(AnimalDTO animalDTO) {
-        Group group = groupRepository.findById(animalDTO.getGroup().getId())
+        Group group = groupCache.findById(animalDTO.getGroup().getId(), groupRepository::findById)
                 .orElseThrow(() -> new ResourceNotFoundException("Group not found with id " + animalDTO.getGroup().getId()));
 
         Animal animal = Animal.builder()
@@ -81,31 +273,121 @@ public class AnimalService {
                 .status(StatusEnum.ACTIVE)
                 .build();
 
-        return addLinks(animal, AnimalDTO.fromEntity(save(animal)));
+        return addLinks(AnimalDTO.fromEntity(save(animal)));
+    }
+
+    @Transactional
+    public List<AnimalBatchResultDTO> createAnimals(List<AnimalDTO> animalDTOs) {
+        if (animalDTOs.isEmpty() || animalDTOs.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException("A batch must contain between 1 and " + MAX_BATCH_SIZE + " animals");
+        }
+        if (animalDTOs.stream().anyMatch(Objects::isNull)) {
+            throw new BadRequestException("A batch must not contain null animals");
+        }
+
+        Map<Long, Optional<Group>> groups = resolveGroups(animalDTOs);
+        List<AnimalBatchResultDTO> results = new ArrayList<>(animalDTOs.size());
+        List<Animal> pending = new ArrayList<>(JDBC_BATCH_SIZE);
+        List<AnimalBatchResultDTO> pendingResults = new ArrayList<>(JDBC_BATCH_SIZE);
+
+        for (int index = 0; index < animalDTOs.size(); index++) {
+            AnimalDTO animalDTO = animalDTOs.get(index);
+            List<ApiError.ApiSubError> errors = validate(animalDTO, groups);
+            if (!errors.isEmpty()) {
+                results.add(AnimalBatchResultDTO.builder()
+                        .index(index)
+                        .status(HttpStatus.BAD_REQUEST.value())
+                        .errors(errors)
+                        .build());
+                continue;
+            }
+
+            Animal animal = Animal.builder()
+                    .scientificName(animalDTO.getScientificName())
+                    .specie(animalDTO.getSpecie())
+                    .size(animalDTO.getSize())
+                    .mass(animalDTO.getMass())
+                    .group(groups.get(animalDTO.getGroup().getId()).orElseThrow())
+                    .status(StatusEnum.ACTIVE)
+                    .build();
+            AnimalBatchResultDTO result = AnimalBatchResultDTO.builder()
+                    .index(index)
+                    .status(HttpStatus.CREATED.value())
+                    .build();
+            pending.add(animal);
+            pendingResults.add(result);
+            results.add(result);
+
+            if (pending.size() == JDBC_BATCH_SIZE) {
+                persistBatch(pending, pendingResults);
+            }
+        }
+        persistBatch(pending, pendingResults);
+
+        return results;
+    }
+
+    @Transactional
+    public void saveAll(List<Animal> animals) {
+        insertAll(animals);
     }
 
+    // A null expected version skips the check, as for requests without If-Match.
     @Transactional
-    public AnimalDTO updateAnimal(Long id, AnimalDTO animalDTO) {
+    public AnimalDTO updateAnimal(Long id, AnimalDTO animalDTO, Long expectedVersion) {
         Animal animal = findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Animal not found with id " + id));
+        checkVersion(animal, expectedVersion);
 
         animal.setScientificName(animalDTO.getScientificName());
         animal.setSpecie(animalDTO.getSpecie());
         animal.setSize(animalDTO.getSize());
         animal.setMass(animalDTO.getMass());
 
-        return addLinks(animal, AnimalDTO.fromEntity(save(animal)));
+        return addLinks(AnimalDTO.fromEntity(save(animal)));
     }
 
     @Transactional
-    public AnimalDTO partialUpdateAnimal(Long id, AnimalDTO animalDTO) {
+    public AnimalDTO partialUpdateAnimal(Long id, AnimalDTO animalDTO, Long expectedVersion) {
         Animal animal = animalRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Animal not found with id " + id));
+        checkVersion(animal, expectedVersion);
 
         animal.setScientificName(animalDTO.getScientificName());
         animal.setSpecie(animalDTO.getSpecie());
 
-        return addLinks(animal, AnimalDTO.fromEntity(save(animal)));
+        return addLinks(AnimalDTO.fromEntity(save(animal)));
+    }
+
+    private void checkVersion(Animal animal, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(animal.getVersion())) {
+            throw new PreconditionFailedException("Animal " + animal.getId() + " was modified since version " + expectedVersion);
+        }
+    }
+
+    // Returns null when every field and link was asked for, so the caller keeps the full representation.
+    private Set<AnimalFieldEnum> parseFields(FieldSelectionDTO selection) {
+        if (selection == null || selection.isEmpty()) {
+            return null;
+        }
+        if (!selection.hasFields()) {
+            return EnumSet.allOf(AnimalFieldEnum.class);
+        }
+
+        Set<AnimalFieldEnum> fields = EnumSet.noneOf(AnimalFieldEnum.class);
+        for (String name : selection.getFieldNames()) {
+            if (GROUP_FIELD.equals(name)) {
+                fields.add(AnimalFieldEnum.GROUP_ID);
+                fields.add(AnimalFieldEnum.GROUP_NAME);
+            } else {
+                fields.add(AnimalFieldEnum.fromValue(name)
+                        .orElseThrow(() -> new BadRequestException("Unsupported field " + name)));
+            }
+        }
+        if (fields.isEmpty()) {
+            throw new BadRequestException("The fields parameter must name at least one field");
+        }
+        return fields;
     }
 
     private Optional<Object> parseGroupParameter(String group) {
@@ -116,48 +398,177 @@ public class AnimalService {
         }
     }
 
-    private List<AnimalDTO> getAnimalsByGroupId(Long groupId) {
-        Group group = groupRepository.findById(groupId)
-                .orElseThrow(() -> new ResourceNotFoundException("Group not found with id " + groupId));
+    private Specification<Animal> toSpecification(AnimalFilterDTO filter) {
+        checkRange("mass", filter.getMinMass(), filter.getMaxMass());
+        checkRange("size", filter.getMinSize(), filter.getMaxSize());
 
-        List<Animal> animals = animalRepository.findAnimalsByGroupId(group.getId());
-        return animals.stream()
-                .map(animal -> addLinksSelf(animal, AnimalDTO.fromEntity(animal)))
-                .toList();
+        StatusEnum status = isBlank(filter.getStatus()) ? null : StatusEnum.fromValue(filter.getStatus())
+                .orElseThrow(() -> new BadRequestException("Unsupported status " + filter.getStatus()));
+        Long groupId = isBlank(filter.getGroup()) ? null : findGroup(filter.getGroup()).getId();
+
+        return Specification.where(massBetween(filter.getMinMass(), filter.getMaxMass()))
+                .and(sizeBetween(filter.getMinSize(), filter.getMaxSize()))
+                .and(hasStatus(status))
+                .and(inGroup(groupId));
     }
 
-    private List<AnimalDTO> getAnimalsByGroupName(String groupName) {
-        Group group = groupRepository.findByNameIgnoreCase(groupName)
-                .orElseThrow(() -> new ResourceNotFoundException("Group not found with name " + groupName));
+    private void checkRange(String attribute, Double min, Double max) {
+        if (min != null && max != null && min > max) {
+            throw new BadRequestException("The minimum " + attribute + " must not be greater than the maximum " + attribute);
+        }
+    }
 
-        List<Animal> animals = animalRepository.findByGroupNameIgnoreCase(group.getName());
-        return animals.stream()
-                .map(animal -> addLinksSelf(animal, AnimalDTO.fromEntity(animal)))
-                .toList();
+    private boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private Group findGroup(String group) {
+        return parseGroupParameter(group).get() instanceof Long groupId
+                ? groupCache.findById(groupId, groupRepository::findById)
+                .orElseThrow(() -> new ResourceNotFoundException("Group not found with id " + groupId))
+                : groupCache.findByName(group, groupRepository::findByNameIgnoreCase)
+                .orElseThrow(() -> new ResourceNotFoundException("Group not found with name " + group));
+    }
+
+    private Map<Long, Optional<Group>> resolveGroups(List<AnimalDTO> animalDTOs) {
+        Map<Long, Optional<Group>> groups = new HashMap<>();
+        animalDTOs.stream()
+                .map(AnimalDTO::getGroup)
+                .filter(Objects::nonNull)
+                .map(GroupDTO::getId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(groupId -> groups.put(groupId, groupCache.findById(groupId, groupRepository::findById)));
+        return groups;
     }
 
-    private AnimalDTO addLinks(Animal animal, AnimalDTO animalDTO) {
-        Link allLink = linkTo(WebMvcLinkBuilder.methodOn(AnimalController.class).getAllAnimals()).withRel("animals");
-        animalDTO.add(allLink);
+    private List<ApiError.ApiSubError> validate(AnimalDTO animalDTO, Map<Long, Optional<Group>> groups) {
+        List<ApiError.ApiSubError> errors = new ArrayList<>(validator.validate(animalDTO).stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(violation -> new ApiError.ApiSubError(violation.getPropertyPath().toString(), violation.getMessage()))
+                .toList());
+
+        if (animalDTO.getGroup() != null) {
+            Long groupId = animalDTO.getGroup().getId();
+            if (groupId == null) {
+                errors.add(new ApiError.ApiSubError("group.id", "must not be null"));
+            } else if (groups.get(groupId).isEmpty()) {
+                errors.add(new ApiError.ApiSubError("group.id", "Group not found with id " + groupId));
+            }
+        }
+        return errors;
+    }
 
-        addGroupLink(animal, animalDTO);
+    private void persistBatch(List<Animal> pending, List<AnimalBatchResultDTO> pendingResults) {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        insertAll(pending);
+
+        for (int i = 0; i < pending.size(); i++) {
+            pendingResults.get(i).setAnimal(addLinksSelf(AnimalDTO.fromEntity(pending.get(i))));
+        }
+        pending.clear();
+        pendingResults.clear();
+    }
+
+    private void insertAll(List<Animal> animals) {
+        animalRepository.saveAll(animals);
+        entityManager.flush();
+        entityManager.clear();
+
+        for (Animal animal : animals) {
+            animalNameIndex.put(animal.getId(), animal.getScientificName(), animal.getSpecie());
+            animalChangeLog.record(animal.getId(), ChangeOperationEnum.CREATED);
+        }
+    }
+
+    private void writeNdjson(Iterator<AnimalView> animals, OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            int count = 0;
+            while (animals.hasNext()) {
+                AnimalView animal = animals.next();
+                generator.writeStartObject();
+                generator.writeNumberField("id", animal.id());
+                generator.writeStringField("scientificName", animal.scientificName());
+                generator.writeStringField("specie", animal.specie());
+                generator.writeNumberField("size", animal.size());
+                generator.writeNumberField("mass", animal.mass());
+                generator.writeStringField("status", animal.status().getDescription());
+                generator.writeObjectFieldStart("group");
+                generator.writeNumberField("id", animal.groupId());
+                generator.writeStringField("name", animal.groupName());
+                generator.writeEndObject();
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+
+                if (++count % EXPORT_FLUSH_SIZE == 0) {
+                    generator.flush();
+                }
+            }
+        }
+    }
+
+    private void writeCsv(Iterator<AnimalView> animals, OutputStream outputStream) throws IOException {
+        CsvWriter writer = new CsvWriter(new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)));
+        writer.writeRow(CSV_HEADER);
+
+        int count = 0;
+        while (animals.hasNext()) {
+            AnimalView animal = animals.next();
+            writer.writeRow(
+                    String.valueOf(animal.id()),
+                    animal.scientificName(),
+                    animal.specie(),
+                    String.valueOf(animal.size()),
+                    String.valueOf(animal.mass()),
+                    animal.status().getDescription(),
+                    String.valueOf(animal.groupId()),
+                    animal.groupName());
+
+            if (++count % EXPORT_FLUSH_SIZE == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+    }
+
+    private AnimalDTO addLinks(AnimalDTO animalDTO) {
+        animalDTO.add(linkFactory.linkToAnimals(ANIMALS_RELATION));
+
+        addGroupLink(animalDTO);
 
         return animalDTO;
     }
 
-    private AnimalDTO addLinksSelf(Animal animal, AnimalDTO animalDTO) {
-        Link selfLink = linkTo(WebMvcLinkBuilder.methodOn(AnimalController.class).getAnimalById(animal.getId())).withSelfRel();
-        animalDTO.add(selfLink);
+    AnimalDTO addLinksSelf(AnimalDTO animalDTO) {
+        animalDTO.add(linkFactory.linkToAnimal(animalDTO.getId(), IanaLinkRelations.SELF));
 
-        addGroupLink(animal, animalDTO);
+        addGroupLink(animalDTO);
 
         return animalDTO;
     }
 
-    private void addGroupLink(Animal animal, AnimalDTO animalDTO) {
-        Link groupLink = linkTo(WebMvcLinkBuilder.methodOn(GroupController.class)
-                .getGroupById(animal.getGroup().getId()))
-                .withRel("group");
-        animalDTO.getGroup().add(groupLink);
+    private void addGroupLink(AnimalDTO animalDTO) {
+        animalDTO.getGroup().add(linkFactory.linkToGroup(animalDTO.getGroup().getId(), GROUP_RELATION));
+    }
+
+    private AnimalDTO toSparseDTO(AnimalView animal, Set<AnimalFieldEnum> fields, boolean links) {
+        AnimalDTO animalDTO = AnimalDTO.fromView(animal, fields);
+        if (links) {
+            animalDTO.add(linkFactory.linkToAnimal(animal.id(), IanaLinkRelations.SELF));
+            addGroupLink(animalDTO, animal.groupId());
+        }
+        return animalDTO;
+    }
+
+    private void addGroupLink(AnimalDTO animalDTO, Long groupId) {
+        if (animalDTO.getGroup() != null) {
+            animalDTO.getGroup().add(linkFactory.linkToGroup(groupId, GROUP_RELATION));
+        }
     }
 }
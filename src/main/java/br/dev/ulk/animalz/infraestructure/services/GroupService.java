@@ -1,27 +1,71 @@
 package br.dev.ulk.animalz.infraestructure.services;
 
-import br.dev.ulk.animalz.application.controllers.GroupController;
+import br.dev.ulk.animalz.application.dtos.AnimalDTO;
+import br.dev.ulk.animalz.application.dtos.FieldSelectionDTO;
 import br.dev.ulk.animalz.application.dtos.GroupDTO;
+import br.dev.ulk.animalz.application.exceptions.BadRequestException;
+import br.dev.ulk.animalz.application.exceptions.PreconditionFailedException;
 import br.dev.ulk.animalz.application.exceptions.ResourceNotFoundException;
+import br.dev.ulk.animalz.application.links.LinkFactory;
+import br.dev.ulk.animalz.domain.enumerations.ChangeOperationEnum;
+import br.dev.ulk.animalz.domain.enumerations.GroupFieldEnum;
 import br.dev.ulk.animalz.domain.models.Group;
+import br.dev.ulk.animalz.domain.projections.AnimalView;
+import br.dev.ulk.animalz.domain.projections.GroupsVersion;
+import br.dev.ulk.animalz.infraestructure.caches.GroupCache;
+import br.dev.ulk.animalz.infraestructure.changes.AnimalChangeLog;
+import br.dev.ulk.animalz.infraestructure.repositories.AnimalRepository;
 import br.dev.ulk.animalz.infraestructure.repositories.GroupRepository;
-import jakarta.transaction.Transactional;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.hateoas.Link;
-import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
-
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import java.util.stream.Stream;
 
 @Service
 public class GroupService {
 
+    private static final LinkRelation GROUPS_RELATION = LinkRelation.of("groups");
+
     @Autowired
     private GroupRepository groupRepository;
+    @Autowired
+    private AnimalRepository animalRepository;
+    @Autowired
+    private LinkFactory linkFactory;
+    @Autowired
+    private GroupCache groupCache;
+    @Autowired
+    private AnimalChangeLog animalChangeLog;
+    @Autowired
+    private AnimalService animalService;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Lazy
+    @Autowired
+    private RequestMappingHandlerAdapter handlerAdapter;
+
+    private volatile ObjectMapper halObjectMapper;
 
     public List<Group> findAll() {
         return groupRepository.findAll();
@@ -38,51 +82,180 @@ public class GroupService {
     @Transactional
     public void delete(Long id) {
         groupRepository.deleteById(id);
+        groupCache.invalidateAll();
     }
 
+    @Transactional(readOnly = true)
     public List<GroupDTO> getAllGroups() {
         List<Group> groups = findAll();
         return groups.stream()
-                .map(group -> addLink(group, GroupDTO.fromEntity(group)))
+                .map(group -> addLink(group.getId(), GroupDTO.fromEntity(group)))
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public List<GroupDTO> getAllGroups(FieldSelectionDTO selection) {
+        Set<GroupFieldEnum> fields = parseFields(selection);
+        if (fields == null) {
+            return getAllGroups();
+        }
+
+        return findAll().stream()
+                .map(group -> {
+                    GroupDTO groupDTO = GroupDTO.fromEntity(group, fields);
+                    return selection.includeLinks() ? addLink(group.getId(), groupDTO) : groupDTO;
+                })
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
     public GroupDTO getGroupById(Long id) {
         Group group = findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Group not found with id " + id));
-        return addLinks(group, GroupDTO.fromEntity(group));
+        return addLinks(group.getId(), GroupDTO.fromEntity(group));
+    }
+
+    @Transactional(readOnly = true)
+    public GroupDTO getGroupById(Long id, FieldSelectionDTO selection) {
+        Set<GroupFieldEnum> fields = parseFields(selection);
+        if (fields == null) {
+            return getGroupById(id);
+        }
+
+        Group group = findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Group not found with id " + id));
+        GroupDTO groupDTO = GroupDTO.fromEntity(group, fields);
+        return selection.includeLinks() ? addLinks(group.getId(), groupDTO) : groupDTO;
+    }
+
+    public Long getGroupVersion(Long id) {
+        return groupRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Group not found with id " + id));
+    }
+
+    public GroupsVersion getGroupsVersion() {
+        return groupRepository.findGroupsVersion();
+    }
+
+    // Every animal write advances the change log, so its sequence versions the embedded animals.
+    @Transactional(readOnly = true)
+    public String getGroupsWithAnimalsETag() {
+        return getGroupsVersion().eTag(animalChangeLog.getLastSequence());
+    }
+
+    // Rows come ordered by group, so each group is written as soon as its last animal is read.
+    @Transactional(readOnly = true)
+    public void writeGroupsWithAnimals(String baseUri, OutputStream outputStream) throws IOException {
+        ObjectMapper mapper = halObjectMapper();
+        ObjectWriter groupWriter = mapper.writerFor(GroupDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        try (LinkFactory.Binding ignored = linkFactory.bind(baseUri);
+             Stream<AnimalView> rows = groupRepository.streamAllWithAnimals();
+             JsonGenerator generator = mapper.createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+
+            GroupDTO groupDTO = null;
+            Iterator<AnimalView> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                AnimalView row = iterator.next();
+                if (groupDTO == null || !row.groupId().equals(groupDTO.getId())) {
+                    if (groupDTO != null) {
+                        groupWriter.writeValue(generator, groupDTO);
+                    }
+                    groupDTO = addLinks(row.groupId(), new GroupDTO(row.groupId(), row.groupName()));
+                    groupDTO.setAnimals(new ArrayList<>());
+                }
+                if (row.id() != null) {
+                    groupDTO.getAnimals().add(animalService.addLinksSelf(AnimalDTO.fromView(row)));
+                }
+            }
+            if (groupDTO != null) {
+                groupWriter.writeValue(generator, groupDTO);
+            }
+            generator.writeEndArray();
+        }
     }
 
     @Transactional
     public GroupDTO createGroup(GroupDTO groupDTO) {
         Group group = new Group();
         group.setName(groupDTO.getName());
-        return addLinks(group, GroupDTO.fromEntity(save(group)));
+        groupCache.invalidateAll();
+        GroupDTO created = GroupDTO.fromEntity(save(group));
+        return addLinks(created.getId(), created);
     }
 
     @Transactional
     public GroupDTO updateGroup(Long id, GroupDTO groupDTO) {
+        return updateGroup(id, groupDTO, null);
+    }
+
+    @Transactional
+    public GroupDTO updateGroup(Long id, GroupDTO groupDTO, Long expectedVersion) {
         Group group = findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Group not found with id " + id));
+        if (expectedVersion != null && !expectedVersion.equals(group.getVersion())) {
+            throw new PreconditionFailedException("Group " + id + " was modified since version " + expectedVersion);
+        }
 
+        // Changes carry the group name, so a rename changes every animal of the group.
+        if (!Objects.equals(group.getName(), groupDTO.getName())) {
+            animalRepository.findIdsByGroupId(id)
+                    .forEach(animalId -> animalChangeLog.record(animalId, ChangeOperationEnum.UPDATED));
+        }
         group.setName(groupDTO.getName());
+        groupCache.invalidateAll();
 
-        return addLinks(group, GroupDTO.fromEntity(save(group)));
+        return addLinks(group.getId(), GroupDTO.fromEntity(save(group)));
     }
 
-    private GroupDTO addLink(Group group, GroupDTO groupDTO) {
-        Link selfLink = linkTo(WebMvcLinkBuilder.methodOn(GroupController.class).getGroupById(group.getId())).withSelfRel();
-        groupDTO.add(selfLink);
+    // Returns null when every field and link was asked for, so the caller keeps the full representation.
+    private Set<GroupFieldEnum> parseFields(FieldSelectionDTO selection) {
+        if (selection == null || selection.isEmpty()) {
+            return null;
+        }
+        if (!selection.hasFields()) {
+            return EnumSet.allOf(GroupFieldEnum.class);
+        }
 
-        return groupDTO;
+        Set<GroupFieldEnum> fields = EnumSet.noneOf(GroupFieldEnum.class);
+        for (String name : selection.getFieldNames()) {
+            fields.add(GroupFieldEnum.fromValue(name)
+                    .orElseThrow(() -> new BadRequestException("Unsupported field " + name)));
+        }
+        if (fields.isEmpty()) {
+            throw new BadRequestException("The fields parameter must name at least one field");
+        }
+        return fields;
     }
 
-    private GroupDTO addLinks(Group group, GroupDTO groupDTO) {
-        Link selfLink = linkTo(WebMvcLinkBuilder.methodOn(GroupController.class).getGroupById(group.getId())).withSelfRel();
-        groupDTO.add(selfLink);
+    // The mapper MVC renders a GroupDTO body with, so embedded groups and animals carry the same HAL links.
+    private ObjectMapper halObjectMapper() {
+        ObjectMapper mapper = halObjectMapper;
+        if (mapper == null) {
+            mapper = handlerAdapter.getMessageConverters().stream()
+                    .filter(MappingJackson2HttpMessageConverter.class::isInstance)
+                    .map(converter -> ((MappingJackson2HttpMessageConverter) converter)
+                            .getObjectMappersForType(GroupDTO.class).get(MediaTypes.HAL_JSON))
+                    .filter(Objects::nonNull)
+                    .findFirst()
+                    .orElse(objectMapper);
+            halObjectMapper = mapper;
+        }
+        return mapper;
+    }
+
+    private GroupDTO addLink(Long id, GroupDTO groupDTO) {
+        groupDTO.add(linkFactory.linkToGroup(id, IanaLinkRelations.SELF));
+
+        return groupDTO;
+    }
 
-        Link groupLink = linkTo(WebMvcLinkBuilder.methodOn(GroupController.class).getAllGroups()).withRel("groups");
-        groupDTO.add(groupLink);
+    private GroupDTO addLinks(Long id, GroupDTO groupDTO) {
+        groupDTO.add(linkFactory.linkToGroup(id, IanaLinkRelations.SELF));
+        groupDTO.add(linkFactory.linkToGroups(GROUPS_RELATION));
 
         return groupDTO;
     }
@@ -0,0 +1,42 @@
+package br.dev.ulk.animalz.infraestructure.streaming;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+// Streams can outlast spring.mvc.async.request-timeout, so they get the longer streaming timeout. This runs after the
+// default timeout is set and before the async request starts, which is when the timeout is applied.
+public class StreamingTimeoutInterceptor implements CallableProcessingInterceptor {
+
+    @Value("${application.streaming.timeout:30m}")
+    private Duration streamingTimeout = Duration.ofMinutes(30);
+
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (request instanceof AsyncWebRequest asyncWebRequest
+                && handler instanceof HandlerMethod handlerMethod
+                && isStreaming(handlerMethod.getReturnType())) {
+            asyncWebRequest.setTimeout(streamingTimeout.toMillis());
+        }
+    }
+
+    private static boolean isStreaming(MethodParameter returnType) {
+        ResolvableType type = ResolvableType.forMethodParameter(returnType);
+        if (ResponseEntity.class.isAssignableFrom(type.toClass())) {
+            type = type.getGeneric(0);
+        }
+        return StreamingResponseBody.class.isAssignableFrom(type.toClass());
+    }
+}
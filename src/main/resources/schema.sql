@@ -1,21 +1,52 @@
+CREATE SEQUENCE GROUPS_SEQ START WITH 100 INCREMENT BY 50;
+
+CREATE SEQUENCE ANIMALS_SEQ START WITH 100 INCREMENT BY 50;
+
 CREATE TABLE GROUPS
 (
-    ID   BIGINT AUTO_INCREMENT NOT NULL,
-    NAME VARCHAR(255) NOT NULL,
+    ID         BIGINT       NOT NULL,
+    NAME       VARCHAR(255) NOT NULL,
+    NAME_LOWER VARCHAR(255) GENERATED ALWAYS AS (LOWER(NAME)),
+    VERSION    BIGINT       DEFAULT 0 NOT NULL,
     CONSTRAINT pk_groups PRIMARY KEY (ID)
 );
 
 CREATE TABLE ANIMALS
 (
-    ID              BIGINT AUTO_INCREMENT NOT NULL,
+    ID              BIGINT       NOT NULL,
     SCIENTIFIC_NAME VARCHAR(255) NOT NULL,
     SPECIE          VARCHAR(255) NOT NULL,
     SIZE            DOUBLE       NOT NULL,
     MASS            DOUBLE       NOT NULL,
     STATUS          VARCHAR(255) NOT NULL,
     GROUP_ID        BIGINT,
+    VERSION         BIGINT       DEFAULT 0 NOT NULL,
     CONSTRAINT pk_animals PRIMARY KEY (ID)
 );
 
+CREATE TABLE ANIMAL_CHANGES
+(
+    ID         BIGINT                   NOT NULL,
+    ANIMAL_ID  BIGINT                   NOT NULL,
+    OPERATION  VARCHAR(16)              NOT NULL,
+    CHANGED_AT TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_animal_changes PRIMARY KEY (ID)
+);
+
+CREATE TABLE ANIMAL_CHANGE_COUNTER
+(
+    LAST_SEQUENCE BIGINT NOT NULL
+);
+
+INSERT INTO ANIMAL_CHANGE_COUNTER (LAST_SEQUENCE) VALUES (0);
+
+CREATE INDEX IDX_GROUPS_NAME_LOWER ON GROUPS (NAME_LOWER);
+
+CREATE INDEX IDX_ANIMALS_GROUP_STATUS_ID ON ANIMALS (GROUP_ID, STATUS, ID);
+
+CREATE INDEX IDX_ANIMALS_MASS ON ANIMALS (MASS);
+
+CREATE INDEX IDX_ANIMALS_SIZE ON ANIMALS (SIZE);
+
 ALTER TABLE ANIMALS
     ADD CONSTRAINT FK_ANIMALS_ON_GROUP FOREIGN KEY (GROUP_ID) REFERENCES "GROUPS" (ID);
\ No newline at end of file
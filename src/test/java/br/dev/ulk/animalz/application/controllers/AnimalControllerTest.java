@@ -1,27 +1,67 @@
 package br.dev.ulk.animalz.application.controllers;
 
+import br.dev.ulk.animalz.application.converters.AnimalzProtobufHttpMessageConverter;
+import br.dev.ulk.animalz.application.dtos.AnimalBatchResultDTO;
+import br.dev.ulk.animalz.application.dtos.AnimalChangeDTO;
+import br.dev.ulk.animalz.application.dtos.AnimalChangesDTO;
 import br.dev.ulk.animalz.application.dtos.AnimalDTO;
+import br.dev.ulk.animalz.application.dtos.AnimalImportDTO;
+import br.dev.ulk.animalz.application.dtos.AnimalFilterDTO;
+import br.dev.ulk.animalz.application.dtos.AnimalNameDTO;
+import br.dev.ulk.animalz.application.dtos.FieldSelectionDTO;
 import br.dev.ulk.animalz.application.dtos.GroupDTO;
+import br.dev.ulk.animalz.application.exceptions.ResourceNotFoundException;
+import br.dev.ulk.animalz.application.exceptions.payloads.ApiError;
+import br.dev.ulk.animalz.application.protobuf.AnimalzProtos;
+import br.dev.ulk.animalz.domain.enumerations.ExportFormatEnum;
+import br.dev.ulk.animalz.domain.projections.AnimalVersion;
+import br.dev.ulk.animalz.infraestructure.changes.AnimalChangeStream;
+import br.dev.ulk.animalz.infraestructure.ratelimit.RateLimiter;
+import br.dev.ulk.animalz.infraestructure.services.AnimalChangeService;
+import br.dev.ulk.animalz.infraestructure.services.AnimalImportService;
 import br.dev.ulk.animalz.infraestructure.services.AnimalService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.Link;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 
@@ -35,6 +75,18 @@ class AnimalControllerTest {
     @MockBean
     private AnimalService animalService;
 
+    @MockBean
+    private AnimalImportService animalImportService;
+
+    @MockBean
+    private AnimalChangeService animalChangeService;
+
+    @MockBean
+    private AnimalChangeStream animalChangeStream;
+
+    @MockBean
+    private RateLimiter rateLimiter;
+
     private AnimalDTO createAnimalDTO(Long id, String scientificName, String specie, Double size, Double mass, String status, GroupDTO group) {
         return AnimalDTO.builder()
                 .id(id)
@@ -63,7 +115,7 @@ class AnimalControllerTest {
                 createAnimalDTO(2L, "Elephas maximus", "Elephant", 3.0, 5000.0, "ACTIVE", mammalGroup)
         );
 
-        when(animalService.getAllAnimals()).thenReturn(animals);
+        when(animalService.getAllAnimals(any(AnimalFilterDTO.class), any(FieldSelectionDTO.class))).thenReturn(animals);
 
         mockMvc.perform(get("/api/animals"))
                 .andExpect(status().isOk())
@@ -78,16 +130,170 @@ class AnimalControllerTest {
                 .andExpect(jsonPath("$[0].group.name").value("Mammals"));
     }
 
+    @Test
+    void testGetAllAnimals_Filtered() throws Exception {
+        GroupDTO mammalGroup = createGroupDTO(1L, "Mammals");
+        List<AnimalDTO> animals = List.of(createAnimalDTO(1L, "Panthera leo", "Lion", 1.8, 190.5, "ACTIVE", mammalGroup));
+
+        when(animalService.getAllAnimals(argThat(filter -> filter.getMinMass() == 50.0
+                && filter.getMaxMass() == 500.0
+                && filter.getMinSize() == null
+                && "ACTIVE".equals(filter.getStatus())
+                && "Mammals".equals(filter.getGroup())), any(FieldSelectionDTO.class))).thenReturn(animals);
+
+        mockMvc.perform(get("/api/animals")
+                        .param("minMass", "50")
+                        .param("maxMass", "500")
+                        .param("status", "ACTIVE")
+                        .param("group", "Mammals"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1));
+    }
+
+    @Test
+    void testGetAnimalsPage() throws Exception {
+        GroupDTO mammalGroup = createGroupDTO(1L, "Mammals");
+        CollectionModel<AnimalDTO> page = CollectionModel.of(
+                List.of(createAnimalDTO(2L, "Elephas maximus", "Elephant", 3.0, 5000.0, "ACTIVE", mammalGroup)),
+                Link.of("http://localhost/api/animals?after=1&limit=1"),
+                Link.of("http://localhost/api/animals?after=2&limit=1", "next")
+        );
+
+        when(animalService.getAnimalsPage(eq(1L), eq(1), any(AnimalFilterDTO.class), any(FieldSelectionDTO.class))).thenReturn(page);
+
+        mockMvc.perform(get("/api/animals").param("after", "1").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.valueOf("application/hal+json")))
+                .andExpect(jsonPath("$._embedded.animals[0].id").value(2))
+                .andExpect(jsonPath("$._embedded.animals[0].specie").value("Elephant"))
+                .andExpect(jsonPath("$._links.next.href").value("http://localhost/api/animals?after=2&limit=1"));
+    }
+
+    @Test
+    void testGetAnimalsPage_NoContent() throws Exception {
+        when(animalService.getAnimalsPage(eq(99L), eq(10), any(AnimalFilterDTO.class), any(FieldSelectionDTO.class))).thenReturn(CollectionModel.empty());
+
+        mockMvc.perform(get("/api/animals").param("after", "99").param("limit", "10"))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    void testExportAnimals() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(1);
+            outputStream.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(animalService).exportAnimals(eq(ExportFormatEnum.NDJSON), any(OutputStream.class));
+
+        MvcResult result = mockMvc.perform(get("/api/animals/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        // Streams get the streaming timeout rather than the default async request timeout.
+        assertEquals(Duration.ofMinutes(30).toMillis(), result.getRequest().getAsyncContext().getTimeout());
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"animals.ndjson\""))
+                .andExpect(content().string("{\"id\":1}\n"));
+    }
+
+    @Test
+    void testExportAnimals_UnsupportedFormat() throws Exception {
+        mockMvc.perform(get("/api/animals/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testImportAnimals_ShouldAcceptAndPointToTheJob() throws Exception {
+        AnimalImportDTO importDTO = AnimalImportDTO.builder()
+                .id("42")
+                .status("RUNNING")
+                .build();
+        importDTO.add(Link.of("http://localhost/api/animals/import/42"));
+        when(animalImportService.importAnimals(any(InputStream.class))).thenReturn(importDTO);
+
+        mockMvc.perform(post("/api/animals/import")
+                        .contentType("text/csv")
+                        .content("scientificName,specie,size,mass,groupName\n"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "http://localhost/api/animals/import/42"))
+                .andExpect(jsonPath("$.id").value("42"))
+                .andExpect(jsonPath("$.status").value("RUNNING"));
+    }
+
+    @Test
+    void testGetAnimalChanges() throws Exception {
+        AnimalChangesDTO changesDTO = AnimalChangesDTO.builder()
+                .changes(List.of(
+                        AnimalChangeDTO.builder().sequence(41).animalId(1L).operation("UPDATED")
+                                .animal(createAnimalDTO(1L, "Panthera leo", "Lion", 1.8, 190.5, "ACTIVE", createGroupDTO(1L, "Mammals")))
+                                .build(),
+                        AnimalChangeDTO.builder().sequence(42).animalId(2L).operation("DELETED").build()))
+                .token("42")
+                .hasMore(false)
+                .build();
+        when(animalChangeService.getChanges("40", 10)).thenReturn(changesDTO);
+
+        mockMvc.perform(get("/api/animals/changes").param("since", "40").param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").value("42"))
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andExpect(jsonPath("$.changes[0].animal.scientificName").value("Panthera leo"))
+                .andExpect(jsonPath("$.changes[1].operation").value("DELETED"))
+                .andExpect(jsonPath("$.changes[1].animal").doesNotExist());
+    }
+
+    @Test
+    void testStreamAnimalChanges_ShouldResumeFromLastEventId() throws Exception {
+        when(animalChangeService.getCursor("42")).thenReturn(42L);
+        when(animalChangeStream.subscribe(42L)).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/api/animals/changes/stream")
+                        .param("since", "7")
+                        .header("Last-Event-ID", "42")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+
+        verify(animalChangeStream).subscribe(42L);
+    }
+
+    @Test
+    void testSearchAnimals() throws Exception {
+        AnimalNameDTO lion = AnimalNameDTO.builder().id(1L).scientificName("Panthera leo").specie("Lion").build();
+        lion.add(Link.of("http://localhost/api/animals/1"));
+
+        when(animalService.searchAnimals("pan", 5)).thenReturn(List.of(lion));
+
+        mockMvc.perform(get("/api/animals/search").param("prefix", "pan").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].scientificName").value("Panthera leo"))
+                .andExpect(jsonPath("$[0].specie").value("Lion"))
+                .andExpect(jsonPath("$[0].links[0].href").value("http://localhost/api/animals/1"));
+    }
+
+    @Test
+    void testSearchAnimals_NoContent() throws Exception {
+        when(animalService.searchAnimals("zebra", null)).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/animals/search").param("prefix", "zebra"))
+                .andExpect(status().isNoContent());
+    }
+
     @Test
     void testGetAnimalById() throws Exception {
         GroupDTO mammalGroup = createGroupDTO(1L, "Mammals");
         AnimalDTO animal = createAnimalDTO(1L, "Panthera leo", "Lion", 1.8, 190.5, "ACTIVE", mammalGroup);
+        animal.setVersion(new AnimalVersion(0L, 0L));
 
-        when(animalService.getAnimalById(1L)).thenReturn(animal);
+        when(animalService.getAnimalById(eq(1L), any(FieldSelectionDTO.class))).thenReturn(animal);
 
         mockMvc.perform(get("/api/animals/1"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.valueOf("application/hal+json")))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0.0\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
                 .andExpect(jsonPath("$.id").value(1))
                 .andExpect(jsonPath("$.scientificName").value("Panthera leo"))
                 .andExpect(jsonPath("$.specie").value("Lion"))
@@ -96,6 +302,127 @@ class AnimalControllerTest {
                 .andExpect(jsonPath("$.status").value("ACTIVE"))
                 .andExpect(jsonPath("$.group.id").value(1))
                 .andExpect(jsonPath("$.group.name").value("Mammals"));
+
+        verify(animalService, never()).getAnimalVersion(1L);
+    }
+
+    @Test
+    void testGetAnimalById_ModifiedSinceETag() throws Exception {
+        AnimalDTO animal = createAnimalDTO(1L, "Panthera leo", "Lion", 1.8, 190.5, "ACTIVE", createGroupDTO(1L, "Mammals"));
+        animal.setVersion(new AnimalVersion(2L, 0L));
+
+        when(animalService.getAnimalVersion(1L)).thenReturn(new AnimalVersion(1L, 0L));
+        when(animalService.getAnimalById(eq(1L), any(FieldSelectionDTO.class))).thenReturn(animal);
+
+        mockMvc.perform(get("/api/animals/1").header(HttpHeaders.IF_NONE_MATCH, "\"0.0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2.0\""))
+                .andExpect(jsonPath("$.id").value(1));
+    }
+
+    @Test
+    void testGetAnimalById_NotModified() throws Exception {
+        when(animalService.getAnimalVersion(1L)).thenReturn(new AnimalVersion(0L, 0L));
+
+        mockMvc.perform(get("/api/animals/1").header(HttpHeaders.IF_NONE_MATCH, "\"0.0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0.0\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(content().string(""));
+
+        verify(animalService, never()).getAnimalById(eq(1L), any(FieldSelectionDTO.class));
+    }
+
+    @Test
+    void testGetAnimalById_NotFound() throws Exception {
+        when(animalService.getAnimalById(eq(99L), any(FieldSelectionDTO.class))).thenThrow(new ResourceNotFoundException("Animal not found with id 99"));
+
+        mockMvc.perform(get("/api/animals/99"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testGetAllAnimals_Protobuf() throws Exception {
+        GroupDTO mammalGroup = createGroupDTO(1L, "Mammals");
+        List<AnimalDTO> animals = List.of(
+                createAnimalDTO(1L, "Panthera leo", "Lion", 1.8, 190.5, "ACTIVE", mammalGroup),
+                createAnimalDTO(2L, "Elephas maximus", "Elephant", 3.0, 5000.0, "ACTIVE", mammalGroup)
+        );
+
+        when(animalService.getAllAnimals(any(AnimalFilterDTO.class), any(FieldSelectionDTO.class))).thenReturn(animals);
+
+        MvcResult result = mockMvc.perform(get("/api/animals").accept(AnimalzProtobufHttpMessageConverter.PROTOBUF))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(AnimalzProtobufHttpMessageConverter.PROTOBUF))
+                .andReturn();
+
+        AnimalzProtos.AnimalList animalList = AnimalzProtos.AnimalList.parseFrom(result.getResponse().getContentAsByteArray());
+        assertEquals(2, animalList.getAnimalsCount());
+        assertEquals("Panthera leo", animalList.getAnimals(0).getScientificName());
+        assertEquals(5000.0, animalList.getAnimals(1).getMass());
+        assertEquals("Mammals", animalList.getAnimals(1).getGroup().getName());
+    }
+
+    @Test
+    void testGetAnimalById_Cbor() throws Exception {
+        AnimalDTO animal = createAnimalDTO(1L, "Panthera leo", "Lion", 1.8, 190.5, "ACTIVE", createGroupDTO(1L, "Mammals"));
+        animal.setVersion(new AnimalVersion(0L, 0L));
+
+        when(animalService.getAnimalById(eq(1L), any(FieldSelectionDTO.class))).thenReturn(animal);
+
+        MvcResult result = mockMvc.perform(get("/api/animals/1").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0.0\""))
+                .andReturn();
+
+        JsonNode body = new CBORMapper().readTree(result.getResponse().getContentAsByteArray());
+        assertEquals(1, body.get("id").asLong());
+        assertEquals("Panthera leo", body.get("scientificName").asText());
+        assertEquals("Mammals", body.get("group").get("name").asText());
+    }
+
+    @Test
+    void testGetAnimalById_NotFound_Smile() throws Exception {
+        when(animalService.getAnimalById(eq(99L), any(FieldSelectionDTO.class))).thenThrow(new ResourceNotFoundException("Animal not found with id 99"));
+
+        MvcResult result = mockMvc.perform(get("/api/animals/99").accept(MediaType.valueOf("application/x-jackson-smile")))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(MediaType.valueOf("application/x-jackson-smile")))
+                .andReturn();
+
+        JsonNode body = new SmileMapper().readTree(result.getResponse().getContentAsByteArray());
+        assertEquals(404, body.get("status").asInt());
+        assertEquals("Animal not found with id 99", body.get("message").asText());
+    }
+
+    @Test
+    void testCreateAnimal_Protobuf() throws Exception {
+        AnimalDTO animal = createAnimalDTO(1L, "Panthera leo", "Lion", 1.8, 190.5, "ACTIVE", createGroupDTO(1L, "Mammals"));
+
+        when(animalService.createAnimal(argThat(dto -> "Panthera leo".equals(dto.getScientificName())
+                && dto.getId() == null
+                && dto.getGroup().getId() == 1L))).thenReturn(animal);
+
+        AnimalzProtos.Animal request = AnimalzProtos.Animal.newBuilder()
+                .setScientificName("Panthera leo")
+                .setSpecie("Lion")
+                .setSize(1.8)
+                .setMass(190.5)
+                .setGroup(AnimalzProtos.Group.newBuilder().setId(1L))
+                .build();
+
+        MvcResult result = mockMvc.perform(post("/api/animals")
+                        .contentType(AnimalzProtobufHttpMessageConverter.PROTOBUF)
+                        .accept(AnimalzProtobufHttpMessageConverter.PROTOBUF)
+                        .content(request.toByteArray()))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(AnimalzProtobufHttpMessageConverter.PROTOBUF))
+                .andReturn();
+
+        AnimalzProtos.Animal response = AnimalzProtos.Animal.parseFrom(result.getResponse().getContentAsByteArray());
+        assertEquals(1L, response.getId());
+        assertEquals("ACTIVE", response.getStatus());
     }
 
     @Test
@@ -132,12 +459,50 @@ class AnimalControllerTest {
                 .andExpect(jsonPath("$.group.name").value("Mammals"));
     }
 
+    @Test
+    void testCreateAnimals() throws Exception {
+        AnimalDTO animal = createAnimalDTO(1L, "Panthera leo", "Lion", 1.8, 190.5, "ACTIVE", createGroupDTO(1L, "Mammals"));
+
+        when(animalService.createAnimals(anyList())).thenReturn(List.of(
+                AnimalBatchResultDTO.builder().index(0).status(201).animal(animal).build()
+        ));
+
+        mockMvc.perform(post("/api/animals/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"scientificName\": \"Panthera leo\", \"specie\": \"Lion\", \"size\": 1.8, \"mass\": 190.5, \"group\": {\"id\": 1}}]"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$[0].index").value(0))
+                .andExpect(jsonPath("$[0].status").value(201))
+                .andExpect(jsonPath("$[0].animal.id").value(1))
+                .andExpect(jsonPath("$[0].errors").doesNotExist());
+    }
+
+    @Test
+    void testCreateAnimals_MultiStatus() throws Exception {
+        AnimalDTO animal = createAnimalDTO(1L, "Panthera leo", "Lion", 1.8, 190.5, "ACTIVE", createGroupDTO(1L, "Mammals"));
+
+        when(animalService.createAnimals(anyList())).thenReturn(List.of(
+                AnimalBatchResultDTO.builder().index(0).status(201).animal(animal).build(),
+                AnimalBatchResultDTO.builder().index(1).status(400)
+                        .errors(List.of(new ApiError.ApiSubError("scientificName", "must not be null")))
+                        .build()
+        ));
+
+        mockMvc.perform(post("/api/animals/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"scientificName\": \"Panthera leo\", \"group\": {\"id\": 1}}, {\"group\": {\"id\": 1}}]"))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$[1].status").value(400))
+                .andExpect(jsonPath("$[1].animal").doesNotExist())
+                .andExpect(jsonPath("$[1].errors[0].field").value("scientificName"));
+    }
+
     @Test
     void testUpdateAnimal() throws Exception {
         GroupDTO mammalGroup = createGroupDTO(1L, "Mammals");
         AnimalDTO animal = createAnimalDTO(1L, "Panthera leo", "Lion", 1.8, 190.5, "ACTIVE", mammalGroup);
 
-        when(animalService.updateAnimal(eq(1L), any(AnimalDTO.class))).thenReturn(animal);
+        when(animalService.updateAnimal(eq(1L), any(AnimalDTO.class), isNull())).thenReturn(animal);
 
         mockMvc.perform(put("/api/animals/1")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -166,6 +531,35 @@ class AnimalControllerTest {
                 .andExpect(jsonPath("$.group.name").value("Mammals"));
     }
 
+    @Test
+    void testUpdateAnimal_IfMatch() throws Exception {
+        AnimalDTO animal = createAnimalDTO(1L, "Panthera leo", "Lion", 1.8, 190.5, "ACTIVE", createGroupDTO(1L, "Mammals"));
+
+        when(animalService.getAnimalVersion(1L)).thenReturn(new AnimalVersion(3L, 0L));
+        when(animalService.updateAnimal(eq(1L), any(AnimalDTO.class), eq(3L))).thenReturn(animal);
+
+        mockMvc.perform(put("/api/animals/1")
+                        .header(HttpHeaders.IF_MATCH, "\"3.0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"scientificName\": \"Panthera leo\", \"specie\": \"Lion\", \"size\": 1.8, \"mass\": 190.5, \"group\": {\"id\": 1}}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1));
+    }
+
+    @Test
+    void testUpdateAnimal_PreconditionFailed() throws Exception {
+        when(animalService.getAnimalVersion(1L)).thenReturn(new AnimalVersion(4L, 0L));
+
+        mockMvc.perform(put("/api/animals/1")
+                        .header(HttpHeaders.IF_MATCH, "\"3.0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"scientificName\": \"Panthera leo\", \"specie\": \"Lion\", \"size\": 1.8, \"mass\": 190.5, \"group\": {\"id\": 1}}"))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.status").value(412));
+
+        verify(animalService, never()).updateAnimal(eq(1L), any(AnimalDTO.class), any());
+    }
+
     @Test
     void testDeleteAnimal() throws Exception {
         doNothing().when(animalService).delete(1L);
@@ -0,0 +1,171 @@
+package br.dev.ulk.animalz.application.controllers;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:db_animalz_query_count",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureMockMvc
+class AnimalQueryCountTest {
+
+    @Autowired
+    @SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection")
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void getAllAnimals_ShouldExecuteSingleStatementWithoutLoadingEntities() throws Exception {
+        mockMvc.perform(get("/api/animals"))
+                .andExpect(status().isOk());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void getAnimalsPage_ShouldExecuteSingleStatementWithoutLoadingEntities() throws Exception {
+        mockMvc.perform(get("/api/animals").param("limit", "5"))
+                .andExpect(status().isOk());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void getFilteredAnimalsPage_ShouldExecuteSingleStatement() throws Exception {
+        mockMvc.perform(get("/api/animals")
+                        .param("limit", "1")
+                        .param("minMass", "50")
+                        .param("maxMass", "500")
+                        .param("status", "ACTIVE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.animals[0].id").value(1))
+                .andExpect(jsonPath("$._links.next.href").value("http://localhost/api/animals?after=1&limit=1&minMass=50.0&maxMass=500.0&status=ACTIVE"));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void getAnimalById_ShouldExecuteSingleProjectionCarryingTheVersions() throws Exception {
+        mockMvc.perform(get("/api/animals/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void getAnimalById_ShouldOnlyLookUpVersion_WhenNotModified() throws Exception {
+        String eTag = mockMvc.perform(get("/api/animals/1"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        statistics.clear();
+
+        mockMvc.perform(get("/api/animals/1").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void searchAnimals_ShouldNotTouchTheDatabase() throws Exception {
+        mockMvc.perform(get("/api/animals/search").param("prefix", "pan"))
+                .andExpect(status().isOk());
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getAnimalsByGroupId_ShouldExecuteSingleStatement_WhenGroupIsCached() throws Exception {
+        mockMvc.perform(get("/api/animals/groups/5"));
+        statistics.clear();
+
+        mockMvc.perform(get("/api/animals/groups/5"))
+                .andExpect(status().isOk());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getAnimalsByGroupName_ShouldExecuteSingleStatement_WhenGroupIsCached() throws Exception {
+        mockMvc.perform(get("/api/animals/groups/mammals"));
+        statistics.clear();
+
+        mockMvc.perform(get("/api/animals/groups/MAMMALS"))
+                .andExpect(status().isOk());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getAllGroupsWithAnimals_ShouldExecuteSingleJoinAfterVersionLookups() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/groups").param("embed", "animals"))
+                .andExpect(status().isOk())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[4].id").value(5))
+                .andExpect(jsonPath("$[4].name").value("Mammals"))
+                .andExpect(jsonPath("$[4].animals[0].id").value(1))
+                .andExpect(jsonPath("$[4].animals[0]._links.self.href").value("http://localhost/api/animals/1"))
+                .andExpect(jsonPath("$[4].animals[0].group._links.group.href").value("http://localhost/api/groups/5"))
+                .andExpect(jsonPath("$[4]._links.self.href").value("http://localhost/api/groups/5"));
+
+        // Groups version and change log sequence for the ETag, then one join for every group and animal.
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void createAnimals_ShouldBatchInserts() throws Exception {
+        String animal = "{\"scientificName\": \"Panthera leo\", \"specie\": \"Lion\", \"size\": 1.8, \"mass\": 190.5, \"group\": {\"id\": 1}}";
+        String body = "[" + String.join(",", Collections.nCopies(120, animal)) + "]";
+
+        mockMvc.perform(post("/api/animals/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated());
+
+        // Every animal also gets a change log row, reserved with one counter update and written in the same batches.
+        assertEquals(240, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() <= 12,
+                "Expected batched inserts but got " + statistics.getPrepareStatementCount() + " statements");
+    }
+}
@@ -0,0 +1,67 @@
+package br.dev.ulk.animalz.application.controllers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:db_animalz_embedded_animals")
+@AutoConfigureMockMvc
+class EmbeddedAnimalsTest {
+
+    @Autowired
+    @SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection")
+    private MockMvc mockMvc;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void getAllGroupsWithAnimals_ShouldRenderGroupsAndAnimalsLikeTheirOwnEndpoints() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/groups").param("embed", "animals"))
+                .andExpect(status().isOk())
+                .andReturn();
+        JsonNode groups = read(mockMvc.perform(asyncDispatch(result)).andReturn());
+
+        JsonNode embeddedGroup = groups.get(0);
+        JsonNode animals = embeddedGroup.get("animals");
+        assertFalse(animals.isEmpty());
+
+        ObjectNode group = embeddedGroup.deepCopy();
+        group.remove("animals");
+        assertEquals(read(get("/api/groups/" + group.get("id").asLong())), group);
+
+        for (JsonNode animal : animals) {
+            JsonNode expected = read(get("/api/animals/" + animal.get("id").asLong()));
+            assertEquals(expected.get("group"), animal.get("group"));
+            assertEquals(withoutLinks(expected), withoutLinks(animal));
+            assertEquals("http://localhost/api/animals/" + animal.get("id").asLong(),
+                    animal.at("/_links/self/href").asText());
+        }
+    }
+
+    private JsonNode read(RequestBuilder request) throws Exception {
+        return read(mockMvc.perform(request).andExpect(status().isOk()).andReturn());
+    }
+
+    private JsonNode read(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+
+    private static JsonNode withoutLinks(JsonNode node) {
+        ObjectNode copy = node.deepCopy();
+        copy.remove("_links");
+        return copy;
+    }
+}
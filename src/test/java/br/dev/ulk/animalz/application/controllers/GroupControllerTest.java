@@ -1,29 +1,44 @@
 package br.dev.ulk.animalz.application.controllers;
 
+import br.dev.ulk.animalz.application.dtos.FieldSelectionDTO;
 import br.dev.ulk.animalz.application.dtos.GroupDTO;
+import br.dev.ulk.animalz.application.links.LinkFactory;
+import br.dev.ulk.animalz.domain.projections.GroupsVersion;
 import br.dev.ulk.animalz.infraestructure.services.GroupService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.isNull;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -37,41 +52,91 @@ class GroupControllerTest {
     @Mock
     private GroupService groupService;
 
+    @Spy
+    private LinkFactory linkFactory = new LinkFactory();
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
         mockMvc = MockMvcBuilders.standaloneSetup(groupController).build();
+        when(groupService.getGroupsVersion()).thenReturn(new GroupsVersion(1L, 1L, 0L));
+        when(groupService.getGroupVersion(1L)).thenReturn(0L);
     }
 
     @Test
     void getAllGroups_shouldReturnOkWithGroups() throws Exception {
         GroupDTO groupDTO = new GroupDTO(1L, "Mammals");
-        when(groupService.getAllGroups()).thenReturn(List.of(groupDTO));
+        when(groupService.getAllGroups(any(FieldSelectionDTO.class))).thenReturn(List.of(groupDTO));
 
         mockMvc.perform(get("/api/groups")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1.1.0\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
                 .andExpect(jsonPath("$[0].id").value(1L))
                 .andExpect(jsonPath("$[0].name").value("Mammals"));
 
-        verify(groupService, times(1)).getAllGroups();
+        verify(groupService, times(1)).getAllGroups(any(FieldSelectionDTO.class));
+    }
+
+    @Test
+    void getAllGroups_shouldReturnNotModified_WhenETagMatches() throws Exception {
+        mockMvc.perform(get("/api/groups")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"1.1.0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1.1.0\""));
+
+        verify(groupService, never()).getAllGroups(any(FieldSelectionDTO.class));
+    }
+
+    @Test
+    void getAllGroupsWithAnimals_shouldStreamGroupsAndAnimals() throws Exception {
+        when(groupService.getGroupsWithAnimalsETag()).thenReturn("1.1.0.7");
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(1);
+            outputStream.write("[{\"id\":1,\"name\":\"Mammals\",\"animals\":[]}]".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(groupService).writeGroupsWithAnimals(anyString(), any(OutputStream.class));
+
+        MvcResult result = mockMvc.perform(get("/api/groups").param("embed", "animals"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1.1.0.7\""))
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].name").value("Mammals"))
+                .andExpect(jsonPath("$[0].animals").isEmpty());
+
+        verify(groupService, never()).getAllGroups(any(FieldSelectionDTO.class));
+    }
+
+    @Test
+    void getAllGroupsWithAnimals_shouldReturnNotModified_WhenETagMatches() throws Exception {
+        when(groupService.getGroupsWithAnimalsETag()).thenReturn("1.1.0.7");
+
+        mockMvc.perform(get("/api/groups")
+                        .param("embed", "animals")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"1.1.0.7\""))
+                .andExpect(status().isNotModified());
+
+        verify(groupService, never()).writeGroupsWithAnimals(anyString(), any(OutputStream.class));
     }
 
     @Test
     void getAllGroups_shouldReturnNoContent() throws Exception {
-        when(groupService.getAllGroups()).thenReturn(Collections.emptyList());
+        when(groupService.getAllGroups(any(FieldSelectionDTO.class))).thenReturn(Collections.emptyList());
 
         mockMvc.perform(get("/api/groups")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNoContent());
 
-        verify(groupService, times(1)).getAllGroups();
+        verify(groupService, times(1)).getAllGroups(any(FieldSelectionDTO.class));
     }
 
     @Test
     void getGroupById_shouldReturnOkWithGroup() throws Exception {
         GroupDTO groupDTO = new GroupDTO(1L, "Mammals");
-        when(groupService.getGroupById(1L)).thenReturn(groupDTO);
+        when(groupService.getGroupById(eq(1L), any(FieldSelectionDTO.class))).thenReturn(groupDTO);
 
         mockMvc.perform(get("/api/groups/1")
                         .contentType(MediaType.APPLICATION_JSON))
@@ -79,7 +144,16 @@ class GroupControllerTest {
                 .andExpect(jsonPath("$.id").value(1L))
                 .andExpect(jsonPath("$.name").value("Mammals"));
 
-        verify(groupService, times(1)).getGroupById(1L);
+        verify(groupService, times(1)).getGroupById(eq(1L), any(FieldSelectionDTO.class));
+    }
+
+    @Test
+    void getGroupById_shouldReturnNotModified_WhenETagMatches() throws Exception {
+        mockMvc.perform(get("/api/groups/1")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isNotModified());
+
+        verify(groupService, never()).getGroupById(eq(1L), any(FieldSelectionDTO.class));
     }
 
     @Test
@@ -100,7 +174,7 @@ class GroupControllerTest {
     @Test
     void updateGroup_shouldReturnOkWithUpdatedGroup() throws Exception {
         GroupDTO groupDTO = new GroupDTO(1L, "Birds");
-        when(groupService.updateGroup(eq(1L), any(GroupDTO.class))).thenReturn(groupDTO);
+        when(groupService.updateGroup(eq(1L), any(GroupDTO.class), isNull())).thenReturn(groupDTO);
 
         mockMvc.perform(put("/api/groups/1")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -109,7 +183,22 @@ class GroupControllerTest {
                 .andExpect(jsonPath("$.id").value(1L))
                 .andExpect(jsonPath("$.name").value("Birds"));
 
-        verify(groupService, times(1)).updateGroup(eq(1L), any(GroupDTO.class));
+        verify(groupService, times(1)).updateGroup(eq(1L), any(GroupDTO.class), isNull());
+    }
+
+    @Test
+    void updateGroup_shouldPassExpectedVersion_WhenIfMatchIsGiven() throws Exception {
+        GroupDTO groupDTO = new GroupDTO(1L, "Birds");
+        when(groupService.updateGroup(eq(1L), any(GroupDTO.class), eq(0L))).thenReturn(groupDTO);
+
+        mockMvc.perform(put("/api/groups/1")
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Birds\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Birds"));
+
+        verify(groupService, times(1)).updateGroup(eq(1L), any(GroupDTO.class), eq(0L));
     }
 
     @Test
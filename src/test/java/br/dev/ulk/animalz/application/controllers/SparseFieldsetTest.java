@@ -0,0 +1,158 @@
+package br.dev.ulk.animalz.application.controllers;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:db_animalz_sparse_fieldsets",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=br.dev.ulk.animalz.application.controllers.SparseFieldsetTest$RecordingInspector"
+})
+@AutoConfigureMockMvc
+class SparseFieldsetTest {
+
+    @Autowired
+    @SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection")
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        RecordingInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    void getAnimalById_ShouldOnlyReturnAndSelectTheRequestedFields() throws Exception {
+        mockMvc.perform(get("/api/animals/1").param("fields", "id,specie,group.name").param("links", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1))
+                .andExpect(jsonPath("$.specie").isString())
+                .andExpect(jsonPath("$.group.name").isString())
+                .andExpect(jsonPath("$.scientificName").doesNotExist())
+                .andExpect(jsonPath("$.mass").doesNotExist())
+                .andExpect(jsonPath("$.status").doesNotExist())
+                .andExpect(jsonPath("$.group.id").doesNotExist())
+                .andExpect(jsonPath("$.group._links").doesNotExist())
+                .andExpect(jsonPath("$._links").doesNotExist());
+
+        String select = lastSelectFrom("animals");
+        assertTrue(select.contains("specie"));
+        assertTrue(select.contains("join"));
+        assertFalse(select.contains("scientific_name"));
+        assertFalse(select.contains("mass"));
+        assertFalse(select.contains("status"));
+    }
+
+    @Test
+    void getAllAnimals_ShouldNotJoinGroups_WhenNoGroupFieldIsRequested() throws Exception {
+        mockMvc.perform(get("/api/animals").param("fields", "scientificName"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].scientificName").isString())
+                .andExpect(jsonPath("$[0].id").doesNotExist())
+                .andExpect(jsonPath("$[0].group").doesNotExist())
+                .andExpect(jsonPath("$[0].links[0].rel").value("self"))
+                .andExpect(jsonPath("$[0].links[0].href").value("http://localhost/api/animals/1"));
+
+        String select = lastSelectFrom("animals");
+        assertFalse(select.contains("join"));
+        assertFalse(select.contains("specie"));
+    }
+
+    @Test
+    void getAllAnimals_ShouldShrinkThePayload() throws Exception {
+        int full = mockMvc.perform(get("/api/animals"))
+                .andReturn().getResponse().getContentAsByteArray().length;
+        int sparse = mockMvc.perform(get("/api/animals").param("fields", "id,specie,group.name").param("links", "false"))
+                .andReturn().getResponse().getContentAsByteArray().length;
+
+        assertTrue(sparse * 3 < full, "Expected a much smaller payload but got " + sparse + " of " + full + " bytes");
+    }
+
+    @Test
+    void getAnimalsPage_ShouldCarryTheSelectionInThePageLinks() throws Exception {
+        mockMvc.perform(get("/api/animals").param("limit", "2").param("fields", "group").param("links", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.animals[0].group.id").isNumber())
+                .andExpect(jsonPath("$._embedded.animals[0].group.name").isString())
+                .andExpect(jsonPath("$._embedded.animals[0].specie").doesNotExist())
+                .andExpect(jsonPath("$._embedded.animals[0]._links").doesNotExist())
+                .andExpect(jsonPath("$._links.next.href").value("http://localhost/api/animals?after=2&limit=2&fields=group&links=false"));
+    }
+
+    @Test
+    void getAnimalsByGroup_ShouldKeepLinksOfTheSelectedFields() throws Exception {
+        mockMvc.perform(get("/api/animals/groups/mammals").param("fields", "group.name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].group.name").value("Mammals"))
+                .andExpect(jsonPath("$[0].group.id").doesNotExist())
+                .andExpect(jsonPath("$[0].group.links[0].rel").value("group"));
+    }
+
+    @Test
+    void getGroups_ShouldOnlyReturnTheRequestedFields() throws Exception {
+        mockMvc.perform(get("/api/groups").param("fields", "name").param("links", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").isString())
+                .andExpect(jsonPath("$[0].id").doesNotExist())
+                .andExpect(jsonPath("$[0].links").doesNotExist());
+        mockMvc.perform(get("/api/groups/1").param("links", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1))
+                .andExpect(jsonPath("$.name").isString())
+                .andExpect(jsonPath("$._links").doesNotExist());
+    }
+
+    @Test
+    void unsupportedField_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/animals/1").param("fields", "id,weight"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Unsupported field weight"));
+        mockMvc.perform(get("/api/groups").param("fields", "group.name"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void fullRepresentation_ShouldBeUnchangedWithoutSelection() throws Exception {
+        mockMvc.perform(get("/api/animals/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.scientificName").isString())
+                .andExpect(jsonPath("$.group.id").isNumber())
+                .andExpect(jsonPath("$._links.animals.href").value("http://localhost/api/animals"));
+
+        assertEquals(1, RecordingInspector.STATEMENTS.stream().filter(sql -> sql.toLowerCase(Locale.ROOT).contains("scientific_name")).count());
+    }
+
+    private static String lastSelectFrom(String table) {
+        List<String> selects = RecordingInspector.STATEMENTS.stream()
+                .map(sql -> sql.toLowerCase(Locale.ROOT))
+                .filter(sql -> sql.startsWith("select") && sql.contains(" from " + table))
+                .toList();
+        assertFalse(selects.isEmpty(), "No select from " + table + " in " + RecordingInspector.STATEMENTS);
+        return selects.get(selects.size() - 1);
+    }
+
+    public static class RecordingInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package br.dev.ulk.animalz.application.converters;
+
+import br.dev.ulk.animalz.application.dtos.AnimalDTO;
+import br.dev.ulk.animalz.application.dtos.GroupDTO;
+import br.dev.ulk.animalz.application.exceptions.payloads.ApiError;
+import br.dev.ulk.animalz.application.protobuf.AnimalzProtos;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.Link;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AnimalzProtobufHttpMessageConverterTest {
+
+    private static final Type ANIMAL_LIST = new ParameterizedTypeReference<List<AnimalDTO>>() {}.getType();
+    private static final Type GROUP_MODEL = new ParameterizedTypeReference<CollectionModel<GroupDTO>>() {}.getType();
+
+    private final AnimalzProtobufHttpMessageConverter converter = new AnimalzProtobufHttpMessageConverter();
+
+    private AnimalDTO createAnimalDTO(Long id, String scientificName) {
+        AnimalDTO animalDTO = AnimalDTO.builder()
+                .id(id)
+                .scientificName(scientificName)
+                .specie("Lion")
+                .size(1.8)
+                .mass(190.5)
+                .status("ACTIVE")
+                .group(GroupDTO.builder().id(1L).name("Mammals").build())
+                .build();
+        animalDTO.add(Link.of("http://localhost/api/animals/" + id));
+        return animalDTO;
+    }
+
+    @Test
+    void canReadAndWrite_ShouldOnlyAcceptApiTypes() {
+        assertTrue(converter.canRead(ANIMAL_LIST, null, AnimalzProtobufHttpMessageConverter.PROTOBUF));
+        assertTrue(converter.canWrite(GROUP_MODEL, CollectionModel.class, AnimalzProtobufHttpMessageConverter.PROTOBUF));
+        assertTrue(converter.canWrite(null, ApiError.class, AnimalzProtobufHttpMessageConverter.PROTOBUF));
+        assertFalse(converter.canWrite(null, String.class, AnimalzProtobufHttpMessageConverter.PROTOBUF));
+        assertFalse(converter.canWrite(null, AnimalDTO.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canRead(ApiError.class, null, AnimalzProtobufHttpMessageConverter.PROTOBUF));
+    }
+
+    @Test
+    void writeThenRead_ShouldRoundTripAnimalList() throws Exception {
+        List<AnimalDTO> animals = List.of(createAnimalDTO(1L, "Panthera leo"), createAnimalDTO(2L, "Elephas maximus"));
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+        converter.write(animals, ANIMAL_LIST, AnimalzProtobufHttpMessageConverter.PROTOBUF, outputMessage);
+        @SuppressWarnings("unchecked")
+        List<AnimalDTO> read = (List<AnimalDTO>) converter.read(ANIMAL_LIST, null, new MockHttpInputMessage(outputMessage.getBodyAsBytes()));
+
+        assertEquals(AnimalzProtobufHttpMessageConverter.PROTOBUF, outputMessage.getHeaders().getContentType());
+        assertEquals(2, read.size());
+        assertEquals(2L, read.get(1).getId());
+        assertEquals("Elephas maximus", read.get(1).getScientificName());
+        assertEquals(190.5, read.get(1).getMass());
+        assertEquals("Mammals", read.get(1).getGroup().getName());
+        assertEquals("http://localhost/api/animals/2", read.get(1).getRequiredLink("self").getHref());
+    }
+
+    @Test
+    void read_ShouldLeaveMissingFieldsNull() throws Exception {
+        byte[] body = AnimalzProtos.Animal.newBuilder().setScientificName("Panthera leo").build().toByteArray();
+
+        AnimalDTO read = (AnimalDTO) converter.read(AnimalDTO.class, null, new MockHttpInputMessage(body));
+
+        assertEquals("Panthera leo", read.getScientificName());
+        assertNull(read.getId());
+        assertNull(read.getMass());
+        assertNull(read.getGroup());
+    }
+
+    @Test
+    void read_ShouldRejectMalformedPayload() {
+        MockHttpInputMessage inputMessage = new MockHttpInputMessage(new byte[]{0x0A, 0x7F});
+
+        assertThrows(HttpMessageNotReadableException.class, () -> converter.read(AnimalDTO.class, null, inputMessage));
+    }
+
+    @Test
+    void write_ShouldEncodeGroupCollectionModelWithLinks() throws Exception {
+        CollectionModel<GroupDTO> groups = CollectionModel.of(
+                List.of(new GroupDTO(1L, "Mammals"), new GroupDTO(2L, "Birds")),
+                Link.of("http://localhost/api/groups"));
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+        converter.write(groups, GROUP_MODEL, AnimalzProtobufHttpMessageConverter.PROTOBUF, outputMessage);
+        AnimalzProtos.GroupList groupList = AnimalzProtos.GroupList.parseFrom(outputMessage.getBodyAsBytes());
+
+        assertEquals(2, groupList.getGroupsCount());
+        assertEquals("Birds", groupList.getGroups(1).getName());
+        assertEquals("self", groupList.getLinks(0).getRel());
+    }
+
+    @Test
+    void write_ShouldEncodeApiError() throws Exception {
+        ApiError apiError = new ApiError(LocalDateTime.of(2024, 6, 1, 10, 0), HttpStatus.NOT_FOUND.value(),
+                "Not Found", "/api/animals/99", "Animal not found with id 99", null);
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+        converter.write(apiError, null, AnimalzProtobufHttpMessageConverter.PROTOBUF, outputMessage);
+        AnimalzProtos.Error error = AnimalzProtos.Error.parseFrom(outputMessage.getBodyAsBytes());
+
+        assertEquals(404, error.getStatus());
+        assertEquals("01/06/2024 - 10:00:00", error.getTimestamp());
+        assertEquals("Animal not found with id 99", error.getMessage());
+    }
+
+    @Test
+    void write_ShouldEncodeApiError_WhenMessagesAreNull() throws Exception {
+        ApiError apiError = new ApiError(LocalDateTime.of(2024, 6, 1, 10, 0), HttpStatus.BAD_REQUEST.value(),
+                "Bad Request", "/api/animals", null, List.of(new ApiError.ApiSubError("mass", null)));
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+        converter.write(apiError, null, AnimalzProtobufHttpMessageConverter.PROTOBUF, outputMessage);
+        AnimalzProtos.Error error = AnimalzProtos.Error.parseFrom(outputMessage.getBodyAsBytes());
+
+        assertEquals(400, error.getStatus());
+        assertEquals("", error.getMessage());
+        assertEquals("mass", error.getDetails(0).getField());
+        assertEquals("", error.getDetails(0).getMessage());
+    }
+
+    @Test
+    void write_ShouldProduceSmallerPayloadThanJson() throws Exception {
+        List<AnimalDTO> animals = new ArrayList<>();
+        for (long id = 1; id <= 100; id++) {
+            animals.add(createAnimalDTO(id, "Panthera leo"));
+        }
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+        converter.write(animals, ANIMAL_LIST, AnimalzProtobufHttpMessageConverter.PROTOBUF, outputMessage);
+
+        assertTrue(outputMessage.getBodyAsBytes().length < new ObjectMapper().writeValueAsBytes(animals).length);
+    }
+}
@@ -0,0 +1,129 @@
+package br.dev.ulk.animalz.application.links;
+
+import br.dev.ulk.animalz.application.controllers.AnimalController;
+import br.dev.ulk.animalz.application.controllers.GroupController;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+class LinkFactoryTest {
+
+    private final LinkFactory linkFactory = new LinkFactory();
+
+    @BeforeEach
+    void setUp() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setScheme("https");
+        request.setServerName("api.ulk.dev.br");
+        request.setServerPort(8443);
+        request.setContextPath("/animalz");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void linkToAnimal_ShouldMatchWebMvcLinkBuilder() {
+        assertSameLink(
+                linkTo(methodOn(AnimalController.class).getAnimalById(42L, null, null)).withSelfRel(),
+                linkFactory.linkToAnimal(42L, IanaLinkRelations.SELF)
+        );
+    }
+
+    @Test
+    void linkToAnimals_ShouldMatchWebMvcLinkBuilder() {
+        assertSameLink(
+                linkTo(methodOn(AnimalController.class).getAllAnimals(null, null)).withRel("animals"),
+                linkFactory.linkToAnimals(LinkRelation.of("animals"))
+        );
+    }
+
+    @Test
+    void linkToAnimalsPage_ShouldMatchWebMvcLinkBuilder() {
+        assertSameLink(
+                linkTo(methodOn(AnimalController.class).getAnimalsPage(10L, 20, null, null)).withRel(IanaLinkRelations.NEXT),
+                linkFactory.linkToAnimalsPage(10L, 20, IanaLinkRelations.NEXT)
+        );
+        assertSameLink(
+                linkTo(methodOn(AnimalController.class).getAnimalsPage(null, 20, null, null)).withSelfRel().expand(),
+                linkFactory.linkToAnimalsPage(null, 20, IanaLinkRelations.SELF)
+        );
+    }
+
+    @Test
+    void linkToAnimalsPage_ShouldCarryEncodedFilters() {
+        Map<String, Object> filters = new LinkedHashMap<>();
+        filters.put("minMass", 50.0);
+        filters.put("group", "Big cats");
+
+        assertEquals("https://api.ulk.dev.br:8443/animalz/api/animals?after=10&limit=20&minMass=50.0&group=Big%20cats",
+                linkFactory.linkToAnimalsPage(10L, 20, filters, IanaLinkRelations.NEXT).getHref());
+    }
+
+    @Test
+    void linkToAnimalChanges_ShouldMatchWebMvcLinkBuilder() {
+        assertSameLink(
+                linkTo(methodOn(AnimalController.class).getAnimalChanges("42", 100)).withRel(IanaLinkRelations.NEXT),
+                linkFactory.linkToAnimalChanges("42", 100, IanaLinkRelations.NEXT)
+        );
+    }
+
+    @Test
+    void linkToGroup_ShouldMatchWebMvcLinkBuilder() {
+        assertSameLink(
+                linkTo(methodOn(GroupController.class).getGroupById(5L, null, null)).withRel("group"),
+                linkFactory.linkToGroup(5L, LinkRelation.of("group"))
+        );
+    }
+
+    @Test
+    void linkToGroups_ShouldMatchWebMvcLinkBuilder() {
+        assertSameLink(
+                linkTo(methodOn(GroupController.class).getAllGroups(null, null)).withRel("groups"),
+                linkFactory.linkToGroups(LinkRelation.of("groups"))
+        );
+    }
+
+    @Test
+    void links_ShouldBeRelative_WhenThereIsNoCurrentRequest() {
+        RequestContextHolder.resetRequestAttributes();
+
+        assertEquals("/api/animals/1", linkFactory.linkToAnimal(1L, IanaLinkRelations.SELF).getHref());
+        assertSameLink(
+                linkTo(methodOn(GroupController.class).getGroupById(1L, null, null)).withSelfRel(),
+                linkFactory.linkToGroup(1L, IanaLinkRelations.SELF)
+        );
+    }
+
+    @Test
+    void links_ShouldUseBoundBaseUri_OutsideTheRequest() {
+        String baseUri = linkFactory.getBaseUri();
+        RequestContextHolder.resetRequestAttributes();
+
+        try (LinkFactory.Binding ignored = linkFactory.bind(baseUri)) {
+            assertEquals("https://api.ulk.dev.br:8443/animalz/api/groups/1", linkFactory.linkToGroup(1L, IanaLinkRelations.SELF).getHref());
+        }
+        assertEquals("/api/groups/1", linkFactory.linkToGroup(1L, IanaLinkRelations.SELF).getHref());
+    }
+
+    private void assertSameLink(Link expected, Link actual) {
+        assertEquals(expected.getHref(), actual.getHref());
+        assertEquals(expected.getRel(), actual.getRel());
+    }
+}
@@ -0,0 +1,105 @@
+package br.dev.ulk.animalz.application.serializers;
+
+import br.dev.ulk.animalz.application.dtos.AnimalDTO;
+import br.dev.ulk.animalz.application.dtos.GroupDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:db_animalz_serializers")
+class AnimalzJacksonModuleTest {
+
+    @Autowired
+    private RequestMappingHandlerAdapter handlerAdapter;
+
+    private ObjectMapper objectMapper;
+    private ObjectMapper halObjectMapper;
+
+    @BeforeEach
+    void setUp() {
+        MappingJackson2HttpMessageConverter converter = handlerAdapter.getMessageConverters().stream()
+                .filter(MappingJackson2HttpMessageConverter.class::isInstance)
+                .map(MappingJackson2HttpMessageConverter.class::cast)
+                .filter(candidate -> candidate.getObjectMappersForType(AnimalDTO.class).containsKey(MediaTypes.HAL_JSON))
+                .findFirst()
+                .orElseThrow();
+        objectMapper = converter.getObjectMapper();
+        halObjectMapper = converter.getObjectMappersForType(AnimalDTO.class).get(MediaTypes.HAL_JSON);
+    }
+
+    @Test
+    void module_ShouldBeRegisteredOnJsonAndHalMappers() throws Exception {
+        assertInstanceOf(AnimalDTOSerializer.class, objectMapper.getSerializerProviderInstance().findValueSerializer(AnimalDTO.class));
+        assertInstanceOf(GroupDTOSerializer.class, objectMapper.getSerializerProviderInstance().findValueSerializer(GroupDTO.class));
+        assertInstanceOf(AnimalDTOSerializer.class, halObjectMapper.getSerializerProviderInstance().findValueSerializer(AnimalDTO.class));
+        assertInstanceOf(GroupDTOSerializer.class, halObjectMapper.getSerializerProviderInstance().findValueSerializer(GroupDTO.class));
+    }
+
+    @Test
+    void json_ShouldMatchGoldenFile() throws Exception {
+        assertEquals(golden("animals.json"), objectMapper.writeValueAsString(fixture()) + "\n");
+    }
+
+    @Test
+    void hal_ShouldMatchGoldenFile() throws Exception {
+        CollectionModel<AnimalDTO> page = CollectionModel.of(fixture(),
+                Link.of("http://localhost/api/animals?limit=5"),
+                Link.of("http://localhost/api/animals?after=5&limit=5", "next"));
+
+        assertEquals(golden("animals.hal.json"), halObjectMapper.writeValueAsString(page) + "\n");
+    }
+
+    @Test
+    void json_ShouldMatchReflectiveSerializer() throws Exception {
+        ObjectMapper reflective = Jackson2ObjectMapperBuilder.json().build();
+
+        assertEquals(reflective.writeValueAsString(fixture()), objectMapper.writeValueAsString(fixture()));
+    }
+
+    private static String golden(String name) throws IOException {
+        return new ClassPathResource("golden/" + name).getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    // Covers plain links, repeated relations, a templated link and a titled link (both served by the reflective fallback),
+    // missing groups and a completely empty DTO.
+    private static List<AnimalDTO> fixture() {
+        GroupDTO mammals = GroupDTO.builder().id(5L).name("Mammals").build();
+        mammals.add(Link.of("http://localhost/api/groups/5", "group"));
+        AnimalDTO lion = AnimalDTO.builder().id(1L).scientificName("Panthera leo").specie("Lion")
+                .size(1.8).mass(190.5).status("ACTIVE").group(mammals).build();
+        lion.add(Link.of("http://localhost/api/animals/1"));
+
+        GroupDTO birds = GroupDTO.builder().id(4L).name("Birds \"Aves\"").build();
+        AnimalDTO eagle = AnimalDTO.builder().id(4L).scientificName("Aquila chrysaetos").specie("Golden Eagle águia")
+                .size(2.3).mass(6.5).status("INACTIVE").group(birds).build();
+        eagle.add(Link.of("http://localhost/api/animals/4"), Link.of("http://localhost/api/animals", "animals"));
+
+        AnimalDTO orphan = AnimalDTO.builder().id(9L).scientificName("Rana temporaria").specie("Frog")
+                .size(0.1).mass(0.03).status("ACTIVE").build();
+
+        GroupDTO fish = GroupDTO.builder().id(1L).name("Fish").build();
+        fish.add(Link.of("http://localhost/api/groups/1", "group").withTitle("Fish"));
+        AnimalDTO shark = AnimalDTO.builder().id(6L).scientificName("Carcharodon carcharias").specie("Great White Shark")
+                .size(6.0).mass(1100.0).status("ACTIVE").group(fish).build();
+        shark.add(Link.of("http://localhost/api/animals/6"), Link.of("http://localhost/api/animals/{id}", "animal"),
+                Link.of("http://localhost/api/animals", "related"), Link.of("http://localhost/api/groups", "related"));
+
+        return List.of(lion, eagle, orphan, shark, new AnimalDTO());
+    }
+}
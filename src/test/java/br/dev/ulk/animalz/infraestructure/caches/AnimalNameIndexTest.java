@@ -0,0 +1,125 @@
+package br.dev.ulk.animalz.infraestructure.caches;
+
+import br.dev.ulk.animalz.domain.projections.AnimalName;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AnimalNameIndexTest {
+
+    private AnimalNameIndex animalNameIndex;
+
+    @BeforeEach
+    void setUp() {
+        animalNameIndex = new AnimalNameIndex();
+        animalNameIndex.load(() -> Stream.of(
+                new AnimalName(1L, "Panthera leo", "Lion"),
+                new AnimalName(2L, "Panthera tigris", "Tiger"),
+                new AnimalName(3L, "Elephas maximus", "Elephant"),
+                new AnimalName(4L, "Loxodonta africana", "African elephant")
+        ));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void search_ShouldMatchScientificNameAndSpecieIgnoringCase() {
+        assertEquals(List.of(1L, 2L), ids(animalNameIndex.search("PANTHERA", 10)));
+        assertEquals(List.of(3L), ids(animalNameIndex.search("eleph", 10)));
+        assertEquals(List.of(1L, 4L), ids(animalNameIndex.search("l", 10)));
+    }
+
+    @Test
+    void search_ShouldReturnEachAnimalOnceAndRespectLimit() {
+        animalNameIndex.put(5L, "Tigris tigris", "Tigris");
+
+        assertEquals(List.of(2L, 5L), ids(animalNameIndex.search("tig", 10)));
+        assertEquals(List.of(1L), ids(animalNameIndex.search("pan", 1)));
+        assertTrue(animalNameIndex.search("zebra", 10).isEmpty());
+    }
+
+    @Test
+    void put_ShouldReplacePreviousNames() {
+        animalNameIndex.put(1L, "Panthera onca", "Jaguar");
+
+        assertTrue(animalNameIndex.search("lion", 10).isEmpty());
+        assertEquals(List.of(1L), ids(animalNameIndex.search("jag", 10)));
+        assertEquals(4, animalNameIndex.size());
+    }
+
+    @Test
+    void remove_ShouldDropBothNames() {
+        animalNameIndex.remove(3L);
+
+        assertTrue(animalNameIndex.search("elephas", 10).isEmpty());
+        assertEquals(List.of(4L), ids(animalNameIndex.search("african", 10)));
+        assertEquals(3, animalNameIndex.size());
+    }
+
+    @Test
+    void load_ShouldKeepEntriesWrittenWhileLoading() {
+        animalNameIndex.load(() -> Stream.of(new AnimalName(1L, "Stale name", "Stale")));
+
+        assertTrue(animalNameIndex.search("stale", 10).isEmpty());
+        assertEquals(List.of(1L), ids(animalNameIndex.search("lion", 10)));
+    }
+
+    @Test
+    void load_ShouldReplayChangesCommittedAfterTheSnapshotWasRead() {
+        AnimalNameIndex index = new AnimalNameIndex();
+        index.load(() -> {
+            Stream<AnimalName> snapshot = Stream.of(
+                    new AnimalName(1L, "Panthera leo", "Lion"),
+                    new AnimalName(2L, "Panthera tigris", "Tiger"));
+            index.remove(1L);
+            index.put(2L, "Panthera tigris altaica", "Siberian tiger");
+            return snapshot;
+        });
+
+        assertTrue(index.search("lion", 10).isEmpty());
+        assertTrue(index.search("tiger", 10).isEmpty());
+        assertEquals(List.of(2L), ids(index.search("siberian", 10)));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void put_ShouldWaitForCommit_WhenTransactionIsActive() {
+        TransactionSynchronizationManager.initSynchronization();
+        animalNameIndex.put(5L, "Canis lupus", "Wolf");
+        animalNameIndex.remove(1L);
+
+        assertTrue(animalNameIndex.search("wolf", 10).isEmpty());
+        assertEquals(List.of(1L), ids(animalNameIndex.search("lion", 10)));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertEquals(List.of(5L), ids(animalNameIndex.search("wolf", 10)));
+        assertTrue(animalNameIndex.search("lion", 10).isEmpty());
+    }
+
+    @Test
+    void bindTo_ShouldExposeIndexSize() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        animalNameIndex.bindTo(meterRegistry);
+
+        assertEquals(4.0, meterRegistry.get("cache.size").tag("cache", "animal-names").gauge().value());
+    }
+
+    private List<Long> ids(List<AnimalName> names) {
+        return names.stream().map(AnimalName::id).toList();
+    }
+}
@@ -0,0 +1,86 @@
+package br.dev.ulk.animalz.infraestructure.caches;
+
+import br.dev.ulk.animalz.domain.models.Group;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GroupCacheTest {
+
+    private GroupCache groupCache;
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicInteger loads;
+    private Group group;
+
+    @BeforeEach
+    void setUp() {
+        groupCache = new GroupCache();
+        meterRegistry = new SimpleMeterRegistry();
+        groupCache.bindTo(meterRegistry);
+        loads = new AtomicInteger();
+        group = new Group(1L, "Mammals", "mammals", new HashSet<>(), 0L);
+    }
+
+    @Test
+    void findById_ShouldLoadOnceAndServeFromCache() {
+        groupCache.findById(1L, this::load);
+        Optional<Group> result = groupCache.findById(1L, this::load);
+
+        assertTrue(result.isPresent());
+        assertEquals("Mammals", result.get().getName());
+        assertNull(result.get().getAnimals());
+        assertEquals(1, loads.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void findByName_ShouldIgnoreCaseAndShareEntriesWithIdLookup() {
+        groupCache.findByName("MAMMALS", name -> load(1L));
+
+        assertTrue(groupCache.findByName("mammals", name -> load(1L)).isPresent());
+        assertTrue(groupCache.findById(1L, this::load).isPresent());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void findById_ShouldNotCacheMissingGroups() {
+        groupCache.findById(2L, id -> Optional.empty());
+
+        assertTrue(groupCache.findById(2L, this::load).isPresent());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void invalidateAll_ShouldForceReload() {
+        groupCache.findById(1L, this::load);
+
+        groupCache.invalidateAll();
+        groupCache.findById(1L, this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void invalidateAll_ShouldDiscardLoadsStartedBeforeInvalidation() {
+        groupCache.findById(1L, id -> {
+            groupCache.invalidateAll();
+            return load(id);
+        });
+
+        assertEquals(0, groupCache.size());
+    }
+
+    private Optional<Group> load(Long id) {
+        loads.incrementAndGet();
+        return Optional.of(group);
+    }
+}
@@ -0,0 +1,79 @@
+package br.dev.ulk.animalz.infraestructure.changes;
+
+import br.dev.ulk.animalz.application.dtos.AnimalChangeDTO;
+import br.dev.ulk.animalz.application.links.LinkFactory;
+import br.dev.ulk.animalz.domain.projections.AnimalChangePage;
+import br.dev.ulk.animalz.infraestructure.services.AnimalChangeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AnimalChangeStreamTest {
+
+    private static final AnimalChangePage PAGE = new AnimalChangePage(List.of(), Map.of(), 3L, false);
+
+    @InjectMocks
+    private AnimalChangeStream animalChangeStream;
+
+    @Mock
+    private AnimalChangeService animalChangeService;
+
+    @Spy
+    private LinkFactory linkFactory = new LinkFactory();
+
+    // Never runs the sends, like a client that stopped reading.
+    @Mock
+    private TaskExecutor applicationTaskExecutor;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(animalChangeStream, "subscriberQueueSize", 2);
+        when(animalChangeService.getChangePage(anyLong(), anyInt())).thenReturn(PAGE);
+        when(animalChangeService.toChangeDTOs(any())).thenReturn(List.of(change(1L), change(2L), change(3L)));
+    }
+
+    @Test
+    void poll_ShouldHoldTheCursorOfAFullQueue() {
+        ReflectionTestUtils.setField(animalChangeStream, "keepAliveInterval", Duration.ofMinutes(1));
+        animalChangeStream.subscribe(0L);
+
+        animalChangeStream.poll();
+        animalChangeStream.poll();
+
+        assertEquals(1, animalChangeStream.size());
+        verify(animalChangeService).getChangePage(0L, AnimalChangeService.MAX_CHANGES_SIZE);
+        verify(animalChangeService).getChangePage(2L, AnimalChangeService.MAX_CHANGES_SIZE);
+    }
+
+    @Test
+    void poll_ShouldDropSubscribersThatAcceptedNothingForAKeepAliveInterval() {
+        ReflectionTestUtils.setField(animalChangeStream, "keepAliveInterval", Duration.ZERO);
+        animalChangeStream.subscribe(0L);
+
+        animalChangeStream.poll();
+
+        assertEquals(0, animalChangeStream.size());
+    }
+
+    private static AnimalChangeDTO change(long sequence) {
+        return AnimalChangeDTO.builder().sequence(sequence).animalId(sequence).operation("CREATED").build();
+    }
+}
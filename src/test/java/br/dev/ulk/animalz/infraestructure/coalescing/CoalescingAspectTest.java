@@ -0,0 +1,94 @@
+package br.dev.ulk.animalz.infraestructure.coalescing;
+
+import br.dev.ulk.animalz.application.dtos.AnimalDTO;
+import br.dev.ulk.animalz.domain.projections.AnimalView;
+import br.dev.ulk.animalz.infraestructure.repositories.AnimalRepository;
+import br.dev.ulk.animalz.infraestructure.services.AnimalService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:db_animalz_coalescing",
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.connection-timeout=2000"
+})
+class CoalescingAspectTest {
+
+    private static final int CALLERS = 50;
+
+    @Autowired
+    private AnimalService animalService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @SpyBean
+    private AnimalRepository animalRepository;
+
+    @Test
+    void getAnimalById_ShouldRunOneQueryForConcurrentCallersWithoutHoldingConnections() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Optional<AnimalView> animal = animalRepository.findViewById(3L);
+        doAnswer(invocation -> {
+            release.await();
+            return animal;
+        }).when(animalRepository).findViewById(3L);
+        clearInvocations(animalRepository);
+        double coalesced = coalesced();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<AnimalDTO>> callers = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                callers.add(executor.submit(() -> animalService.getAnimalById(3L, null)));
+            }
+            // With a pool of two connections, waiting inside the transaction would time the callers out.
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (coalesced() - coalesced < CALLERS - 1 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            AnimalDTO first = callers.get(0).get(10, TimeUnit.SECONDS);
+            Set<AnimalDTO> results = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (Future<AnimalDTO> caller : callers) {
+                AnimalDTO result = caller.get(10, TimeUnit.SECONDS);
+                assertEquals("Loxodonta Africana", result.getScientificName());
+                assertEquals(first.getLinks(), result.getLinks());
+                assertEquals(first.getGroup().getLinks(), result.getGroup().getLinks());
+                results.add(result);
+            }
+            // Every caller gets its own copy of the shared result.
+            assertEquals(CALLERS, results.size());
+        }
+
+        verify(animalRepository, times(1)).findViewById(3L);
+        assertEquals(CALLERS - 1, coalesced() - coalesced);
+    }
+
+    private double coalesced() {
+        Counter counter = meterRegistry.find(SingleFlight.CALLS_NAME).tags("read", "animal", "outcome", "coalesced").counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
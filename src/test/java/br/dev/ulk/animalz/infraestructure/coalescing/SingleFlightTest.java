@@ -0,0 +1,219 @@
+package br.dev.ulk.animalz.infraestructure.coalescing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionExecution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SingleFlightTest {
+
+    @InjectMocks
+    private SingleFlight singleFlight;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void execute_ShouldShareOneComputationBetweenConcurrentCallers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger computations = new AtomicInteger();
+        Object value = new Object();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Object>> callers = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                callers.add(executor.submit(() -> execute("animal", 1L, () -> {
+                    computations.incrementAndGet();
+                    release.await();
+                    return value;
+                })));
+            }
+            awaitCalls("animal", 20);
+            release.countDown();
+
+            for (Future<Object> caller : callers) {
+                assertSame(value, caller.get(5, TimeUnit.SECONDS));
+            }
+        }
+
+        assertEquals(1, computations.get());
+        assertEquals(19, calls("animal", "coalesced"));
+        assertEquals(20, meterRegistry.get(SingleFlight.SHARED_NAME).tag("read", "animal").summary().max());
+        assertEquals(0, singleFlight.size());
+    }
+
+    @Test
+    void execute_ShouldNotShareBetweenDifferentKeys() throws Throwable {
+        assertEquals("1", singleFlight.execute("animal", 1L, () -> "1"));
+        assertEquals("2", singleFlight.execute("animal", 2L, () -> "2"));
+
+        assertEquals(2, calls("animal", "executed"));
+    }
+
+    @Test
+    void execute_ShouldPropagateFailureToEveryCaller() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Object>> callers = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                callers.add(executor.submit(() -> execute("animal", 1L, () -> {
+                    release.await();
+                    throw new IllegalStateException("boom");
+                })));
+            }
+            awaitCalls("animal", 5);
+            release.countDown();
+
+            for (Future<Object> caller : callers) {
+                Exception exception = assertThrows(Exception.class, () -> caller.get(5, TimeUnit.SECONDS));
+                assertTrue(exception.getCause() instanceof IllegalStateException);
+            }
+        }
+    }
+
+    @Test
+    void execute_ShouldKeepTheInterruptAndThrowUnchecked_WhenAWaitingCallerIsInterrupted() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        AtomicBoolean interrupted = new AtomicBoolean();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Object> leader = executor.submit(() -> execute("animal", 1L, () -> {
+                release.await();
+                return "value";
+            }));
+            awaitCalls("animal", 1);
+            Thread follower = Thread.ofVirtual().start(() -> {
+                try {
+                    execute("animal", 1L, () -> "unused");
+                } catch (Exception ex) {
+                    failure.set(ex);
+                    interrupted.set(Thread.currentThread().isInterrupted());
+                }
+            });
+            awaitCalls("animal", 2);
+            follower.interrupt();
+            follower.join(TimeUnit.SECONDS.toMillis(5));
+            release.countDown();
+
+            assertEquals("value", leader.get(5, TimeUnit.SECONDS));
+        }
+
+        assertTrue(failure.get() instanceof IllegalStateException);
+        assertTrue(failure.get().getCause() instanceof InterruptedException);
+        assertTrue(interrupted.get());
+    }
+
+    @Test
+    void execute_ShouldNotJoinAComputationStartedBeforeAWriteCommitted() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger computations = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Object> before = executor.submit(() -> execute("animal", 1L, () -> {
+                computations.incrementAndGet();
+                release.await();
+                return "before";
+            }));
+            awaitCalls("animal", 1);
+
+            TransactionExecution write = mock(TransactionExecution.class);
+            when(write.isReadOnly()).thenReturn(false);
+            singleFlight.afterCommit(write, null);
+
+            assertEquals("after", execute("animal", 1L, () -> {
+                computations.incrementAndGet();
+                return "after";
+            }));
+            release.countDown();
+            assertEquals("before", before.get(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(2, computations.get());
+        assertEquals(0, calls("animal", "coalesced"));
+    }
+
+    @Test
+    void execute_ShouldJoinANewerComputation_WhenTheCallerReadAnOlderGeneration() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger computations = new AtomicInteger();
+
+        TransactionExecution write = mock(TransactionExecution.class);
+        when(write.isReadOnly()).thenReturn(false);
+        singleFlight.afterCommit(write, null);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Object> newer = executor.submit(() -> execute("animal", 1L, () -> {
+                computations.incrementAndGet();
+                release.await();
+                return "newer";
+            }));
+            awaitCalls("animal", 1);
+
+            // A caller that read the generation before the commit and reached the map after the newer flight.
+            ReflectionTestUtils.setField(singleFlight, "generation", new AtomicLong());
+            Future<Object> older = executor.submit(() -> execute("animal", 1L, () -> {
+                computations.incrementAndGet();
+                return "older";
+            }));
+            awaitCalls("animal", 2);
+            release.countDown();
+
+            assertEquals("newer", newer.get(5, TimeUnit.SECONDS));
+            assertEquals("newer", older.get(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(1, computations.get());
+        assertEquals(1, calls("animal", "coalesced"));
+        assertEquals(0, singleFlight.size());
+    }
+
+    private Object execute(String read, Object key, SingleFlight.Call call) throws Exception {
+        try {
+            return singleFlight.execute(read, key, call);
+        } catch (Exception | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private void awaitCalls(String read, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (calls(read, "executed") + calls(read, "coalesced") < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private double calls(String read, String outcome) {
+        Counter counter = meterRegistry.find(SingleFlight.CALLS_NAME).tags("read", read, "outcome", outcome).counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
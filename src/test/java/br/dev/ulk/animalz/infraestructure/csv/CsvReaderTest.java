@@ -0,0 +1,65 @@
+package br.dev.ulk.animalz.infraestructure.csv;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CsvReaderTest {
+
+    @Test
+    void next_ShouldSplitPlainAndQuotedFields() throws IOException {
+        CsvReader reader = reader("a,b,c\r\n\"x, y\",\"say \"\"hi\"\"\",\n");
+
+        assertEquals(List.of("a", "b", "c"), reader.next());
+        assertEquals(1, reader.getLine());
+        assertEquals(List.of("x, y", "say \"hi\"", ""), reader.next());
+        assertEquals(2, reader.getLine());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void next_ShouldKeepLineBreaksInsideQuotesAndSkipBlankLines() throws IOException {
+        CsvReader reader = reader("\"multi\nline\",1\n\n\nlast,2");
+
+        assertEquals(List.of("multi\nline", "1"), reader.next());
+        assertEquals(List.of("last", "2"), reader.next());
+        assertEquals(5, reader.getLine());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void next_ShouldRejectUnterminatedQuotes() throws IOException {
+        CsvReader reader = reader("ok\n\"never closed,1\n");
+        reader.next();
+
+        CsvFormatException exception = assertThrows(CsvFormatException.class, reader::next);
+        assertEquals("Unterminated quoted field in record starting at line 2", exception.getMessage());
+    }
+
+    @Test
+    void next_ShouldBoundTheRecordLength() {
+        CsvReader reader = new CsvReader(new StringReader("\"" + "x".repeat(100)), 64);
+
+        assertThrows(CsvFormatException.class, reader::next);
+    }
+
+    @Test
+    void writer_ShouldProduceWhatTheReaderParses() throws IOException {
+        List<String> row = List.of("Panthera leo", "Lion, \"king\"", "two\nlines", "");
+        StringWriter output = new StringWriter();
+        new CsvWriter(output).writeRow(row);
+
+        assertEquals(row, reader(output.toString()).next());
+    }
+
+    private static CsvReader reader(String csv) {
+        return new CsvReader(new StringReader(csv), 1024);
+    }
+}
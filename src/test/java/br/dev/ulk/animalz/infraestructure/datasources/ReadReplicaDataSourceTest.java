@@ -0,0 +1,106 @@
+package br.dev.ulk.animalz.infraestructure.datasources;
+
+import br.dev.ulk.animalz.domain.enumerations.ReplicaSelectionEnum;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionExecution;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReadReplicaDataSourceTest {
+
+    private DataSource primary;
+    private HikariDataSource first;
+    private HikariDataSource second;
+    private HikariPoolMXBean firstPool;
+    private HikariPoolMXBean secondPool;
+
+    @BeforeEach
+    void setUp() {
+        primary = mock(DataSource.class);
+        first = mock(HikariDataSource.class);
+        second = mock(HikariDataSource.class);
+        firstPool = mock(HikariPoolMXBean.class);
+        secondPool = mock(HikariPoolMXBean.class);
+        when(first.getHikariPoolMXBean()).thenReturn(firstPool);
+        when(second.getHikariPoolMXBean()).thenReturn(secondPool);
+    }
+
+    @Test
+    void roundRobin_ShouldAlternateReplicas() {
+        ReadReplicaDataSource dataSource = dataSource(ReplicaSelectionEnum.ROUND_ROBIN, Duration.ZERO);
+
+        assertSame(first, dataSource.determineDataSource());
+        assertSame(second, dataSource.determineDataSource());
+        assertSame(first, dataSource.determineDataSource());
+    }
+
+    @Test
+    void leastConnections_ShouldPickTheLeastBusyReplica() {
+        when(firstPool.getActiveConnections()).thenReturn(7);
+        when(secondPool.getActiveConnections()).thenReturn(2);
+        ReadReplicaDataSource dataSource = dataSource(ReplicaSelectionEnum.LEAST_CONNECTIONS, Duration.ZERO);
+
+        assertSame(second, dataSource.determineDataSource());
+        assertSame(second, dataSource.determineDataSource());
+    }
+
+    @Test
+    void leastConnections_ShouldRotateOnTies() {
+        ReadReplicaDataSource dataSource = dataSource(ReplicaSelectionEnum.LEAST_CONNECTIONS, Duration.ZERO);
+
+        assertSame(first, dataSource.determineDataSource());
+        assertSame(second, dataSource.determineDataSource());
+    }
+
+    @Test
+    void readYourWrites_ShouldUsePrimaryOnlyAfterAWriteCommit() {
+        ReadReplicaDataSource dataSource = dataSource(ReplicaSelectionEnum.ROUND_ROBIN, Duration.ofMinutes(1));
+        assertSame(first, dataSource.determineDataSource());
+
+        dataSource.afterCommit(transaction(true), null);
+        assertSame(second, dataSource.determineDataSource());
+
+        dataSource.afterCommit(transaction(false), new IllegalStateException());
+        assertSame(first, dataSource.determineDataSource());
+
+        dataSource.afterCommit(transaction(false), null);
+        assertSame(primary, dataSource.determineDataSource());
+    }
+
+    @Test
+    void readYourWrites_ShouldBeDisabledWithoutAWindow() {
+        ReadReplicaDataSource dataSource = dataSource(ReplicaSelectionEnum.ROUND_ROBIN, Duration.ZERO);
+
+        dataSource.afterCommit(transaction(false), null);
+
+        assertSame(first, dataSource.determineDataSource());
+    }
+
+    @Test
+    void close_ShouldCloseReplicaPools() {
+        dataSource(ReplicaSelectionEnum.ROUND_ROBIN, Duration.ZERO).close();
+
+        verify(first).close();
+        verify(second).close();
+    }
+
+    private ReadReplicaDataSource dataSource(ReplicaSelectionEnum selection, Duration readYourWritesWindow) {
+        return new ReadReplicaDataSource(primary, List.of(first, second), selection, readYourWritesWindow);
+    }
+
+    private static TransactionExecution transaction(boolean readOnly) {
+        TransactionExecution transaction = mock(TransactionExecution.class);
+        when(transaction.isReadOnly()).thenReturn(readOnly);
+        return transaction;
+    }
+}
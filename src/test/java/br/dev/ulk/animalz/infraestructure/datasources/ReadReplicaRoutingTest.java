@@ -0,0 +1,85 @@
+package br.dev.ulk.animalz.infraestructure.datasources;
+
+import br.dev.ulk.animalz.application.dtos.AnimalDTO;
+import br.dev.ulk.animalz.application.dtos.GroupDTO;
+import br.dev.ulk.animalz.application.exceptions.ResourceNotFoundException;
+import br.dev.ulk.animalz.infraestructure.services.AnimalService;
+import br.dev.ulk.animalz.infraestructure.services.GroupService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:db_animalz_primary",
+        "application.datasource.replicas.urls=jdbc:h2:mem:db_animalz_replica",
+        "spring.datasource.hikari.minimum-idle=2"
+})
+class ReadReplicaRoutingTest {
+
+    @Autowired
+    private AnimalService animalService;
+
+    @Autowired
+    private GroupService groupService;
+
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    private ReadReplicaDataSource replicaDataSource;
+
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        // The second H2 instance stands in for a replica that is kept in sync by the database, not by the application.
+        replica = new JdbcTemplate(replicaDataSource.getReplicas().get(0));
+        Integer tables = replica.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_NAME = 'ANIMALS'", Integer.class);
+        if (tables == 0) {
+            new ResourceDatabasePopulator(new ClassPathResource("schema.sql"), new ClassPathResource("data.sql"))
+                    .execute(replicaDataSource.getReplicas().get(0));
+            replica.update("INSERT INTO GROUPS (ID, NAME) VALUES (99, 'Replica only')");
+        }
+    }
+
+    @Test
+    void readOnlyTransactions_ShouldBeServedByTheReplica() {
+        assertTrue(groupService.getAllGroups().stream().map(GroupDTO::getName).anyMatch("Replica only"::equals));
+        assertEquals("Replica only", groupService.getGroupById(99L).getName());
+    }
+
+    @Test
+    void readsInsideWriteTransactions_ShouldStayOnThePrimary() {
+        GroupDTO groupDTO = GroupDTO.builder().name("Renamed").build();
+
+        assertThrows(ResourceNotFoundException.class, () -> groupService.updateGroup(99L, groupDTO));
+    }
+
+    @Test
+    void writes_ShouldGoToThePrimaryOnly() {
+        AnimalDTO animalDTO = AnimalDTO.builder()
+                .scientificName("Lynx pardinus")
+                .specie("Iberian Lynx")
+                .size(1.0)
+                .mass(12.0)
+                .group(GroupDTO.builder().id(5L).build())
+                .build();
+
+        Long id = animalService.createAnimal(animalDTO).getId();
+
+        assertEquals(1, new JdbcTemplate(primaryDataSource).queryForObject("SELECT COUNT(*) FROM ANIMALS WHERE ID = ?", Integer.class, id));
+        assertEquals(0, replica.queryForObject("SELECT COUNT(*) FROM ANIMALS WHERE ID = ?", Integer.class, id));
+        assertThrows(ResourceNotFoundException.class, () -> animalService.getAnimalById(id, null));
+        assertFalse(animalService.getAllAnimals(null, null).stream().anyMatch(animal -> id.equals(animal.getId())));
+    }
+}
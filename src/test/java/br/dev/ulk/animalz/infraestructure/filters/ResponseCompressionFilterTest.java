@@ -0,0 +1,127 @@
+package br.dev.ulk.animalz.infraestructure.filters;
+
+import com.aayushatharva.brotli4j.decoder.Decoder;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:db_animalz_compression",
+        "application.compression.min-response-size=400"
+})
+@AutoConfigureMockMvc
+class ResponseCompressionFilterTest {
+
+    @Autowired
+    @SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection")
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void gzip_ShouldCompressJsonAboveThreshold() throws Exception {
+        byte[] plain = mockMvc.perform(get("/api/animals"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        MvcResult result = mockMvc.perform(get("/api/animals").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn();
+
+        byte[] compressed = result.getResponse().getContentAsByteArray();
+        assertTrue(result.getResponse().getHeaders(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT_ENCODING));
+        assertEquals(compressed.length, result.getResponse().getContentLength());
+        assertTrue(compressed.length < plain.length);
+        assertArrayEquals(plain, gunzip(compressed));
+    }
+
+    @Test
+    void brotli_ShouldBePreferredWhenAccepted() throws Exception {
+        byte[] plain = mockMvc.perform(get("/api/animals"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        byte[] compressed = mockMvc.perform(get("/api/animals").header(HttpHeaders.ACCEPT_ENCODING, "gzip, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "br"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertArrayEquals(plain, Decoder.decompress(compressed).getDecompressedData());
+    }
+
+    @Test
+    void rejectedEncoding_ShouldFallBackToGzip() throws Exception {
+        mockMvc.perform(get("/api/animals").header(HttpHeaders.ACCEPT_ENCODING, "br;q=0, gzip;q=0.5"))
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+        mockMvc.perform(get("/api/animals").header(HttpHeaders.ACCEPT_ENCODING, "identity"))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    void smallResponse_ShouldNotBeCompressed() throws Exception {
+        mockMvc.perform(get("/api/groups/1").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""));
+    }
+
+    @Test
+    void cachedUri_ShouldCompressOnceAndRecordMetrics() throws Exception {
+        Timer cpu = meterRegistry.timer(ResponseCompressionFilter.CPU_NAME, "uri", "/api/groups", "encoding", "br");
+        DistributionSummary ratio = meterRegistry.summary(ResponseCompressionFilter.RATIO_NAME, "uri", "/api/groups", "encoding", "br");
+        long compressions = cpu.count();
+        long responses = ratio.count();
+
+        byte[] first = mockMvc.perform(get("/api/groups").header(HttpHeaders.ACCEPT_ENCODING, "br"))
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "br"))
+                .andReturn().getResponse().getContentAsByteArray();
+        byte[] second = mockMvc.perform(get("/api/groups").header(HttpHeaders.ACCEPT_ENCODING, "br"))
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "br"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertArrayEquals(first, second);
+        assertEquals(compressions + 1, cpu.count());
+        assertEquals(responses + 2, ratio.count());
+        assertTrue(ratio.max() > 1);
+    }
+
+    @Test
+    void compressedETag_ShouldCarryEncodingAndStillMatch() throws Exception {
+        String eTag = mockMvc.perform(get("/api/groups").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertTrue(eTag.endsWith("-gzip\""));
+        mockMvc.perform(get("/api/groups")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return inputStream.readAllBytes();
+        }
+    }
+}
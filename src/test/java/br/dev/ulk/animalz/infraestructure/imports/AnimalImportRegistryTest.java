@@ -0,0 +1,52 @@
+package br.dev.ulk.animalz.infraestructure.imports;
+
+import br.dev.ulk.animalz.application.exceptions.TooManyRequestsException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AnimalImportRegistryTest {
+
+    private final AnimalImportRegistry registry = new AnimalImportRegistry();
+
+    @AfterEach
+    void tearDown() {
+        registry.clear();
+    }
+
+    @Test
+    void create_ShouldEvictFinishedJobsBehindARunningOne() throws IOException {
+        ReflectionTestUtils.setField(registry, "maxJobs", 2);
+        AnimalImportJob running = registry.create();
+        AnimalImportJob first = registry.create();
+        first.complete();
+        AnimalImportJob second = registry.create();
+        second.complete();
+
+        AnimalImportJob third = registry.create();
+
+        assertTrue(registry.findById(running.getId()).isPresent());
+        assertFalse(registry.findById(first.getId()).isPresent());
+        assertFalse(registry.findById(second.getId()).isPresent());
+        assertTrue(registry.findById(third.getId()).isPresent());
+        assertFalse(Files.exists(first.getRejectionReport()));
+    }
+
+    @Test
+    void create_ShouldRejectImports_WhenTooManyAreRunning() throws IOException {
+        registry.create();
+        AnimalImportJob finished = registry.create();
+
+        assertThrows(TooManyRequestsException.class, registry::create);
+
+        finished.fail("Done");
+        assertTrue(registry.findById(registry.create().getId()).isPresent());
+    }
+}
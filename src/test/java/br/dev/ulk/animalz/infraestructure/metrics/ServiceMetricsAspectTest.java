@@ -0,0 +1,82 @@
+package br.dev.ulk.animalz.infraestructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:db_animalz_metrics")
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+class ServiceMetricsAspectTest {
+
+    @Autowired
+    @SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection")
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void serviceCall_ShouldRecordTimerAndResultSize() throws Exception {
+        mockMvc.perform(get("/api/animals/groups/5"))
+                .andExpect(status().isOk());
+
+        Timer timer = meterRegistry.find(ServiceMetricsAspect.TIMER_NAME)
+                .tags("class", "AnimalService", "method", "getAnimalsByGroup", "exception", "none")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+        assertEquals(3, meterRegistry.find(ServiceMetricsAspect.RESULTS_NAME)
+                .tags("class", "AnimalService", "method", "getAnimalsByGroup")
+                .summary()
+                .max());
+    }
+
+    @Test
+    void failingServiceCall_ShouldCountError() throws Exception {
+        mockMvc.perform(get("/api/groups/999"))
+                .andExpect(status().isNotFound());
+
+        assertEquals(1, meterRegistry.find(ServiceMetricsAspect.ERRORS_NAME)
+                .tags("class", "GroupService", "method", "getGroupVersion", "exception", "ResourceNotFoundException")
+                .counter()
+                .count());
+    }
+
+    @Test
+    void prometheusEndpoint_ShouldExposeServiceAndRepositoryHistograms() throws Exception {
+        mockMvc.perform(get("/api/animals/1"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("animalz_service_seconds_bucket{")))
+                .andExpect(content().string(containsString("method=\"getAnimalById\"")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds_bucket{")))
+                .andExpect(content().string(containsString("repository=\"AnimalRepository\"")));
+    }
+
+    @Test
+    void metricsEndpoint_ShouldExposeServiceTimer() throws Exception {
+        mockMvc.perform(get("/api/groups"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/metrics/" + ServiceMetricsAspect.TIMER_NAME).param("tag", "method:getAllGroups"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.measurements[0].statistic").value("COUNT"))
+                .andExpect(jsonPath("$.measurements[0].value").value(1.0));
+    }
+}
@@ -0,0 +1,113 @@
+package br.dev.ulk.animalz.infraestructure.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:db_animalz_rate_limit",
+        "application.rate-limit.api-keys=list-client,class-client,noisy-client,quiet-client",
+        "application.rate-limit.list.capacity=2",
+        "application.rate-limit.list.refill-per-second=0.01",
+        "application.rate-limit.item.capacity=3",
+        "application.rate-limit.item.refill-per-second=0.01",
+        "application.rate-limit.write.capacity=1",
+        "application.rate-limit.write.refill-per-second=0.01"
+})
+@AutoConfigureMockMvc
+class RateLimitInterceptorTest {
+
+    @Autowired
+    @SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection")
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void list_ShouldAnswerTooManyRequestsWithRetryAfterOnceTheBucketIsEmpty() throws Exception {
+        double rejected = meterRegistry.counter(RateLimiter.REJECTED_NAME, "class", "list").count();
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/groups").header("X-API-Key", "list-client"))
+                    .andExpect(status().isOk());
+        }
+        mockMvc.perform(get("/api/animals").header("X-API-Key", "list-client"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "100"))
+                .andExpect(jsonPath("$.status").value(429));
+
+        assertEquals(rejected + 1, meterRegistry.counter(RateLimiter.REJECTED_NAME, "class", "list").count());
+    }
+
+    @Test
+    void endpointClasses_ShouldHaveSeparateBuckets() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/animals").header("X-API-Key", "class-client"));
+        }
+
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/animals/1").header("X-API-Key", "class-client"))
+                    .andExpect(status().isOk());
+        }
+        mockMvc.perform(get("/api/groups/1").header("X-API-Key", "class-client"))
+                .andExpect(status().isTooManyRequests());
+        mockMvc.perform(delete("/api/animals/999999").header("X-API-Key", "class-client"))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(delete("/api/animals/999999").header("X-API-Key", "class-client"))
+                .andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    void clients_ShouldBeLimitedIndependently() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/groups").header("X-API-Key", "noisy-client"));
+        }
+        mockMvc.perform(get("/api/groups").header("X-API-Key", "noisy-client"))
+                .andExpect(status().isTooManyRequests());
+
+        mockMvc.perform(get("/api/groups").header("X-API-Key", "quiet-client"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/groups").with(request -> {
+                    request.setRemoteAddr("192.0.2.10");
+                    return request;
+                }))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void unknownApiKeys_ShouldShareTheBucketOfTheirAddress() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            String apiKey = "unknown-" + i;
+            mockMvc.perform(get("/api/groups").header("X-API-Key", apiKey).with(request -> {
+                        request.setRemoteAddr("192.0.2.20");
+                        return request;
+                    }))
+                    .andExpect(status().isOk());
+        }
+        mockMvc.perform(get("/api/groups").header("X-API-Key", "unknown-2").with(request -> {
+                    request.setRemoteAddr("192.0.2.20");
+                    return request;
+                }))
+                .andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    void otherPaths_ShouldNotBeLimited() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(get("/actuator/health").header("X-API-Key", "actuator-client"))
+                    .andExpect(status().isOk());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package br.dev.ulk.animalz.infraestructure.ratelimit;
+
+import br.dev.ulk.animalz.domain.enumerations.EndpointClassEnum;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateLimiterTest {
+
+    @Test
+    void tryAcquire_ShouldSendNewClientsToTheOverflowBucket_WhenTheCapIsReached() {
+        RateLimiter rateLimiter = rateLimiter(2, 0.01);
+
+        assertEquals(0, rateLimiter.tryAcquire("addr:a", EndpointClassEnum.WRITE));
+        assertEquals(0, rateLimiter.tryAcquire("addr:b", EndpointClassEnum.WRITE));
+        assertEquals(0, rateLimiter.tryAcquire("addr:c", EndpointClassEnum.WRITE));
+        assertTrue(rateLimiter.tryAcquire("addr:d", EndpointClassEnum.WRITE) > 0);
+
+        assertEquals(3, rateLimiter.size());
+    }
+
+    @Test
+    void tryAcquire_ShouldDropIdleBuckets_WhenTheCapIsReached() {
+        RateLimiter rateLimiter = rateLimiter(2, 1_000_000_000);
+
+        rateLimiter.tryAcquire("addr:a", EndpointClassEnum.WRITE);
+        rateLimiter.tryAcquire("addr:b", EndpointClassEnum.WRITE);
+        assertEquals(0, rateLimiter.tryAcquire("addr:c", EndpointClassEnum.WRITE));
+
+        assertEquals(1, rateLimiter.size());
+    }
+
+    private static RateLimiter rateLimiter(int maxClients, double refillPerSecond) {
+        RateLimiter rateLimiter = new RateLimiter();
+        ReflectionTestUtils.setField(rateLimiter, "maxClients", maxClients);
+        ReflectionTestUtils.setField(rateLimiter, "writeCapacity", 1);
+        ReflectionTestUtils.setField(rateLimiter, "writeRefillPerSecond", refillPerSecond);
+        return rateLimiter;
+    }
+}
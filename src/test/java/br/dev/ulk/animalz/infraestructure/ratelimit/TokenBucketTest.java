@@ -0,0 +1,92 @@
+package br.dev.ulk.animalz.infraestructure.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void tryAcquire_ShouldAllowBurstUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(5, 1, 0);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, bucket.tryAcquire(0));
+        }
+        assertEquals(SECOND, bucket.tryAcquire(0));
+    }
+
+    @Test
+    void tryAcquire_ShouldRefillOverTime() {
+        TokenBucket bucket = new TokenBucket(2, 4, 0);
+        bucket.tryAcquire(0);
+        bucket.tryAcquire(0);
+
+        assertEquals(SECOND / 4, bucket.tryAcquire(0));
+        assertEquals(SECOND / 8, bucket.tryAcquire(SECOND / 8));
+        assertEquals(0, bucket.tryAcquire(SECOND / 4));
+        assertTrue(bucket.tryAcquire(SECOND / 4) > 0);
+    }
+
+    @Test
+    void tryAcquire_ShouldNotAccumulateBeyondCapacityWhileIdle() {
+        TokenBucket bucket = new TokenBucket(3, 1, 0);
+
+        long later = 3600 * SECOND;
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, bucket.tryAcquire(later));
+        }
+        assertTrue(bucket.tryAcquire(later) > 0);
+    }
+
+    @Test
+    void isFull_ShouldBeTrueOnlyOnceEveryTokenIsBack() {
+        TokenBucket bucket = new TokenBucket(3, 1, 0);
+        assertTrue(bucket.isFull(0));
+
+        bucket.tryAcquire(0);
+        assertFalse(bucket.isFull(SECOND / 2));
+        assertTrue(bucket.isFull(SECOND));
+    }
+
+    @Test
+    void tryAcquire_ShouldGrantExactlyCapacityUnderContention() throws Exception {
+        TokenBucket bucket = new TokenBucket(1000, 0.001, 0);
+        AtomicInteger granted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 8; i++) {
+                executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < 500; j++) {
+                        if (bucket.tryAcquire(0) == 0) {
+                            granted.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        }
+
+        assertEquals(1000, granted.get());
+    }
+
+    @Test
+    void constructor_ShouldRejectNonPositiveLimits() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(1, 0, 0));
+    }
+}
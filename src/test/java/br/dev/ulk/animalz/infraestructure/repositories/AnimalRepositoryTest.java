@@ -1,8 +1,7 @@
 package br.dev.ulk.animalz.infraestructure.repositories;
 
 import br.dev.ulk.animalz.domain.enumerations.StatusEnum;
-import br.dev.ulk.animalz.domain.models.Animal;
-import br.dev.ulk.animalz.domain.models.Group;
+import br.dev.ulk.animalz.domain.projections.AnimalView;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,19 +24,19 @@ class AnimalRepositoryTest {
 
     @BeforeEach
     public void setUp() {
-        Animal mockAnimal1 = new Animal(1L, "Panthera leo", "Lion", 1.8, 190.5, StatusEnum.ACTIVE, Group.builder().id(1L).name("Mammals").build());
-        Animal mockAnimal2 = new Animal(2L, "Elephas maximus", "Elephant", 3.0, 5000.0, StatusEnum.ACTIVE, Group.builder().id(1L).name("Mammals").build());
+        AnimalView mockAnimal1 = new AnimalView(1L, "Panthera leo", "Lion", 1.8, 190.5, StatusEnum.ACTIVE, 1L, "Mammals");
+        AnimalView mockAnimal2 = new AnimalView(2L, "Elephas maximus", "Elephant", 3.0, 5000.0, StatusEnum.ACTIVE, 1L, "Mammals");
 
-        when(mockAnimalRepository.findByGroupNameIgnoreCase("mammals"))
+        when(mockAnimalRepository.findViewsByGroupId(1L))
                 .thenReturn(List.of(mockAnimal1, mockAnimal2));
     }
 
     @Test
-    void findByGroupNameIgnoreCase() {
-        List<Animal> animals = animalRepository.findByGroupNameIgnoreCase("mammals");
+    void findViewsByGroupId() {
+        List<AnimalView> animals = animalRepository.findViewsByGroupId(1L);
 
         AssertionErrors.assertTrue("A lista de animais deve conter dois elementos", animals.size() == 2);
-        AssertionErrors.assertTrue("O primeiro animal deve ser um leão", animals.get(0).getSpecie().equalsIgnoreCase("Lion"));
-        AssertionErrors.assertTrue("O segundo animal deve ser um elefante", animals.get(1).getSpecie().equalsIgnoreCase("Elephant"));
+        AssertionErrors.assertTrue("O primeiro animal deve ser um leão", animals.get(0).specie().equalsIgnoreCase("Lion"));
+        AssertionErrors.assertTrue("O segundo animal deve ser um elefante", animals.get(1).specie().equalsIgnoreCase("Elephant"));
     }
 }
\ No newline at end of file
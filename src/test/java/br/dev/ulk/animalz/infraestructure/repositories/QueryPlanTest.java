@@ -0,0 +1,129 @@
+package br.dev.ulk.animalz.infraestructure.repositories;
+
+import br.dev.ulk.animalz.domain.enumerations.StatusEnum;
+import br.dev.ulk.animalz.domain.projections.AnimalView;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static br.dev.ulk.animalz.infraestructure.repositories.AnimalSpecifications.hasStatus;
+import static br.dev.ulk.animalz.infraestructure.repositories.AnimalSpecifications.inGroup;
+import static br.dev.ulk.animalz.infraestructure.repositories.AnimalSpecifications.massBetween;
+import static br.dev.ulk.animalz.infraestructure.repositories.AnimalSpecifications.sizeBetween;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:db_animalz_query_plan",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=br.dev.ulk.animalz.infraestructure.repositories.QueryPlanTest$CapturingStatementInspector"
+})
+class QueryPlanTest {
+
+    @Autowired
+    private AnimalRepository animalRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        CapturingStatementInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    void findGroupByNameIgnoreCase_ShouldUseLowerNameIndex() {
+        groupRepository.findByNameIgnoreCase("MAMMALS");
+
+        String plan = explainCaptured("MAMMALS");
+
+        assertTrue(plan.contains("IDX_GROUPS_NAME_LOWER"), plan);
+        assertFalse(plan.contains("tableScan"), plan);
+    }
+
+    @Test
+    void findViewsByGroupId_ShouldUseGroupIndex() {
+        animalRepository.findViewsByGroupId(5L);
+
+        String plan = explainCaptured(5L);
+
+        assertTrue(plan.contains("GROUP_ID = ?1 */"), plan);
+        assertFalse(plan.contains("tableScan"), plan);
+    }
+
+    @Test
+    void groupAndStatusLookup_ShouldUseGroupStatusIdIndex() {
+        String plan = explain("SELECT ID FROM ANIMALS WHERE GROUP_ID = ? AND STATUS = ? AND ID > ? ORDER BY ID", 5L, "ACTIVE", 0L);
+
+        assertTrue(plan.contains("IDX_ANIMALS_GROUP_STATUS_ID"), plan);
+        assertFalse(plan.contains("tableScan"), plan);
+    }
+
+    @Test
+    void massRangeFilter_ShouldUseMassIndex() {
+        List<AnimalView> animals = animalRepository.findViews(massBetween(50.0, 500.0), Sort.by("id"), Limit.unlimited());
+
+        String plan = explainCaptured(50.0, 500.0);
+
+        assertEquals(List.of(1L, 2L, 5L), animals.stream().map(AnimalView::id).toList());
+        assertTrue(plan.contains("IDX_ANIMALS_MASS"), plan);
+        assertFalse(plan.contains("tableScan"), plan);
+    }
+
+    @Test
+    void sizeRangeFilter_ShouldUseSizeIndex() {
+        List<AnimalView> animals = animalRepository.findViews(sizeBetween(null, 0.5), Sort.by("id"), Limit.unlimited());
+
+        String plan = explainCaptured(0.5);
+
+        assertEquals(List.of(7L), animals.stream().map(AnimalView::id).toList());
+        assertTrue(plan.contains("IDX_ANIMALS_SIZE"), plan);
+        assertFalse(plan.contains("tableScan"), plan);
+    }
+
+    @Test
+    void combinedFilter_ShouldPushAllPredicatesDownToAnIndex() {
+        List<AnimalView> animals = animalRepository.findViews(massBetween(50.0, 500.0)
+                .and(hasStatus(StatusEnum.ACTIVE))
+                .and(inGroup(5L)), Sort.by("id"), Limit.unlimited());
+
+        String plan = explainCaptured(50.0, 500.0, "ACTIVE", 5L);
+
+        assertEquals(List.of(1L), animals.stream().map(AnimalView::id).toList());
+        assertTrue(plan.contains("MASS BETWEEN ?1 AND ?2"), plan);
+        assertTrue(plan.contains("STATUS = ?3"), plan);
+        assertFalse(plan.contains("tableScan"), plan);
+    }
+
+    private String explainCaptured(Object... parameters) {
+        List<String> statements = CapturingStatementInspector.STATEMENTS;
+        assertEquals(1, statements.size(), statements.toString());
+        return explain(statements.get(0), parameters);
+    }
+
+    private String explain(String sql, Object... parameters) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, parameters);
+    }
+
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
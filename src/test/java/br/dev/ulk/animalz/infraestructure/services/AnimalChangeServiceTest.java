@@ -0,0 +1,207 @@
+package br.dev.ulk.animalz.infraestructure.services;
+
+import br.dev.ulk.animalz.application.dtos.AnimalChangeDTO;
+import br.dev.ulk.animalz.application.dtos.AnimalChangesDTO;
+import br.dev.ulk.animalz.application.dtos.AnimalDTO;
+import br.dev.ulk.animalz.application.dtos.GroupDTO;
+import br.dev.ulk.animalz.application.exceptions.BadRequestException;
+import br.dev.ulk.animalz.infraestructure.changes.AnimalChangeStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:db_animalz_changes",
+        "application.changes.poll-interval=3600000"
+})
+@AutoConfigureMockMvc
+class AnimalChangeServiceTest {
+
+    @Autowired
+    private AnimalChangeService animalChangeService;
+
+    @Autowired
+    private AnimalService animalService;
+
+    @Autowired
+    private GroupService groupService;
+
+    @Autowired
+    private AnimalChangeStream animalChangeStream;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection")
+    private MockMvc mockMvc;
+
+    @Test
+    void getChanges_ShouldOnlyReturnTheCurrentToken_WhenThereIsNoToken() {
+        String token = currentToken();
+        animalService.createAnimal(animal("Canis lupus", "Wolf"));
+
+        AnimalChangesDTO result = animalChangeService.getChanges(null, null);
+
+        assertTrue(result.getChanges().isEmpty());
+        assertEquals(Long.parseLong(token) + 1, Long.parseLong(result.getToken()));
+        assertFalse(result.isHasMore());
+    }
+
+    @Test
+    void getChanges_ShouldKeepTheLastChangeOfEachAnimal() {
+        String token = currentToken();
+        AnimalDTO lynx = animalService.createAnimal(animal("Lynx lynx", "Lynx"));
+        AnimalDTO otter = animalService.createAnimal(animal("Lutra lutra", "Otter"));
+        animalService.partialUpdateAnimal(lynx.getId(), animal("Lynx lynx", "Eurasian Lynx"), null);
+        animalService.delete(otter.getId());
+
+        AnimalChangesDTO result = animalChangeService.getChanges(token, null);
+
+        List<AnimalChangeDTO> changes = result.getChanges();
+        assertEquals(2, changes.size());
+        assertEquals(lynx.getId(), changes.get(0).getAnimalId());
+        assertEquals("UPDATED", changes.get(0).getOperation());
+        assertEquals("Eurasian Lynx", changes.get(0).getAnimal().getSpecie());
+        assertNotNull(changes.get(0).getChangedAt());
+        assertEquals(otter.getId(), changes.get(1).getAnimalId());
+        assertEquals("DELETED", changes.get(1).getOperation());
+        assertNull(changes.get(1).getAnimal());
+        assertEquals(Long.parseLong(token) + 4, Long.parseLong(result.getToken()));
+        assertEquals(changes.get(1).getSequence(), Long.parseLong(result.getToken()));
+        assertTrue(result.getRequiredLink(IanaLinkRelations.NEXT).getHref()
+                .endsWith("/api/animals/changes?since=" + result.getToken() + "&limit=100"));
+    }
+
+    @Test
+    void getChanges_ShouldPageByLimit() {
+        String token = currentToken();
+        animalService.createAnimal(animal("Meles meles", "Badger"));
+        animalService.createAnimal(animal("Martes martes", "Pine Marten"));
+
+        AnimalChangesDTO first = animalChangeService.getChanges(token, 1);
+        AnimalChangesDTO second = animalChangeService.getChanges(first.getToken(), 1);
+
+        assertTrue(first.isHasMore());
+        assertEquals("Badger", first.getChanges().get(0).getAnimal().getSpecie());
+        assertFalse(second.isHasMore());
+        assertEquals("Pine Marten", second.getChanges().get(0).getAnimal().getSpecie());
+    }
+
+    @Test
+    void getChanges_ShouldNotSeeRolledBackChanges() {
+        String token = currentToken();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            animalService.createAnimal(animal("Ursus arctos", "Brown Bear"));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(token, currentToken());
+        assertTrue(animalChangeService.getChanges(token, null).getChanges().isEmpty());
+    }
+
+    @Test
+    void getChanges_ShouldRecordEveryAnimalOfABatch() {
+        String token = currentToken();
+
+        animalService.createAnimals(List.of(animal("Sciurus vulgaris", "Red Squirrel"), animal("Erinaceus europaeus", "Hedgehog")));
+
+        AnimalChangesDTO result = animalChangeService.getChanges(token, null);
+        assertEquals(2, result.getChanges().size());
+        assertTrue(result.getChanges().stream().allMatch(change -> "CREATED".equals(change.getOperation())));
+    }
+
+    @Test
+    void getChanges_ShouldRecordEveryAnimalOfARenamedGroup() {
+        GroupDTO group = groupService.createGroup(GroupDTO.builder().name("Mustelids").build());
+        AnimalDTO stoat = animalService.createAnimal(animal("Mustela erminea", "Stoat", group.getId()));
+        AnimalDTO weasel = animalService.createAnimal(animal("Mustela nivalis", "Weasel", group.getId()));
+        String token = currentToken();
+
+        groupService.updateGroup(group.getId(), GroupDTO.builder().name("Mustelidae").build());
+        groupService.updateGroup(group.getId(), GroupDTO.builder().name("Mustelidae").build());
+
+        List<AnimalChangeDTO> changes = animalChangeService.getChanges(token, null).getChanges();
+        assertEquals(List.of(stoat.getId(), weasel.getId()), changes.stream().map(AnimalChangeDTO::getAnimalId).toList());
+        assertTrue(changes.stream().allMatch(change -> "UPDATED".equals(change.getOperation())));
+        assertEquals("Mustelidae", changes.get(0).getAnimal().getGroup().getName());
+        assertEquals(Long.parseLong(token) + 2, Long.parseLong(currentToken()));
+    }
+
+    @Test
+    void getChanges_ShouldRejectInvalidTokens() {
+        assertThrows(BadRequestException.class, () -> animalChangeService.getChanges("abc", null));
+        assertThrows(BadRequestException.class, () -> animalChangeService.getChanges("-1", null));
+    }
+
+    @Test
+    void stream_ShouldSendChangesAfterTheToken() throws Exception {
+        String token = currentToken();
+        MvcResult result = mockMvc.perform(get("/api/animals/changes/stream")
+                        .param("since", token)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        AnimalDTO fox = animalService.createAnimal(animal("Vulpes vulpes", "Red Fox"));
+        animalChangeStream.poll();
+
+        String events = awaitContent(result, "\"animalId\":" + fox.getId());
+        assertTrue(events.contains("id:" + (Long.parseLong(token) + 1) + "\n"), events);
+        assertTrue(events.contains("event:change\n"), events);
+        assertTrue(events.contains("http://localhost/api/animals/" + fox.getId()), events);
+
+        animalChangeStream.poll();
+        Thread.sleep(100);
+        assertEquals(events, result.getResponse().getContentAsString());
+    }
+
+    // Events are written by the task executor, after poll() returned.
+    private static String awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        String content = result.getResponse().getContentAsString();
+        while (!content.contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            content = result.getResponse().getContentAsString();
+        }
+        return content;
+    }
+
+    private String currentToken() {
+        return animalChangeService.getChanges(null, null).getToken();
+    }
+
+    private static AnimalDTO animal(String scientificName, String specie) {
+        return animal(scientificName, specie, 1L);
+    }
+
+    private static AnimalDTO animal(String scientificName, String specie, Long groupId) {
+        return AnimalDTO.builder()
+                .scientificName(scientificName)
+                .specie(specie)
+                .size(1.0)
+                .mass(10.0)
+                .group(GroupDTO.builder().id(groupId).build())
+                .build();
+    }
+}
@@ -0,0 +1,169 @@
+package br.dev.ulk.animalz.infraestructure.services;
+
+import br.dev.ulk.animalz.application.dtos.AnimalImportDTO;
+import br.dev.ulk.animalz.application.exceptions.BadRequestException;
+import br.dev.ulk.animalz.application.exceptions.PayloadTooLargeException;
+import br.dev.ulk.animalz.infraestructure.repositories.AnimalRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:db_animalz_import",
+        "application.import.batch-size=2",
+        "application.import.max-upload-size=1KB"
+})
+class AnimalImportServiceTest {
+
+    @Autowired
+    private AnimalImportService animalImportService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @SpyBean
+    private AnimalRepository animalRepository;
+
+    @SpyBean
+    private AnimalService animalService;
+
+    @Test
+    void importAnimals_ShouldCommitValidRowsInBatchesAndReportRejections() throws IOException {
+        long before = animalRepository.count();
+        double rejectedBefore = rejectedRows();
+
+        AnimalImportDTO result = importAndWait(csv("""
+                id,scientificName,specie,size,mass,status,groupId,groupName
+                ,Lynx pardinus,Iberian Lynx,1.0,12.0,ACTIVE,,mammals
+                ,Bubo bubo,Eagle Owl,0.7,3.1,,,Birds
+                ,Nowhere,"Ghost, the",1.0,1.0,ACTIVE,,Unicorns
+                ,Salmo salar,Salmon,abc,,ACTIVE,1,
+                ,Triturus cristatus,Crested Newt,0.15,0.01,INACTIVE,2,
+                """));
+
+        assertEquals("COMPLETED", result.getStatus());
+        assertEquals(5, result.getRowsRead());
+        assertEquals(3, result.getImported());
+        assertEquals(2, result.getRejected());
+        assertNotNull(result.getFinishedAt());
+        assertEquals(before + 3, animalRepository.count());
+        assertEquals(rejectedBefore + 2, rejectedRows());
+        verify(animalRepository, atLeast(2)).saveAll(anyList());
+
+        ByteArrayOutputStream report = new ByteArrayOutputStream();
+        animalImportService.writeRejections(result.getId(), report);
+        assertEquals("""
+                line,errors,id,scientificName,specie,size,mass,status,groupId,groupName
+                4,groupName: Group not found with name Unicorns,,Nowhere,"Ghost, the",1.0,1.0,ACTIVE,,Unicorns
+                5,size: must be a number; mass: must not be null,,Salmo salar,Salmon,abc,,ACTIVE,1,
+                """, report.toString(StandardCharsets.UTF_8));
+        assertEquals(result.getImported(), animalImportService.getImport(result.getId()).getImported());
+    }
+
+    @Test
+    void importAnimals_ShouldKeepCommittedBatchesWhenTheCsvIsMalformed() throws IOException {
+        long before = animalRepository.count();
+
+        AnimalImportDTO result = importAndWait(csv("""
+                scientificName,specie,size,mass,groupName
+                Vulpes vulpes,Red Fox,0.9,8.0,Mammals
+                Vulpes lagopus,Arctic Fox,0.7,3.5,Mammals
+                "Vulpes zerda,Fennec Fox,0.4,1.2,Mammals
+                """));
+
+        assertEquals("FAILED", result.getStatus());
+        assertEquals("Unterminated quoted field in record starting at line 4", result.getMessage());
+        assertEquals(2, result.getImported());
+        assertEquals(before + 2, animalRepository.count());
+    }
+
+    @Test
+    void importAnimals_ShouldRequireTheMandatoryColumns() {
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> animalImportService.importAnimals(csv("scientificName,specie\nPanthera leo,Lion\n")));
+
+        assertEquals("The CSV header is missing the columns size, mass, groupName", exception.getMessage());
+    }
+
+    @Test
+    void importAnimals_ShouldRejectUploadsLargerThanTheCap() {
+        String csv = "scientificName,specie,size,mass,groupName\n" + "Canis lupus,Wolf,1.2,40.0,Mammals\n".repeat(100);
+
+        assertThrows(PayloadTooLargeException.class, () -> animalImportService.importAnimals(csv(csv)));
+    }
+
+    @Test
+    void importAnimals_ShouldReturnTheJobBeforeTheRowsAreProcessed() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return invocation.callRealMethod();
+        }).when(animalService).saveAll(anyList());
+
+        AnimalImportDTO started = animalImportService.importAnimals(csv("""
+                scientificName,specie,size,mass,groupName
+                Canis lupus,Wolf,1.2,40.0,Mammals
+                """));
+
+        assertEquals("RUNNING", started.getStatus());
+        assertEquals("RUNNING", animalImportService.getImport(started.getId()).getStatus());
+        release.countDown();
+        assertEquals("COMPLETED", awaitFinished(started.getId()).getStatus());
+    }
+
+    @Test
+    void importAnimals_ShouldPropagateUploadErrorsAfterFailingTheJob() {
+        InputStream broken = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("Connection reset");
+            }
+        };
+
+        IOException exception = assertThrows(IOException.class, () -> animalImportService.importAnimals(broken));
+
+        assertEquals("Connection reset", exception.getMessage());
+    }
+
+    private AnimalImportDTO importAndWait(InputStream inputStream) throws IOException {
+        return awaitFinished(animalImportService.importAnimals(inputStream).getId());
+    }
+
+    private AnimalImportDTO awaitFinished(String id) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        AnimalImportDTO importDTO = animalImportService.getImport(id);
+        while ("RUNNING".equals(importDTO.getStatus())) {
+            assertTrue(System.nanoTime() < deadline, "Import " + id + " did not finish");
+            Thread.onSpinWait();
+            importDTO = animalImportService.getImport(id);
+        }
+        return importDTO;
+    }
+
+    private double rejectedRows() {
+        return meterRegistry.counter(AnimalImportService.ROWS_NAME, "result", "rejected").count();
+    }
+
+    private static InputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
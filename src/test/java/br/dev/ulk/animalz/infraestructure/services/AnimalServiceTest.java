@@ -1,30 +1,64 @@
 package br.dev.ulk.animalz.infraestructure.services;
 
+import br.dev.ulk.animalz.application.dtos.AnimalBatchResultDTO;
 import br.dev.ulk.animalz.application.dtos.AnimalDTO;
+import br.dev.ulk.animalz.application.dtos.AnimalFilterDTO;
+import br.dev.ulk.animalz.application.dtos.AnimalNameDTO;
 import br.dev.ulk.animalz.application.dtos.GroupDTO;
+import br.dev.ulk.animalz.application.exceptions.BadRequestException;
+import br.dev.ulk.animalz.application.exceptions.PreconditionFailedException;
 import br.dev.ulk.animalz.application.exceptions.ResourceNotFoundException;
+import br.dev.ulk.animalz.application.links.LinkFactory;
+import br.dev.ulk.animalz.domain.enumerations.ChangeOperationEnum;
+import br.dev.ulk.animalz.domain.enumerations.ExportFormatEnum;
 import br.dev.ulk.animalz.domain.enumerations.StatusEnum;
 import br.dev.ulk.animalz.domain.models.Animal;
 import br.dev.ulk.animalz.domain.models.Group;
+import br.dev.ulk.animalz.domain.projections.AnimalName;
+import br.dev.ulk.animalz.domain.projections.AnimalView;
 import br.dev.ulk.animalz.infraestructure.repositories.AnimalRepository;
+import br.dev.ulk.animalz.infraestructure.caches.AnimalNameIndex;
+import br.dev.ulk.animalz.infraestructure.caches.GroupCache;
+import br.dev.ulk.animalz.infraestructure.changes.AnimalChangeLog;
 import br.dev.ulk.animalz.infraestructure.repositories.GroupRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.IanaLinkRelations;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -40,13 +74,32 @@ class AnimalServiceTest {
     @Mock
     private GroupRepository groupRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private AnimalChangeLog animalChangeLog;
+
+    @Spy
+    private LinkFactory linkFactory = new LinkFactory();
+
+    @Spy
+    private GroupCache groupCache = new GroupCache();
+
+    @Spy
+    private AnimalNameIndex animalNameIndex = new AnimalNameIndex();
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
     private Animal animal;
+    private AnimalView animalView;
     private AnimalDTO animalDTO;
     private Group group;
 
     @BeforeEach
     void setUp() {
-        group = new Group(1L, "Mammals", new HashSet<>());
+        group = new Group(1L, "Mammals", "mammals", new HashSet<>(), 0L);
         animal = Animal.builder()
                 .id(1L)
                 .scientificName("Panthera leo")
@@ -56,6 +109,7 @@ class AnimalServiceTest {
                 .status(StatusEnum.ACTIVE)
                 .group(group)
                 .build();
+        animalView = new AnimalView(1L, "Panthera leo", "Lion", 1.8, 190.5, StatusEnum.ACTIVE, 1L, "Mammals");
         animalDTO = AnimalDTO.builder()
                 .id(1L)
                 .scientificName("Panthera leo")
@@ -108,45 +162,195 @@ class AnimalServiceTest {
         assertNotNull(result);
         assertEquals("Panthera leo", result.getScientificName());
         verify(animalRepository).save(animal);
+        verify(animalChangeLog).record(1L, ChangeOperationEnum.UPDATED);
+    }
+
+    @Test
+    void save_ShouldRecordCreation_WhenAnimalIsNew() {
+        animal.setId(null);
+        when(animalRepository.save(animal)).thenAnswer(invocation -> {
+            animal.setId(100L);
+            return animal;
+        });
+
+        animalService.save(animal);
+
+        verify(animalChangeLog).record(100L, ChangeOperationEnum.CREATED);
     }
 
     @Test
     void delete_ShouldDeleteAnimalById() {
+        when(animalRepository.existsById(1L)).thenReturn(true);
         doNothing().when(animalRepository).deleteById(1L);
 
+        animalNameIndex.put(1L, "Panthera leo", "Lion");
+
         animalService.delete(1L);
 
         verify(animalRepository).deleteById(1L);
+        verify(animalNameIndex).remove(1L);
+        verify(animalChangeLog).record(1L, ChangeOperationEnum.DELETED);
+        assertEquals(0, animalNameIndex.size());
+    }
+
+    @Test
+    void delete_ShouldNotRecordChange_WhenAnimalDoesNotExist() {
+        when(animalRepository.existsById(1L)).thenReturn(false);
+
+        animalService.delete(1L);
+
+        verify(animalRepository, never()).deleteById(1L);
+        verify(animalChangeLog, never()).record(any(), any());
+    }
+
+    @Test
+    void loadNameIndex_ShouldIndexAllNames() {
+        when(animalRepository.streamAllNames()).thenReturn(Stream.of(new AnimalName(1L, "Panthera leo", "Lion")));
+
+        animalService.loadNameIndex();
+
+        assertEquals(1, animalNameIndex.size());
+    }
+
+    @Test
+    void searchAnimals_ShouldAnswerFromIndexWithSelfLinks() {
+        when(animalRepository.save(animal)).thenReturn(animal);
+        animalService.save(animal);
+
+        List<AnimalNameDTO> result = animalService.searchAnimals("lio", null);
+
+        assertEquals(1, result.size());
+        assertEquals("Panthera leo", result.get(0).getScientificName());
+        assertEquals("/api/animals/1", result.get(0).getRequiredLink(IanaLinkRelations.SELF).getHref());
+        verify(animalRepository, never()).findAll();
+    }
+
+    @Test
+    void searchAnimals_ShouldThrowException_WhenPrefixIsBlank() {
+        assertThrows(BadRequestException.class, () -> animalService.searchAnimals(" ", 10));
     }
 
     @Test
     void getAllAnimals_ShouldReturnListOfAnimalDTOs() {
-        when(animalRepository.findAll()).thenReturn(List.of(animal));
+        when(animalRepository.findAllViews()).thenReturn(List.of(animalView));
 
-        List<AnimalDTO> result = animalService.getAllAnimals();
+        List<AnimalDTO> result = animalService.getAllAnimals(null, null);
 
         assertEquals(1, result.size());
         assertEquals("Panthera leo", result.get(0).getScientificName());
-        verify(animalRepository).findAll();
+        assertEquals("Mammals", result.get(0).getGroup().getName());
+        verify(animalRepository).findAllViews();
+        verify(animalRepository, never()).findAll();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getAllAnimals_ShouldQueryWithSpecification_WhenFilterIsPresent() {
+        when(groupRepository.findByNameIgnoreCase("mammals")).thenReturn(Optional.of(group));
+        when(animalRepository.findViews(any(Specification.class), any(Sort.class), eq(Limit.unlimited()))).thenReturn(List.of(animalView));
+        AnimalFilterDTO filter = AnimalFilterDTO.builder().minMass(50.0).maxMass(500.0).status("active").group("mammals").build();
+
+        List<AnimalDTO> result = animalService.getAllAnimals(filter, null);
+
+        assertEquals(1, result.size());
+        verify(animalRepository).findViews(any(Specification.class), any(Sort.class), eq(Limit.unlimited()));
+        verify(animalRepository, never()).findAllViews();
+    }
+
+    @Test
+    void getAllAnimals_ShouldIgnoreEmptyFilter() {
+        when(animalRepository.findAllViews()).thenReturn(List.of(animalView));
+
+        List<AnimalDTO> result = animalService.getAllAnimals(AnimalFilterDTO.builder().status(" ").build(), null);
+
+        assertEquals(1, result.size());
+        verify(animalRepository).findAllViews();
+    }
+
+    @Test
+    void getAllAnimals_ShouldThrowException_WhenFilterIsInvalid() {
+        when(groupRepository.findById(9L)).thenReturn(Optional.empty());
+
+        assertThrows(BadRequestException.class,
+                () -> animalService.getAllAnimals(AnimalFilterDTO.builder().minMass(500.0).maxMass(50.0).build(), null));
+        assertThrows(BadRequestException.class,
+                () -> animalService.getAllAnimals(AnimalFilterDTO.builder().minSize(3.0).maxSize(1.0).build(), null));
+        assertThrows(BadRequestException.class,
+                () -> animalService.getAllAnimals(AnimalFilterDTO.builder().status("EXTINCT").build(), null));
+        assertThrows(ResourceNotFoundException.class,
+                () -> animalService.getAllAnimals(AnimalFilterDTO.builder().group("9").build(), null));
+    }
+
+    @Test
+    void getAnimalsPage_ShouldReturnPageWithNextLink_WhenMoreAnimalsExist() {
+        AnimalView nextAnimal = new AnimalView(2L, "Elephas maximus", "Elephant", 3.0, 5000.0, StatusEnum.ACTIVE, 1L, "Mammals");
+        when(animalRepository.findViewsByIdGreaterThan(0L, Limit.of(2))).thenReturn(List.of(animalView, nextAnimal));
+
+        CollectionModel<AnimalDTO> result = animalService.getAnimalsPage(null, 1, null, null);
+
+        assertEquals(1, result.getContent().size());
+        assertEquals("Panthera leo", result.getContent().iterator().next().getScientificName());
+        assertTrue(result.getLink(IanaLinkRelations.NEXT).isPresent());
+        assertTrue(result.getLink(IanaLinkRelations.NEXT).get().getHref().contains("after=1"));
+        verify(animalRepository).findViewsByIdGreaterThan(0L, Limit.of(2));
+    }
+
+    @Test
+    void getAnimalsPage_ShouldCapPageSizeAndOmitNextLink_WhenLastPage() {
+        when(animalRepository.findViewsByIdGreaterThan(1L, Limit.of(AnimalService.MAX_PAGE_SIZE + 1))).thenReturn(List.of(animalView));
+
+        CollectionModel<AnimalDTO> result = animalService.getAnimalsPage(1L, 10_000, null, null);
+
+        assertEquals(1, result.getContent().size());
+        assertFalse(result.getLink(IanaLinkRelations.NEXT).isPresent());
+        verify(animalRepository).findViewsByIdGreaterThan(1L, Limit.of(AnimalService.MAX_PAGE_SIZE + 1));
+    }
+
+    @Test
+    void exportAnimals_ShouldWriteOneJsonObjectPerLine_WhenFormatIsNdjson() throws IOException {
+        when(animalRepository.streamAllViews()).thenReturn(Stream.of(animalView));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        animalService.exportAnimals(ExportFormatEnum.NDJSON, outputStream);
+
+        assertEquals("{\"id\":1,\"scientificName\":\"Panthera leo\",\"specie\":\"Lion\",\"size\":1.8,\"mass\":190.5,"
+                        + "\"status\":\"ACTIVE\",\"group\":{\"id\":1,\"name\":\"Mammals\"}}\n",
+                outputStream.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void exportAnimals_ShouldWriteHeaderAndEscapedRows_WhenFormatIsCsv() throws IOException {
+        AnimalView king = new AnimalView(1L, "Panthera leo", "Lion, \"King\"", 1.8, 190.5, StatusEnum.ACTIVE, 1L, "Mammals");
+        when(animalRepository.streamAllViews()).thenReturn(Stream.of(king));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        animalService.exportAnimals(ExportFormatEnum.CSV, outputStream);
+
+        assertEquals("id,scientificName,specie,size,mass,status,groupId,groupName\n"
+                        + "1,Panthera leo,\"Lion, \"\"King\"\"\",1.8,190.5,ACTIVE,1,Mammals\n",
+                outputStream.toString(StandardCharsets.UTF_8));
     }
 
     @Test
     void getAnimalById_ShouldReturnAnimalDTO_WhenIdExists() {
-        when(animalRepository.findById(1L)).thenReturn(Optional.of(animal));
+        when(animalRepository.findViewById(1L)).thenReturn(Optional.of(new AnimalView(
+                1L, "Panthera leo", "Lion", 1.8, 190.5, StatusEnum.ACTIVE, 1L, "Mammals", 3L, 2L)));
 
-        AnimalDTO result = animalService.getAnimalById(1L);
+        AnimalDTO result = animalService.getAnimalById(1L, null);
 
         assertNotNull(result);
         assertEquals("Panthera leo", result.getScientificName());
-        verify(animalRepository).findById(1L);
+        assertEquals("3.2", result.getVersion().eTag());
+        verify(animalRepository).findViewById(1L);
+        verify(animalRepository, never()).findById(1L);
     }
 
     @Test
     void getAnimalById_ShouldThrowException_WhenIdDoesNotExist() {
-        when(animalRepository.findById(1L)).thenReturn(Optional.empty());
+        when(animalRepository.findViewById(1L)).thenReturn(Optional.empty());
 
-        assertThrows(ResourceNotFoundException.class, () -> animalService.getAnimalById(1L));
-        verify(animalRepository).findById(1L);
+        assertThrows(ResourceNotFoundException.class, () -> animalService.getAnimalById(1L, null));
+        verify(animalRepository).findViewById(1L);
     }
 
     @Test
@@ -162,6 +366,30 @@ class AnimalServiceTest {
         verify(animalRepository).save(any(Animal.class));
     }
 
+    @Test
+    void createAnimal_ShouldResolveGroupFromCache_WhenGroupWasAlreadyLoaded() {
+        when(groupRepository.findById(1L)).thenReturn(Optional.of(group));
+        when(animalRepository.save(any(Animal.class))).thenReturn(animal);
+
+        animalService.createAnimal(animalDTO);
+        animalService.createAnimal(animalDTO);
+
+        verify(groupRepository, times(1)).findById(1L);
+        verify(animalRepository, times(2)).save(any(Animal.class));
+    }
+
+    @Test
+    void getAnimalsByGroup_ShouldQueryAnimalsByGroupId_WhenGroupIsGivenByName() {
+        when(groupRepository.findByNameIgnoreCase("mammals")).thenReturn(Optional.of(group));
+        when(animalRepository.findViewsByGroupId(1L)).thenReturn(List.of(animalView));
+
+        List<AnimalDTO> result = animalService.getAnimalsByGroup("mammals", null);
+
+        assertEquals(1, result.size());
+        assertEquals("Mammals", result.get(0).getGroup().getName());
+        verify(animalRepository).findViewsByGroupId(1L);
+    }
+
     @Test
     void createAnimal_ShouldThrowException_WhenGroupDoesNotExist() {
         when(groupRepository.findById(1L)).thenReturn(Optional.empty());
@@ -170,6 +398,78 @@ class AnimalServiceTest {
         verify(groupRepository).findById(1L);
     }
 
+    @Test
+    void createAnimals_ShouldSaveInChunksAndReturnCreatedAnimals() {
+        when(groupRepository.findById(1L)).thenReturn(Optional.of(group));
+        List<Animal> saved = new ArrayList<>();
+        when(animalRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Animal> animals = invocation.getArgument(0);
+            animals.forEach(each -> each.setId(100L + saved.size() + animals.indexOf(each)));
+            saved.addAll(animals);
+            return animals;
+        });
+
+        List<AnimalBatchResultDTO> results = animalService.createAnimals(Collections.nCopies(120, animalDTO));
+
+        assertEquals(120, results.size());
+        assertTrue(results.stream().allMatch(result -> result.getStatus() == 201));
+        assertEquals(100L, results.get(0).getAnimal().getId());
+        assertEquals(219L, results.get(119).getAnimal().getId());
+        assertTrue(results.get(119).getAnimal().getLink(IanaLinkRelations.SELF).isPresent());
+        verify(groupRepository, times(1)).findById(1L);
+        verify(animalRepository, times(3)).saveAll(anyList());
+        verify(entityManager, times(3)).flush();
+        verify(entityManager, times(3)).clear();
+    }
+
+    @Test
+    void createAnimals_ShouldReportInvalidItemsAndSaveTheOthers() {
+        when(groupRepository.findById(1L)).thenReturn(Optional.of(group));
+        when(groupRepository.findById(9L)).thenReturn(Optional.empty());
+        when(animalRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Animal> animals = invocation.getArgument(0);
+            animals.forEach(each -> each.setId(100L));
+            return animals;
+        });
+        AnimalDTO withoutName = AnimalDTO.builder()
+                .specie("Lion")
+                .size(1.8)
+                .mass(190.5)
+                .group(GroupDTO.builder().id(1L).build())
+                .build();
+        AnimalDTO unknownGroup = AnimalDTO.builder()
+                .scientificName("Panthera leo")
+                .specie("Lion")
+                .size(1.8)
+                .mass(190.5)
+                .group(GroupDTO.builder().id(9L).build())
+                .build();
+
+        List<AnimalBatchResultDTO> results = animalService.createAnimals(List.of(withoutName, animalDTO, unknownGroup));
+
+        assertEquals(400, results.get(0).getStatus());
+        assertEquals("scientificName", results.get(0).getErrors().get(0).getField());
+        assertEquals(201, results.get(1).getStatus());
+        assertEquals("Panthera leo", results.get(1).getAnimal().getScientificName());
+        assertEquals(400, results.get(2).getStatus());
+        assertEquals("group.id", results.get(2).getErrors().get(0).getField());
+        verify(animalRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    void createAnimals_ShouldThrowException_WhenBatchIsEmptyOrTooLarge() {
+        assertThrows(BadRequestException.class, () -> animalService.createAnimals(List.of()));
+        assertThrows(BadRequestException.class,
+                () -> animalService.createAnimals(Collections.nCopies(AnimalService.MAX_BATCH_SIZE + 1, animalDTO)));
+        verify(animalRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void createAnimals_ShouldThrowException_WhenBatchHasNullAnimals() {
+        assertThrows(BadRequestException.class, () -> animalService.createAnimals(Arrays.asList(animalDTO, null)));
+        verify(animalRepository, never()).saveAll(anyList());
+    }
+
     @Test
     void updateAnimal_ShouldUpdateAndReturnAnimalDTO_WhenIdExists() {
         when(animalRepository.findById(1L)).thenReturn(Optional.of(animal));
@@ -188,7 +488,7 @@ class AnimalServiceTest {
         animal.setScientificName("Panthera tigris");
         animal.setSpecie("Tiger");
 
-        AnimalDTO result = animalService.updateAnimal(1L, updatedDTO);
+        AnimalDTO result = animalService.updateAnimal(1L, updatedDTO, null);
 
         assertNotNull(result);
         assertEquals("Panthera tigris", result.getScientificName());
@@ -196,6 +496,15 @@ class AnimalServiceTest {
         verify(animalRepository).save(animal);
     }
 
+    @Test
+    void updateAnimal_ShouldThrowException_WhenVersionDoesNotMatch() {
+        animal.setVersion(4L);
+        when(animalRepository.findById(1L)).thenReturn(Optional.of(animal));
+
+        assertThrows(PreconditionFailedException.class, () -> animalService.updateAnimal(1L, animalDTO, 3L));
+        verify(animalRepository, never()).save(any(Animal.class));
+    }
+
     @Test
     void updateAnimal_ShouldThrowException_WhenIdDoesNotExist() {
         when(animalRepository.findById(1L)).thenReturn(Optional.empty());
@@ -210,7 +519,7 @@ class AnimalServiceTest {
                 .group(GroupDTO.builder().id(1L).name("Mammals").build())
                 .build();
 
-        assertThrows(ResourceNotFoundException.class, () -> animalService.updateAnimal(1L, updatedDTO));
+        assertThrows(ResourceNotFoundException.class, () -> animalService.updateAnimal(1L, updatedDTO, null));
         verify(animalRepository).findById(1L);
     }
 }
\ No newline at end of file
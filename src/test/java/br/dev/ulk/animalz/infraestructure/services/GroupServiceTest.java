@@ -1,19 +1,36 @@
 package br.dev.ulk.animalz.infraestructure.services;
 
 import br.dev.ulk.animalz.application.dtos.GroupDTO;
+import br.dev.ulk.animalz.application.exceptions.PreconditionFailedException;
 import br.dev.ulk.animalz.application.exceptions.ResourceNotFoundException;
+import br.dev.ulk.animalz.application.links.LinkFactory;
+import br.dev.ulk.animalz.application.serializers.AnimalzJacksonModule;
+import br.dev.ulk.animalz.domain.enumerations.StatusEnum;
 import br.dev.ulk.animalz.domain.models.Group;
+import br.dev.ulk.animalz.domain.projections.AnimalView;
+import br.dev.ulk.animalz.domain.projections.GroupsVersion;
+import br.dev.ulk.animalz.infraestructure.caches.GroupCache;
+import br.dev.ulk.animalz.infraestructure.changes.AnimalChangeLog;
+import br.dev.ulk.animalz.infraestructure.repositories.AnimalRepository;
 import br.dev.ulk.animalz.infraestructure.repositories.GroupRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -21,6 +38,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -33,13 +51,35 @@ class GroupServiceTest {
     @Mock
     private GroupRepository groupRepository;
 
+    @Mock
+    private AnimalRepository animalRepository;
+
+    @Spy
+    private LinkFactory linkFactory = new LinkFactory();
+
+    @Spy
+    private GroupCache groupCache = new GroupCache();
+
+    @Mock
+    private AnimalChangeLog animalChangeLog;
+
+    @Spy
+    private AnimalService animalService = new AnimalService();
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().registerModule(new AnimalzJacksonModule());
+
+    @Mock
+    private RequestMappingHandlerAdapter handlerAdapter;
+
     private Group group;
     private GroupDTO groupDTO;
 
     @BeforeEach
     void setUp() {
-        group = new Group(1L, "Mammals", new HashSet<>());
+        group = new Group(1L, "Mammals", "mammals", new HashSet<>(), 0L);
         groupDTO = GroupDTO.builder().id(1L).name("Mammals").build();
+        ReflectionTestUtils.setField(animalService, "linkFactory", linkFactory);
     }
 
     @Test
@@ -92,6 +132,7 @@ class GroupServiceTest {
         groupService.delete(1L);
 
         verify(groupRepository).deleteById(1L);
+        verify(groupCache).invalidateAll();
     }
 
     @Test
@@ -149,6 +190,7 @@ class GroupServiceTest {
         assertEquals("Updated Mammals", result.getName());
         verify(groupRepository).findById(1L);
         verify(groupRepository).save(group);
+        verify(groupCache).invalidateAll();
     }
 
     @Test
@@ -160,4 +202,48 @@ class GroupServiceTest {
         assertThrows(ResourceNotFoundException.class, () -> groupService.updateGroup(1L, updatedDTO));
         verify(groupRepository).findById(1L);
     }
-}
\ No newline at end of file
+
+    @Test
+    void updateGroup_ShouldThrowException_WhenVersionDoesNotMatch() {
+        when(groupRepository.findById(1L)).thenReturn(Optional.of(group));
+
+        GroupDTO updatedDTO = GroupDTO.builder().id(1L).name("Updated Mammals").build();
+
+        assertThrows(PreconditionFailedException.class, () -> groupService.updateGroup(1L, updatedDTO, 3L));
+        verify(groupRepository, never()).save(any(Group.class));
+    }
+
+    @Test
+    void getGroupsWithAnimalsETag_ShouldCombineGroupsVersionAndChangeSequence() {
+        when(groupRepository.findGroupsVersion()).thenReturn(new GroupsVersion(5L, 5L, 2L));
+        when(animalChangeLog.getLastSequence()).thenReturn(42L);
+
+        assertEquals("5.5.2.42", groupService.getGroupsWithAnimalsETag());
+    }
+
+    @Test
+    void writeGroupsWithAnimals_ShouldNestAnimalsUnderTheirGroup() throws IOException {
+        when(groupRepository.streamAllWithAnimals()).thenReturn(Stream.of(
+                new AnimalView(1L, "Panthera leo", "Lion", 1.8, 190.5, StatusEnum.ACTIVE, 1L, "Mammals"),
+                new AnimalView(2L, "Ursus arctos", "Brown Bear", 2.0, 300.0, StatusEnum.INACTIVE, 1L, "Mammals"),
+                new AnimalView(null, null, null, null, null, null, 2L, "Birds")));
+        when(handlerAdapter.getMessageConverters()).thenReturn(List.of());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        groupService.writeGroupsWithAnimals("http://localhost", outputStream);
+
+        assertEquals("[{\"id\":1,\"name\":\"Mammals\",\"animals\":["
+                        + "{\"id\":1,\"scientificName\":\"Panthera leo\",\"specie\":\"Lion\",\"size\":1.8,\"mass\":190.5,\"status\":\"ACTIVE\","
+                        + "\"group\":{\"id\":1,\"name\":\"Mammals\",\"links\":[{\"rel\":\"group\",\"href\":\"http://localhost/api/groups/1\"}]},"
+                        + "\"links\":[{\"rel\":\"self\",\"href\":\"http://localhost/api/animals/1\"}]},"
+                        + "{\"id\":2,\"scientificName\":\"Ursus arctos\",\"specie\":\"Brown Bear\",\"size\":2.0,\"mass\":300.0,\"status\":\"INACTIVE\","
+                        + "\"group\":{\"id\":1,\"name\":\"Mammals\",\"links\":[{\"rel\":\"group\",\"href\":\"http://localhost/api/groups/1\"}]},"
+                        + "\"links\":[{\"rel\":\"self\",\"href\":\"http://localhost/api/animals/2\"}]}],"
+                        + "\"links\":[{\"rel\":\"self\",\"href\":\"http://localhost/api/groups/1\"},"
+                        + "{\"rel\":\"groups\",\"href\":\"http://localhost/api/groups\"}]},"
+                        + "{\"id\":2,\"name\":\"Birds\",\"animals\":[],"
+                        + "\"links\":[{\"rel\":\"self\",\"href\":\"http://localhost/api/groups/2\"},"
+                        + "{\"rel\":\"groups\",\"href\":\"http://localhost/api/groups\"}]}]",
+                outputStream.toString(StandardCharsets.UTF_8));
+    }
+}
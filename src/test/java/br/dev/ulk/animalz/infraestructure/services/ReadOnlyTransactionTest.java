@@ -0,0 +1,57 @@
+package br.dev.ulk.animalz.infraestructure.services;
+
+import br.dev.ulk.animalz.infraestructure.repositories.AnimalRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doAnswer;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:db_animalz_read_only")
+class ReadOnlyTransactionTest {
+
+    @Autowired
+    private AnimalService animalService;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @SpyBean
+    private AnimalRepository animalRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    void getAllAnimals_ShouldRunInReadOnlyTransactionWithManualFlush() {
+        List<Object> observed = new ArrayList<>();
+        doAnswer(invocation -> {
+            observed.add(TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+            observed.add(entityManager.unwrap(Session.class).getHibernateFlushMode());
+            observed.add(entityManager.unwrap(Session.class).isDefaultReadOnly());
+            return List.of();
+        }).when(animalRepository).findAllViews();
+
+        animalService.getAllAnimals(null, null);
+
+        assertEquals(List.of(true, FlushMode.MANUAL, true), observed);
+    }
+
+    @Test
+    void openSessionInView_ShouldBeDisabled() {
+        assertTrue(applicationContext.getBeansOfType(OpenEntityManagerInViewInterceptor.class).isEmpty());
+    }
+}
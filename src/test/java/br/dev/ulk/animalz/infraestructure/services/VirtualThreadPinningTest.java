@@ -0,0 +1,76 @@
+package br.dev.ulk.animalz.infraestructure.services;
+
+import br.dev.ulk.animalz.application.dtos.AnimalDTO;
+import br.dev.ulk.animalz.application.dtos.GroupDTO;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:db_animalz_virtual_threads",
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.minimum-idle=2"
+})
+@ActiveProfiles({"dev", "virtual"})
+class VirtualThreadPinningTest {
+
+    private static final int TASKS = 64;
+
+    @Autowired
+    private AnimalService animalService;
+
+    @Autowired
+    private GroupService groupService;
+
+    @Test
+    void transactionalServiceMethods_ShouldNotPinCarrierThreads() throws Exception {
+        List<RecordedEvent> pinnedEvents = new CopyOnWriteArrayList<>();
+
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recording.onEvent("jdk.VirtualThreadPinned", pinnedEvents::add);
+            recording.startAsync();
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<?>> futures = IntStream.range(0, TASKS)
+                        .<Future<?>>mapToObj(task -> executor.submit(() -> runWorkload(task)))
+                        .toList();
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            }
+
+            recording.stop();
+        }
+
+        assertTrue(pinnedEvents.isEmpty(), () -> "Carrier threads were pinned:\n" + pinnedEvents);
+    }
+
+    private void runWorkload(int task) {
+        animalService.getAnimalById(1L, null);
+        animalService.getAnimalsByGroup("mammals", null);
+        animalService.createAnimal(AnimalDTO.builder()
+                .scientificName("Panthera leo " + task)
+                .specie("Lion")
+                .size(1.8)
+                .mass(190.5)
+                .group(GroupDTO.builder().id(5L).build())
+                .build());
+        if (task % 8 == 0) {
+            groupService.createGroup(GroupDTO.builder().name("Group " + task).build());
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package br.dev.ulk.animalz.infraestructure.streaming;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StreamingTimeoutInterceptorTest {
+
+    private final StreamingTimeoutInterceptor interceptor = new StreamingTimeoutInterceptor();
+
+    private MockHttpServletRequest request;
+    private StandardServletAsyncWebRequest asyncWebRequest;
+
+    @BeforeEach
+    void setUp() {
+        request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+        asyncWebRequest = new StandardServletAsyncWebRequest(request, new MockHttpServletResponse());
+        asyncWebRequest.setTimeout(10_000L);
+    }
+
+    @Test
+    void beforeConcurrentHandling_ShouldApplyTheStreamingTimeout_WhenHandlerStreams() throws Exception {
+        request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, new HandlerMethod(new Handlers(), "stream"));
+
+        interceptor.beforeConcurrentHandling(asyncWebRequest, () -> null);
+        asyncWebRequest.startAsync();
+
+        assertEquals(Duration.ofMinutes(30).toMillis(), request.getAsyncContext().getTimeout());
+    }
+
+    @Test
+    void beforeConcurrentHandling_ShouldKeepTheDefaultTimeout_WhenHandlerDoesNotStream() throws Exception {
+        request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, new HandlerMethod(new Handlers(), "callable"));
+
+        interceptor.beforeConcurrentHandling(asyncWebRequest, () -> null);
+        asyncWebRequest.startAsync();
+
+        assertEquals(10_000L, request.getAsyncContext().getTimeout());
+    }
+
+    static class Handlers {
+
+        public ResponseEntity<StreamingResponseBody> stream() {
+            return ResponseEntity.ok(outputStream -> {
+            });
+        }
+
+        public ResponseEntity<String> callable() {
+            return ResponseEntity.ok("");
+        }
+    }
+}
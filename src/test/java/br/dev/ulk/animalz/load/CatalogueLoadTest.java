@@ -0,0 +1,79 @@
+package br.dev.ulk.animalz.load;
+
+import br.dev.ulk.animalz.UlkAniamlzApplication;
+import br.dev.ulk.animalz.infraestructure.services.AnimalService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("load")
+class CatalogueLoadTest {
+
+    private static final long ROWS = Long.getLong("load.rows", 10_000);
+    private static final int GROUPS = Integer.getInteger("load.groups", 100);
+    private static final long SEED = Long.getLong("load.seed", 42);
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 32);
+    private static final Duration WARM_UP = Duration.ofSeconds(Long.getLong("load.warmup", 10));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.duration", 30));
+    private static final String MIX = System.getProperty("load.mix", RequestMix.DEFAULT);
+    private static final String BASELINES = "/load/baselines.properties";
+
+    @Test
+    void catalogueShouldMeetBaselines() throws Exception {
+        SyntheticDataset dataset = new SyntheticDataset(GROUPS, ROWS, SEED);
+        RequestMix mix = RequestMix.parse(MIX);
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(UlkAniamlzApplication.class)
+                .profiles("dev")
+                // Arguments rather than default properties, which application.properties would override.
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:db_animalz_load_catalogue",
+                        // Every simulated client shares the loopback address; the harness measures capacity, not the limiter.
+                        "--application.rate-limit.enabled=false",
+                        "--logging.level.root=WARN"
+                )) {
+            dataset.load(context.getBean(DataSource.class));
+            context.getBean(AnimalService.class).loadNameIndex();
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            LoadDriver driver = new LoadDriver(URI.create("http://localhost:" + port), CONCURRENCY, mix, dataset, SEED);
+            driver.run(WARM_UP);
+            LoadReport report = LoadReport.of(dataset, SEED, mix, CONCURRENCY, driver.run(DURATION));
+
+            List<String> violations = report.violations(baselines());
+            String json = report.toJson(violations);
+            Path output = Path.of("target", "load-test", "catalogue-" + ROWS + ".json");
+            Files.createDirectories(output.getParent());
+            Files.writeString(output, json);
+
+            assertEquals(0, report.total().errors(), "Requests failed, see " + output);
+            assertTrue(violations.isEmpty(), "Below the committed baselines: " + violations);
+        }
+    }
+
+    private static Properties baselines() throws IOException {
+        Properties baselines = new Properties();
+        try (InputStream inputStream = CatalogueLoadTest.class.getResourceAsStream(BASELINES)) {
+            if (inputStream != null) {
+                baselines.load(inputStream);
+            }
+        }
+        return baselines;
+    }
+}
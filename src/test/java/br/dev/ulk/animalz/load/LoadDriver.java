@@ -0,0 +1,115 @@
+package br.dev.ulk.animalz.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Closed-loop driver: each client sends its next request as soon as the previous one returns.
+final class LoadDriver {
+
+    private final URI baseUri;
+    private final int concurrency;
+    private final RequestMix mix;
+    private final SyntheticDataset dataset;
+    private final long seed;
+
+    LoadDriver(URI baseUri, int concurrency, RequestMix mix, SyntheticDataset dataset, long seed) {
+        this.baseUri = baseUri;
+        this.concurrency = concurrency;
+        this.mix = mix;
+        this.dataset = dataset;
+        this.seed = seed;
+    }
+
+    Run run(Duration duration) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+
+        Map<String, Samples> merged = new LinkedHashMap<>();
+        mix.operations().forEach(operation -> merged.put(operation.name(), new Samples()));
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Map<String, Samples>>> clients = new ArrayList<>();
+            SplittableRandom seeds = new SplittableRandom(seed);
+            for (int i = 0; i < concurrency; i++) {
+                SplittableRandom random = seeds.split();
+                clients.add(executor.submit(() -> drive(client, random, deadline)));
+            }
+            for (Future<Map<String, Samples>> future : clients) {
+                future.get().forEach((name, samples) -> merged.get(name).addAll(samples));
+            }
+        }
+        return new Run(merged, System.nanoTime() - start);
+    }
+
+    private Map<String, Samples> drive(HttpClient client, SplittableRandom random, long deadline) throws InterruptedException {
+        Map<String, Samples> samples = new LinkedHashMap<>();
+        while (System.nanoTime() < deadline) {
+            RequestMix.Operation operation = mix.next(random);
+            HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(operation.path().apply(dataset, random)))
+                    .timeout(Duration.ofSeconds(30))
+                    .build();
+            boolean failed;
+            long sent = System.nanoTime();
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                failed = response.statusCode() / 100 != 2;
+            } catch (IOException ex) {
+                failed = true;
+            }
+            samples.computeIfAbsent(operation.name(), name -> new Samples()).add(System.nanoTime() - sent, failed);
+        }
+        return samples;
+    }
+
+    record Run(Map<String, Samples> samples, long elapsedNanos) {
+    }
+
+    static final class Samples {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        void add(long latency, boolean failed) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latency;
+            if (failed) {
+                errors++;
+            }
+        }
+
+        void addAll(Samples other) {
+            for (int i = 0; i < other.count; i++) {
+                add(other.latencies[i], false);
+            }
+            errors += other.errors;
+        }
+
+        long[] sorted() {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+
+        long errors() {
+            return errors;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package br.dev.ulk.animalz.load;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+record LoadReport(long rows, int groups, long seed, String mix, int concurrency, List<Stats> operations, Stats total) {
+
+    static LoadReport of(SyntheticDataset dataset, long seed, RequestMix mix, int concurrency, LoadDriver.Run run) {
+        List<Stats> operations = new ArrayList<>();
+        LoadDriver.Samples all = new LoadDriver.Samples();
+        for (Map.Entry<String, LoadDriver.Samples> entry : run.samples().entrySet()) {
+            operations.add(Stats.of(entry.getKey(), entry.getValue(), run.elapsedNanos()));
+            all.addAll(entry.getValue());
+        }
+        return new LoadReport(dataset.animals(), dataset.groups(), seed, mix.describe(), concurrency,
+                operations, Stats.of("total", all, run.elapsedNanos()));
+    }
+
+    // Baselines are keyed by dataset size: rows.<n>.throughput.min and rows.<n>.p99.max for the whole mix, and
+    // rows.<n>.<operation>.p99.max for a single operation. Sizes without an entry are only reported.
+    List<String> violations(Properties baselines) {
+        List<String> violations = new ArrayList<>();
+        String prefix = "rows." + rows + ".";
+        String minThroughput = baselines.getProperty(prefix + "throughput.min");
+        if (minThroughput != null && total.throughput() < Double.parseDouble(minThroughput)) {
+            violations.add(String.format(Locale.ROOT, "throughput %.1f req/s is below the baseline of %s req/s", total.throughput(), minThroughput));
+        }
+        for (Stats stats : concat(total, operations)) {
+            String key = stats.name().equals("total") ? prefix + "p99.max" : prefix + stats.name() + ".p99.max";
+            String maxP99 = baselines.getProperty(key);
+            if (maxP99 != null && stats.p99() > Double.parseDouble(maxP99)) {
+                violations.add(String.format(Locale.ROOT, "%s p99 %.3f ms is above the baseline of %s ms", stats.name(), stats.p99(), maxP99));
+            }
+        }
+        return violations;
+    }
+
+    String toJson(List<String> violations) {
+        return String.format(Locale.ROOT, """
+                        {
+                          "dataset": {"animals": %d, "groups": %d, "seed": %d},
+                          "mix": "%s",
+                          "concurrency": %d,
+                          "total": %s,
+                          "operations": [
+                            %s
+                          ],
+                          "violations": [%s]
+                        }
+                        """,
+                rows, groups, seed, mix, concurrency, total.toJson(),
+                operations.stream().map(Stats::toJson).collect(Collectors.joining(",\n    ")),
+                violations.stream().map(violation -> "\"" + violation + "\"").collect(Collectors.joining(", ")));
+    }
+
+    private static List<Stats> concat(Stats first, List<Stats> rest) {
+        List<Stats> all = new ArrayList<>(rest.size() + 1);
+        all.add(first);
+        all.addAll(rest);
+        return all;
+    }
+
+    record Stats(String name, long requests, long errors, double throughput, double p50, double p90, double p99, double p999, double max) {
+
+        static Stats of(String name, LoadDriver.Samples samples, long elapsedNanos) {
+            long[] sorted = samples.sorted();
+            double seconds = elapsedNanos / 1_000_000_000.0;
+            return new Stats(name, sorted.length, samples.errors(), sorted.length / seconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                    sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0);
+        }
+
+        private static double percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1_000_000.0;
+        }
+
+        String toJson() {
+            return String.format(Locale.ROOT,
+                    "{\"name\": \"%s\", \"requests\": %d, \"errors\": %d, \"throughput\": %.1f, \"p50Ms\": %.3f, \"p90Ms\": %.3f, \"p99Ms\": %.3f, \"p999Ms\": %.3f, \"maxMs\": %.3f}",
+                    name, requests, errors, throughput, p50, p90, p99, p999, max);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package br.dev.ulk.animalz.load;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.BiFunction;
+
+// Parses "animal:40,page:20,..." into weighted operations whose paths are drawn from the synthetic dataset.
+record RequestMix(List<Operation> operations, int totalWeight) {
+
+    static final String DEFAULT = "animal:40,page:15,filter:10,search:10,group:10,groups:5,group-animals:5,changes:5";
+
+    private static final Map<String, BiFunction<SyntheticDataset, SplittableRandom, String>> PATHS = Map.of(
+            "animal", (dataset, random) -> "/api/animals/" + dataset.randomAnimalId(random),
+            "page", (dataset, random) -> "/api/animals?after=" + dataset.randomAnimalId(random) + "&limit=20",
+            "filter", (dataset, random) -> String.format(Locale.ROOT, "/api/animals?limit=20&minMass=%.0f&status=ACTIVE", dataset.randomMass(random)),
+            "search", (dataset, random) -> "/api/animals/search?prefix=" + dataset.randomPrefix(random) + "&limit=10",
+            "group", (dataset, random) -> "/api/groups/" + dataset.randomGroupId(random),
+            "groups", (dataset, random) -> "/api/groups",
+            "group-animals", (dataset, random) -> "/api/animals/groups/" + dataset.randomGroupId(random),
+            "changes", (dataset, random) -> "/api/animals/changes?since=0&limit=100"
+    );
+
+    static RequestMix parse(String spec) {
+        List<Operation> operations = new ArrayList<>();
+        int totalWeight = 0;
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split(":");
+            BiFunction<SyntheticDataset, SplittableRandom, String> path = PATHS.get(parts[0]);
+            if (path == null || parts.length != 2) {
+                throw new IllegalArgumentException("Unknown request mix entry '" + entry + "', expected one of " + PATHS.keySet() + " as name:weight");
+            }
+            int weight = Integer.parseInt(parts[1]);
+            if (weight > 0) {
+                operations.add(new Operation(parts[0], weight, path));
+                totalWeight += weight;
+            }
+        }
+        if (operations.isEmpty()) {
+            throw new IllegalArgumentException("The request mix '" + spec + "' has no operation with a positive weight");
+        }
+        return new RequestMix(List.copyOf(operations), totalWeight);
+    }
+
+    Operation next(SplittableRandom random) {
+        int roll = random.nextInt(totalWeight);
+        for (Operation operation : operations) {
+            roll -= operation.weight();
+            if (roll < 0) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException("Weights do not add up to " + totalWeight);
+    }
+
+    String describe() {
+        StringBuilder description = new StringBuilder();
+        for (Operation operation : operations) {
+            description.append(description.isEmpty() ? "" : ",").append(operation.name()).append(':').append(operation.weight());
+        }
+        return description.toString();
+    }
+
+    record Operation(String name, int weight, BiFunction<SyntheticDataset, SplittableRandom, String> path) {
+    }
+}
@@ -0,0 +1,125 @@
+package br.dev.ulk.animalz.load;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+// Same seed and sizes always produce the same rows, so runs against the same dataset are comparable.
+final class SyntheticDataset {
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final String[] GENERA = {
+            "Panthera", "Canis", "Vulpes", "Ursus", "Felis", "Lynx", "Aquila", "Falco", "Corvus", "Parus",
+            "Rana", "Bufo", "Salamandra", "Python", "Vipera", "Testudo", "Salmo", "Thunnus", "Carcharodon", "Delphinus"
+    };
+    private static final String[] EPITHETS = {
+            "leo", "lupus", "vulpes", "arctos", "silvestris", "pardinus", "chrysaetos", "peregrinus", "corax", "major",
+            "temporaria", "bufo", "maculosa", "regius", "berus", "hermanni", "salar", "thynnus", "carcharias", "delphis"
+    };
+    private static final String[] ADJECTIVES = {
+            "Common", "Great", "Lesser", "Spotted", "Striped", "Golden", "Red", "Grey", "Northern", "Southern"
+    };
+    private static final String[] NOUNS = {
+            "Cat", "Wolf", "Fox", "Bear", "Lynx", "Eagle", "Falcon", "Raven", "Tit", "Frog",
+            "Toad", "Salamander", "Python", "Viper", "Tortoise", "Salmon", "Tuna", "Shark", "Dolphin", "Otter"
+    };
+
+    private final int groups;
+    private final long animals;
+    private final long seed;
+
+    private long firstGroupId;
+    private long firstAnimalId;
+
+    SyntheticDataset(int groups, long animals, long seed) {
+        this.groups = groups;
+        this.animals = animals;
+        this.seed = seed;
+    }
+
+    int groups() {
+        return groups;
+    }
+
+    long animals() {
+        return animals;
+    }
+
+    void load(DataSource dataSource) throws SQLException {
+        SplittableRandom random = new SplittableRandom(seed);
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            firstGroupId = maxId(connection, "\"GROUPS\"") + 1;
+            firstAnimalId = maxId(connection, "ANIMALS") + 1;
+
+            try (PreparedStatement insert = connection.prepareStatement("INSERT INTO \"GROUPS\" (ID, NAME) VALUES (?, ?)")) {
+                for (int i = 0; i < groups; i++) {
+                    insert.setLong(1, firstGroupId + i);
+                    insert.setString(2, String.format(Locale.ROOT, "Synthetic group %05d", i));
+                    addBatch(connection, insert, i + 1);
+                }
+                insert.executeBatch();
+            }
+
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO ANIMALS (ID, SCIENTIFIC_NAME, SPECIE, SIZE, MASS, STATUS, GROUP_ID) VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+                for (long i = 0; i < animals; i++) {
+                    insert.setLong(1, firstAnimalId + i);
+                    insert.setString(2, GENERA[random.nextInt(GENERA.length)] + " " + EPITHETS[random.nextInt(EPITHETS.length)]);
+                    insert.setString(3, ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " " + NOUNS[random.nextInt(NOUNS.length)]);
+                    insert.setDouble(4, Math.round(random.nextDouble(0.05, 8.0) * 100) / 100.0);
+                    insert.setDouble(5, Math.round(random.nextDouble(0.01, 5_000.0) * 100) / 100.0);
+                    insert.setString(6, random.nextInt(10) == 0 ? "INACTIVE" : "ACTIVE");
+                    insert.setLong(7, firstGroupId + random.nextInt(groups));
+                    addBatch(connection, insert, i + 1);
+                }
+                insert.executeBatch();
+            }
+            connection.commit();
+
+            // Keeps ids handed out by Hibernate clear of the generated rows.
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ALTER SEQUENCE GROUPS_SEQ RESTART WITH " + (firstGroupId + groups + 100));
+                statement.execute("ALTER SEQUENCE ANIMALS_SEQ RESTART WITH " + (firstAnimalId + animals + 100));
+            }
+            connection.commit();
+        }
+    }
+
+    long randomAnimalId(SplittableRandom random) {
+        return firstAnimalId + random.nextLong(animals);
+    }
+
+    long randomGroupId(SplittableRandom random) {
+        return firstGroupId + random.nextInt(groups);
+    }
+
+    String randomPrefix(SplittableRandom random) {
+        return GENERA[random.nextInt(GENERA.length)].substring(0, 3).toLowerCase(Locale.ROOT);
+    }
+
+    double randomMass(SplittableRandom random) {
+        return Math.round(random.nextDouble(0.01, 5_000.0));
+    }
+
+    private static void addBatch(Connection connection, PreparedStatement insert, long count) throws SQLException {
+        insert.addBatch();
+        if (count % BATCH_SIZE == 0) {
+            insert.executeBatch();
+            connection.commit();
+        }
+    }
+
+    private static long maxId(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(ID), 0) FROM " + table)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+}
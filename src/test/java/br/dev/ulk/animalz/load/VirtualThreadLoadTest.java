@@ -0,0 +1,66 @@
+package br.dev.ulk.animalz.load;
+
+import br.dev.ulk.animalz.UlkAniamlzApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Tag("load")
+class VirtualThreadLoadTest {
+
+    private static final long ROWS = 1_000;
+    private static final int GROUPS = 10;
+    private static final long SEED = Long.getLong("load.seed", 42);
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 400);
+    private static final Duration WARM_UP = Duration.ofSeconds(Long.getLong("load.warmup", 5));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.duration", 20));
+    private static final String MIX = "animal:1,group-animals:1,groups:1";
+
+    @Test
+    void compareThroughputAndTailLatency() throws Exception {
+        LoadReport platform = run("platform", "dev");
+        LoadReport virtual = run("virtual", "dev", "virtual");
+
+        String report = "{\n\"platform\": " + platform.toJson(List.of()) + ",\n\"virtual\": " + virtual.toJson(List.of()) + "}\n";
+        Path output = Path.of("target", "load-test", "virtual-threads.json");
+        Files.createDirectories(output.getParent());
+        Files.writeString(output, report);
+
+        assertEquals(0, platform.total().errors());
+        assertEquals(0, virtual.total().errors());
+    }
+
+    private LoadReport run(String mode, String... profiles) throws Exception {
+        SyntheticDataset dataset = new SyntheticDataset(GROUPS, ROWS, SEED);
+        RequestMix mix = RequestMix.parse(MIX);
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(UlkAniamlzApplication.class)
+                .profiles(profiles)
+                // Arguments rather than default properties, which application.properties would override.
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:db_animalz_load_" + mode,
+                        "--logging.level.root=WARN",
+                        // Every simulated client shares the loopback address; the test measures capacity, not the limiter.
+                        "--application.rate-limit.enabled=false"
+                )) {
+            dataset.load(context.getBean(DataSource.class));
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            LoadDriver driver = new LoadDriver(URI.create("http://localhost:" + port), CONCURRENCY, mix, dataset, SEED);
+            driver.run(WARM_UP);
+            return LoadReport.of(dataset, SEED, mix, CONCURRENCY, driver.run(DURATION));
+        }
+    }
+}